@@ -0,0 +1,108 @@
+package peoplesoft.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import peoplesoft.commons.core.FsyncPolicy;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.ReadOnlyAddressBook;
+import peoplesoft.storage.BinaryAddressBookStorage;
+import peoplesoft.storage.JsonAddressBookStorage;
+import peoplesoft.storage.MappedAddressBookStorage;
+
+/**
+ * Compares loading and saving the data file in the compact json format against the binary snapshot format, which
+ * can also be mapped into memory instead of being read whole.
+ * Nothing is forced to the storage device, so only the encoding and the file writes are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookFormatBenchmark {
+    @Param({"1000", "10000", "50000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Path jsonFile;
+    private Path binaryFile;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+    private MappedAddressBookStorage mappedStorage;
+
+    /**
+     * Generates the data, and writes it in both formats to be loaded.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        addressBook = BenchmarkData.addressBook(size, size);
+        jsonFile = Files.createTempFile("addressbook", ".json");
+        binaryFile = Files.createTempFile("addressbook", ".bin");
+        jsonStorage = new JsonAddressBookStorage(jsonFile, true, FsyncPolicy.NEVER);
+        binaryStorage = new BinaryAddressBookStorage(binaryFile, FsyncPolicy.NEVER);
+        mappedStorage = new MappedAddressBookStorage(binaryFile, MappedAddressBookStorage.DEFAULT_CACHE_SIZE,
+                FsyncPolicy.NEVER);
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the data files.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(jsonFile);
+        Files.deleteIfExists(binaryFile);
+    }
+
+    /**
+     * Loads the json data file.
+     */
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> loadJson() throws Exception {
+        return jsonStorage.readAddressBook();
+    }
+
+    /**
+     * Loads the binary data file.
+     */
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> loadBinary() throws Exception {
+        return binaryStorage.readAddressBook();
+    }
+
+    /**
+     * Maps the binary data file, without building any person.
+     */
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> loadMapped() throws Exception {
+        return mappedStorage.readAddressBook();
+    }
+
+    /**
+     * Saves the address book as compact json.
+     */
+    @Benchmark
+    public void saveJson() throws Exception {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves the address book as a binary snapshot.
+     */
+    @Benchmark
+    public void saveBinary() throws Exception {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,74 @@
+package peoplesoft.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.UniqueJobList;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.person.UniquePersonList;
+
+/**
+ * Measures the cost of bulk-loading persons and jobs, including the uniqueness checks.
+ * The time per operation should grow linearly with {@code size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookLoadBenchmark {
+    @Param({"1000", "10000", "50000"})
+    private int size;
+
+    private List<Person> persons;
+    private List<Job> jobs;
+    private String json;
+
+    /**
+     * Generates the data to be loaded.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        persons = BenchmarkData.persons(size);
+        jobs = BenchmarkData.jobs(size);
+        json = JsonUtil.toJsonString(BenchmarkData.addressBook(size, size));
+    }
+
+    /**
+     * Replaces the contents of a person list.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        return list;
+    }
+
+    /**
+     * Replaces the contents of a job list.
+     */
+    @Benchmark
+    public UniqueJobList setJobs() {
+        UniqueJobList list = new UniqueJobList();
+        list.setJobs(jobs);
+        return list;
+    }
+
+    /**
+     * Deserializes an address book the way it is read on startup.
+     */
+    @Benchmark
+    public AddressBook readAddressBook() throws Exception {
+        return JsonUtil.fromJsonString(json, AddressBook.class);
+    }
+}
@@ -0,0 +1,89 @@
+package peoplesoft.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import peoplesoft.commons.core.FsyncPolicy;
+import peoplesoft.commons.util.FileUtil;
+import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.AddressBook;
+
+/**
+ * Compares building the whole data file in memory before writing it against streaming it to disk, and the cost of
+ * each {@code FsyncPolicy}. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookSaveBenchmark {
+    @Param({"1000", "10000", "50000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Path file;
+
+    /**
+     * Generates the data to be saved.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        addressBook = BenchmarkData.addressBook(size, size);
+        file = Files.createTempFile("addressbook", ".json");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Builds the pretty-printed document as a {@code String}, then writes it.
+     */
+    @Benchmark
+    public void saveViaString() throws Exception {
+        FileUtil.writeToFile(file, JsonUtil.toJsonString(addressBook));
+    }
+
+    /**
+     * Streams the pretty-printed document to disk.
+     */
+    @Benchmark
+    public void saveStreaming() throws Exception {
+        JsonUtil.saveJsonFile(addressBook, file);
+    }
+
+    /**
+     * Streams the compact document to disk.
+     */
+    @Benchmark
+    public void saveStreamingCompact() throws Exception {
+        JsonUtil.saveJsonFile(addressBook, file, true);
+    }
+
+    /**
+     * Streams the compact document to disk, forcing the file and its directory to the storage device.
+     */
+    @Benchmark
+    public void saveStreamingCompactFsyncAlways() throws Exception {
+        JsonUtil.saveJsonFile(addressBook, file, true, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Streams the compact document to disk without forcing anything to the storage device.
+     */
+    @Benchmark
+    public void saveStreamingCompactFsyncNever() throws Exception {
+        JsonUtil.saveJsonFile(addressBook, file, true, FsyncPolicy.NEVER);
+    }
+}
@@ -0,0 +1,61 @@
+package peoplesoft.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Rate;
+import peoplesoft.model.person.Address;
+import peoplesoft.model.person.Email;
+import peoplesoft.model.person.Name;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.person.Phone;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.util.ID;
+
+/**
+ * Generates synthetic model objects for benchmarks.
+ */
+public class BenchmarkData {
+    private BenchmarkData() {}
+
+    /**
+     * Returns {@code count} distinct persons with ids {@code 0} to {@code count - 1}.
+     */
+    public static List<Person> persons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new Person(new ID(i), new Name("Person " + i), new Phone(String.format("9%07d", i)),
+                    new Email("person" + i + "@example.com"), new Address(i + " Benchmark Street"),
+                    new Rate(new Money(10 + i % 50), Duration.ofHours(1)), Set.of(new Tag("tag" + i % 20)),
+                    new HashMap<>()));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code count} distinct jobs with ids {@code 0} to {@code count - 1}.
+     */
+    public static List<Job> jobs(int count) {
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            jobs.add(new Job(new ID(i), "Job " + i, Duration.ofMinutes(30 + i % 480)));
+        }
+        return jobs;
+    }
+
+    /**
+     * Returns an address book with {@code personCount} persons and {@code jobCount} jobs.
+     */
+    public static AddressBook addressBook(int personCount, int jobCount) {
+        AddressBook addressBook = new AddressBook();
+        persons(personCount).forEach(addressBook::addPerson);
+        jobs(jobCount).forEach(addressBook::addJob);
+        return addressBook;
+    }
+}
@@ -0,0 +1,132 @@
+package peoplesoft.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Rate;
+
+/**
+ * Compares {@code Money} arithmetic against plain {@code BigDecimal} arithmetic at the same scale, which is how
+ * {@code Money} used to be implemented.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+    private static final int VALUE_SCALE = 6;
+
+    @Param({"1000"})
+    private int size;
+
+    private BigDecimal[] decimals;
+    private Money[] amounts;
+    private Rate rate;
+    private Duration[] durations;
+    private NumberFormat currencyFormat;
+
+    /**
+     * Generates the values to operate on.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        decimals = new BigDecimal[size];
+        amounts = new Money[size];
+        durations = new Duration[size];
+        for (int i = 0; i < size; i++) {
+            decimals[i] = BigDecimal.valueOf(random.nextInt(1_000_000), 2).setScale(VALUE_SCALE);
+            amounts[i] = new Money(decimals[i]);
+            durations[i] = Duration.ofMinutes(30 * (1 + random.nextInt(16)));
+        }
+        rate = new Rate(new Money(12.5), Duration.ofMinutes(30));
+        currencyFormat = NumberFormat.getCurrencyInstance(Locale.US);
+        currencyFormat.setRoundingMode(RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Sums the values as {@code BigDecimal}s, rescaling after every addition.
+     */
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO.setScale(VALUE_SCALE);
+        for (BigDecimal value : decimals) {
+            sum = sum.add(value).setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the values as {@code Money}.
+     */
+    @Benchmark
+    public Money sumMoney() {
+        Money sum = new Money(0);
+        for (Money amount : amounts) {
+            sum = sum.add(amount);
+        }
+        return sum;
+    }
+
+    /**
+     * Calculates pay for each duration as {@code BigDecimal}s.
+     */
+    @Benchmark
+    public BigDecimal calculateAmountBigDecimal() {
+        BigDecimal rateAmount = rate.getAmount().getValue();
+        BigDecimal sum = BigDecimal.ZERO.setScale(VALUE_SCALE);
+        for (Duration duration : durations) {
+            BigDecimal pay = rateAmount.multiply(BigDecimal.valueOf(duration.dividedBy(rate.getDuration())))
+                    .setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+            sum = sum.add(pay).setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+        }
+        return sum;
+    }
+
+    /**
+     * Calculates pay for each duration with {@code Rate#calculateAmount}.
+     */
+    @Benchmark
+    public Money calculateAmountMoney() {
+        Money sum = new Money(0);
+        for (Duration duration : durations) {
+            sum = sum.add(rate.calculateAmount(duration));
+        }
+        return sum;
+    }
+
+    /**
+     * Formats each value with a currency {@code NumberFormat}.
+     */
+    @Benchmark
+    public void formatNumberFormat(Blackhole blackhole) {
+        for (BigDecimal value : decimals) {
+            blackhole.consume(currencyFormat.format(value));
+        }
+    }
+
+    /**
+     * Formats freshly created {@code Money}, so that no formatted string has been cached.
+     */
+    @Benchmark
+    public void formatMoney(Blackhole blackhole) {
+        for (Money amount : amounts) {
+            blackhole.consume(amount.multiply(1).toString());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package peoplesoft.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.person.Person;
+
+/**
+ * Measures the time taken to search the persons after each keystroke of a keyword, through the search index.
+ * The index is built before measuring, like after the first search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonSearchBenchmark {
+    private static final String NUMBER = "42424";
+    private static final String MISTYPED_NAME = "pesron";
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Person person;
+
+    /**
+     * Generates the address book, and builds its search index.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.addressBook(size, 0);
+        person = addressBook.getPersonList().get(0);
+        addressBook.searchPersons(List.of(NUMBER)).test(person);
+    }
+
+    /**
+     * Searches after each keystroke of a number, which is the start of the names, phones and emails of a few persons.
+     */
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public boolean typeNumber() {
+        return type(NUMBER);
+    }
+
+    /**
+     * Searches after each keystroke of a mistyped word of every name, which is matched by the typing mistake once
+     * the keyword is long enough.
+     */
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public boolean typeMistypedName() {
+        return type(MISTYPED_NAME);
+    }
+
+    private boolean type(String keyword) {
+        boolean isFound = false;
+        for (int i = 1; i <= keyword.length(); i++) {
+            isFound ^= addressBook.searchPersons(List.of(keyword.substring(0, i))).test(person);
+        }
+        return isFound;
+    }
+}
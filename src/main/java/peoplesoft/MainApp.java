@@ -1,13 +1,16 @@
 package peoplesoft;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import peoplesoft.commons.core.Config;
+import peoplesoft.commons.core.DataFileFormat;
 import peoplesoft.commons.core.LogsCenter;
 import peoplesoft.commons.core.Version;
 import peoplesoft.commons.exceptions.DataConversionException;
@@ -23,11 +26,14 @@ import peoplesoft.model.ReadOnlyUserPrefs;
 import peoplesoft.model.UserPrefs;
 import peoplesoft.model.util.SampleDataUtil;
 import peoplesoft.storage.AddressBookStorage;
-import peoplesoft.storage.JsonAddressBookStorage;
+import peoplesoft.storage.BinaryAddressBookStorage;
 import peoplesoft.storage.JsonUserPrefsStorage;
+import peoplesoft.storage.MappedAddressBookStorage;
+import peoplesoft.storage.ShardedAddressBookStorage;
 import peoplesoft.storage.Storage;
 import peoplesoft.storage.StorageManager;
 import peoplesoft.storage.UserPrefsStorage;
+import peoplesoft.storage.WalAddressBookStorage;
 import peoplesoft.ui.Ui;
 import peoplesoft.ui.UiManager;
 
@@ -39,6 +45,8 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 3, 1, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String BINARY_FILE_EXTENSION = ".bin";
 
     protected Ui ui;
     protected Logic logic;
@@ -56,7 +64,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs, config);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -76,12 +84,15 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        boolean isSaved = false;
+        long startTime = System.nanoTime();
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with new sample data.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isSaved = addressBookOptional.isPresent();
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with a new save file.");
             initialData = new AddressBook();
@@ -89,8 +100,75 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with a new save file.");
             initialData = new AddressBook();
         }
+        long readTime = System.nanoTime();
 
-        return new ModelManager(initialData, userPrefs);
+        // the address book read is not shared with anything else, so it does not need to be copied
+        Model initialModel = initialData instanceof AddressBook
+                ? ModelManager.adopt((AddressBook) initialData, userPrefs)
+                : new ModelManager(initialData, userPrefs);
+        if (isSaved) {
+            // the storage already holds the data read, so only the changes made from now on need to be saved
+            initialModel.commitChanges();
+        }
+        long endTime = System.nanoTime();
+        logger.info(String.format("Initialized the model in %d ms (reading %d ms, model %d ms)",
+                TimeUnit.NANOSECONDS.toMillis(endTime - startTime),
+                TimeUnit.NANOSECONDS.toMillis(readTime - startTime),
+                TimeUnit.NANOSECONDS.toMillis(endTime - readTime)));
+        return initialModel;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format in {@code userPrefs}. <br>
+     * A binary data file or a sharded data directory is kept next to a json data file, rather than replacing it.
+     * If it does not exist yet, the json data file is imported into it.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs, Config config) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        DataFileFormat format = userPrefs.getAddressBookFileFormat();
+        if (format == DataFileFormat.JSON) {
+            return new WalAddressBookStorage(filePath, config.isCompactDataFile(), config.getFsyncPolicy());
+        }
+
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        Path jsonFilePath = filePath.resolveSibling(baseName + JSON_FILE_EXTENSION);
+
+        if (format == DataFileFormat.SHARDED) {
+            Path directoryPath = filePath.equals(jsonFilePath) ? filePath.resolveSibling(baseName) : filePath;
+            ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(directoryPath,
+                    config.getDataShardSize(), config.isCompactDataFile(), config.getFsyncPolicy());
+            if (!Files.exists(directoryPath.resolve(ShardedAddressBookStorage.META_FILE_NAME))) {
+                try {
+                    shardedStorage.importJson(jsonFilePath);
+                } catch (DataConversionException | IOException e) {
+                    logger.warning("Could not import " + jsonFilePath + ": " + StringUtil.getDetails(e));
+                }
+            }
+            return shardedStorage;
+        }
+
+        Path binaryFilePath = filePath.equals(jsonFilePath)
+                ? filePath.resolveSibling(baseName + BINARY_FILE_EXTENSION)
+                : filePath;
+
+        if (format == DataFileFormat.MAPPED && !MappedAddressBookStorage.isSupported()) {
+            logger.warning("Mapped data files are not supported on this platform. Using a binary data file instead.");
+            format = DataFileFormat.BINARY;
+        }
+        BinaryAddressBookStorage binaryStorage = format == DataFileFormat.MAPPED
+                ? new MappedAddressBookStorage(binaryFilePath, MappedAddressBookStorage.DEFAULT_CACHE_SIZE,
+                        config.getFsyncPolicy())
+                : new BinaryAddressBookStorage(binaryFilePath, config.getFsyncPolicy());
+        if (!Files.exists(binaryFilePath)) {
+            try {
+                binaryStorage.importJson(jsonFilePath);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not import " + jsonFilePath + ": " + StringUtil.getDetails(e));
+            }
+        }
+        return binaryStorage;
     }
 
     private void initLogging(Config config) {
@@ -174,6 +252,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping PeopleSoft ] =============================");
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
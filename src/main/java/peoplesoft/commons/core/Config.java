@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean compactDataFile = false;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.BATCHED;
+    private int dataShardSize = 1000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,41 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the data file should be written without indentation, which makes it smaller and faster to
+     * write.
+     */
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    /**
+     * Returns how often the data file is forced to the storage device.
+     */
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * Returns the number of ids in each shard of a sharded data directory, or 0 if persons and jobs are not split
+     * by id range.
+     */
+    public int getDataShardSize() {
+        return dataShardSize;
+    }
+
+    public void setDataShardSize(int dataShardSize) {
+        this.dataShardSize = dataShardSize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +82,15 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && compactDataFile == o.compactDataFile
+                && fsyncPolicy == o.fsyncPolicy
+                && dataShardSize == o.dataShardSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, compactDataFile, fsyncPolicy, dataShardSize);
     }
 
     @Override
@@ -57,6 +98,9 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nCompact data file : " + compactDataFile);
+        sb.append("\nFsync policy : " + fsyncPolicy);
+        sb.append("\nData shard size : " + dataShardSize);
         return sb.toString();
     }
 
@@ -0,0 +1,28 @@
+package peoplesoft.commons.core;
+
+/**
+ * The format of the address book data file.
+ */
+public enum DataFileFormat {
+    /**
+     * Human-readable json, which can be edited by hand.
+     */
+    JSON,
+
+    /**
+     * A compact binary snapshot, which is smaller and faster to read and write than json.
+     */
+    BINARY,
+
+    /**
+     * The same binary snapshot, mapped into memory so that each person is only read when it is needed.
+     * Meant for very large address books. Not supported on Windows, where {@code BINARY} is used instead.
+     */
+    MAPPED,
+
+    /**
+     * Separate json files for persons, jobs, employment and metadata in a directory, with persons and jobs
+     * optionally split further by id range, so that a change only rewrites the files that it affects.
+     */
+    SHARDED
+}
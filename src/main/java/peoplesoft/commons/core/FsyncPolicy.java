@@ -0,0 +1,24 @@
+package peoplesoft.commons.core;
+
+/**
+ * How often saved data is forced to the storage device, trading durability against write latency.
+ * Files are always replaced atomically, so a crash never leaves a partly written file in place of the old one.
+ */
+public enum FsyncPolicy {
+    /**
+     * Every save is forced to the storage device before it completes, so no completed save is lost in a crash.
+     */
+    ALWAYS,
+
+    /**
+     * Replaced files are forced to the storage device before they replace the old file, but appends to a log are
+     * forced at most once per second. A crash may lose the most recent changes.
+     */
+    BATCHED,
+
+    /**
+     * Nothing is forced, and the operating system decides when data reaches the storage device.
+     * A crash may lose recent changes, or leave an empty file on some file systems.
+     */
+    NEVER
+}
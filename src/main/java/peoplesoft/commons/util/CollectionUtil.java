@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +36,26 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the keys that are shared by more than one element of {@code items}, in the order that they are
+     * first duplicated. Keys are compared with {@code equals} and {@code hashCode}, so this takes linear time.
+     *
+     * @param items the elements to check
+     * @param keyMapper maps each element to the key that identifies it
+     * @return the set of duplicated keys, which is empty if all keys are unique
+     */
+    public static <T, K> Set<K> findDuplicates(Collection<? extends T> items,
+            Function<? super T, ? extends K> keyMapper) {
+        requireAllNonNull(items, keyMapper);
+        Set<K> seen = new HashSet<>();
+        Set<K> duplicates = new LinkedHashSet<>();
+        for (T item : items) {
+            K key = keyMapper.apply(item);
+            if (!seen.add(key)) {
+                duplicates.add(key);
+            }
+        }
+        return duplicates;
+    }
 }
@@ -1,10 +1,28 @@
 package peoplesoft.commons.util;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
+
+import peoplesoft.commons.core.FsyncPolicy;
 
 /**
  * Writes and reads files
@@ -12,6 +30,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +93,133 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing it atomically.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes), FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code writer} writes, creating the file and its missing
+     * parent directories if needed.
+     * The content is written to a temporary file next to {@code file}, which is then renamed over {@code file}, so
+     * the file holds either the old or the new content even if writing fails part way.
+     *
+     * @param file the file to replace
+     * @param writer writes the new content
+     * @param fsyncPolicy whether the new content, and the rename, are forced to the storage device
+     * @throws IOException if the content could not be written, in which case {@code file} is left unchanged
+     */
+    public static void writeAtomically(Path file, ContentWriter writer, FsyncPolicy fsyncPolicy) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        // the channel must stay open until it is forced, so it is only closed below
+                        flush();
+                    }
+                };
+                writer.write(out);
+                out.flush();
+                if (fsyncPolicy != FsyncPolicy.NEVER) {
+                    channel.force(false);
+                }
+            }
+
+            moveAtomically(tempFile, file, FsyncPolicy.NEVER);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            forceParentDir(file);
+        }
+    }
+
+    /**
+     * Renames {@code source} over {@code target}, so that {@code target} holds either its old content or the
+     * content of {@code source}.
+     *
+     * @param source the file to rename
+     * @param target the file to replace
+     * @param fsyncPolicy whether the rename is forced to the storage device
+     * @throws IOException if the file could not be renamed
+     */
+    public static void moveAtomically(Path source, Path target, FsyncPolicy fsyncPolicy) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            forceParentDir(target);
+        }
+    }
+
+    /**
+     * Appends {@code lines} to {@code file}, each followed by a line separator, creating the file and its missing
+     * parent directories if needed.
+     *
+     * @param file the file to append to
+     * @param lines the lines to append
+     * @param isForced whether the lines are forced to the storage device before returning
+     * @throws IOException if the lines could not be appended, in which case part of them may have been appended
+     */
+    public static void appendLines(Path file, Collection<String> lines, boolean isForced) throws IOException {
+        createParentDirsOfFile(file);
+        boolean isNewFile = !Files.exists(file);
+
+        StringBuilder content = new StringBuilder();
+        for (String line : lines) {
+            content.append(line).append(System.lineSeparator());
+        }
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(content.toString());
+
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (isForced) {
+                channel.force(false);
+            }
+        }
+
+        if (isForced && isNewFile) {
+            forceParentDir(file);
+        }
+    }
+
+    /**
+     * Forces the directory entries of the parent directory of {@code file} to the storage device, so that files
+     * created or renamed in it survive a crash.
+     */
+    private static void forceParentDir(Path file) throws IOException {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(parentDir, READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened or forced on some platforms, where renames are durable anyway
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
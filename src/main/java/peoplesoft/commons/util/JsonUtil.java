@@ -2,29 +2,38 @@ package peoplesoft.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
+import peoplesoft.commons.core.FsyncPolicy;
 import peoplesoft.commons.core.LogsCenter;
 import peoplesoft.commons.exceptions.DataConversionException;
 import peoplesoft.commons.exceptions.IllegalValueException;
@@ -35,6 +44,8 @@ import peoplesoft.commons.exceptions.IllegalValueException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int PARALLEL_CHUNK_SIZE = 256;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -46,12 +57,33 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
     }
 
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, isCompact, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Streams the JSON representation of {@code objectToSerialize} to {@code jsonFile}, without holding the whole
+     * document in memory. {@code jsonFile} is replaced atomically.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact,
+            FsyncPolicy fsyncPolicy) throws IOException {
+        ObjectWriter writer = isCompact ? objectMapper.writer() : objectMapper.writerWithDefaultPrettyPrinter();
+        FileUtil.writeAtomically(jsonFile, out -> writer.writeValue(out, objectToSerialize), fsyncPolicy);
+    }
+
+    /**
+     * Streams {@code jsonFile} into an instance of {@code classOfObjectToDeserialize}, without holding the whole
+     * document in memory.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException, JsonMappingException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(jsonFile), READ_BUFFER_SIZE)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -87,7 +119,7 @@ public class JsonUtil {
 
     /**
      * Saves the Json object to the specified file.
-     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * Overwrites existing file atomically if it exists, creates a new file if it doesn't.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -99,6 +131,38 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, without indentation if {@code isCompact} is true.
+     * Overwrites existing file atomically if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
+    }
+
+    /**
+     * Saves the Json object to the specified file, without indentation if {@code isCompact} is true, and forces it
+     * to the storage device according to {@code fsyncPolicy}.
+     * Overwrites existing file atomically if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @param fsyncPolicy cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact, FsyncPolicy fsyncPolicy)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+        requireNonNull(fsyncPolicy);
+
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact, fsyncPolicy);
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -119,6 +183,33 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Parses a given string representation of a JSON data into a tree
+     * @return The root node of the tree
+     */
+    public static JsonNode readTree(String json) throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    /**
+     * Converts a given JSON tree to instance of a class
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the values in the JSON tree
+     */
+    public static <T> T fromJsonNode(JsonNode node, Class<T> instanceClass) throws JsonProcessingException {
+        return objectMapper.treeToValue(node, instanceClass);
+    }
+
     /**
      * Creates a {@code JsonMappingException} instance that wraps an {@code IllegalValueException} using the
      * given context and message.
@@ -176,62 +267,229 @@ public class JsonUtil {
     }
 
     /**
-     * Gets the (non-null) {@code JsonNode} representing the value stored at the given key in the
-     * {@code ObjectNode}.
+     * Checks that the current token of {@code p} starts a JSON object, or is a field name within one, so that its
+     * fields can be read with {@link #nextFieldName(JsonParser)}.
      *
-     * If there is no such node at the given key (i.e. the {@code JsonNode} is {@code null}), then a
-     * {@code JsonMappingException} will be thrown.
+     * @param p the parser, positioned at the start of the object
+     * @param ctx the current deserialization context
+     * @param errMsg the message of the exception thrown if there is no object
+     * @throws JsonMappingException if the current token is neither the start of an object nor a field name
+     */
+    public static void requireStartObject(JsonParser p, DeserializationContext ctx, String errMsg)
+            throws JsonMappingException {
+        JsonToken token = p.getCurrentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME) {
+            throw getWrappedIllegalValueException(ctx, errMsg);
+        }
+    }
+
+    /**
+     * Advances {@code p} to the value of the next field of the current JSON object, and returns the name of the
+     * field.
      *
-     * @param node the object to retrieve the value from
-     * @param key the key of the value
+     * The value must be read completely, or skipped with {@link JsonParser#skipChildren()}, before this is called
+     * again.
+     *
+     * @param p the parser, positioned at the start of the object or at the end of the previous value
+     * @return the name of the next field, or {@code null} if there are no more fields in the object
+     * @throws IOException if the JSON could not be read
+     */
+    public static String nextFieldName(JsonParser p) throws IOException {
+        JsonToken token = p.getCurrentToken() == JsonToken.FIELD_NAME ? JsonToken.FIELD_NAME : p.nextToken();
+        if (token != JsonToken.FIELD_NAME) {
+            return null;
+        }
+
+        String fieldName = p.getCurrentName();
+        p.nextToken();
+        return fieldName;
+    }
+
+    /**
+     * Checks that the current token of {@code p} starts a JSON array.
+     *
+     * @param p the parser, positioned at the start of the array
+     * @param ctx the current deserialization context
+     * @param errMsg the message of the exception thrown if there is no array
+     * @throws JsonMappingException if the current token is not the start of an array
+     */
+    public static void requireStartArray(JsonParser p, DeserializationContext ctx, String errMsg)
+            throws JsonMappingException {
+        if (p.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw getWrappedIllegalValueException(ctx, errMsg);
+        }
+    }
+
+    /**
+     * Reads the JSON string at the current token of {@code p}.
+     *
+     * @param p the parser, positioned at the string
+     * @param ctx the current deserialization context
+     * @param errMsg the message of the exception thrown if there is no string
+     * @return the string
+     * @throws IOException if the current token is not a string, or the JSON could not be read
+     */
+    public static String readString(JsonParser p, DeserializationContext ctx, String errMsg) throws IOException {
+        if (p.getCurrentToken() != JsonToken.VALUE_STRING) {
+            throw getWrappedIllegalValueException(ctx, errMsg);
+        }
+
+        return p.getText();
+    }
+
+    /**
+     * Reads the JSON boolean at the current token of {@code p}.
+     *
+     * @param p the parser, positioned at the boolean
+     * @param ctx the current deserialization context
+     * @param errMsg the message of the exception thrown if there is no boolean
+     * @return the boolean
+     * @throws JsonMappingException if the current token is not a boolean
+     */
+    public static boolean readBoolean(JsonParser p, DeserializationContext ctx, String errMsg)
+            throws JsonMappingException {
+        JsonToken token = p.getCurrentToken();
+        if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+            throw getWrappedIllegalValueException(ctx, errMsg);
+        }
+
+        return token == JsonToken.VALUE_TRUE;
+    }
+
+    /**
+     * Reads the JSON number at the current token of {@code p}, which must fit in an {@code int}.
+     *
+     * @param p the parser, positioned at the number
+     * @param ctx the current deserialization context
+     * @param errMsg the message of the exception thrown if there is no such number
+     * @return the number
+     * @throws IOException if the current token is not an {@code int}, or the JSON could not be read
+     */
+    public static int readInt(JsonParser p, DeserializationContext ctx, String errMsg) throws IOException {
+        if (p.getCurrentToken() != JsonToken.VALUE_NUMBER_INT || p.getNumberType() != JsonParser.NumberType.INT) {
+            throw getWrappedIllegalValueException(ctx, errMsg);
+        }
+
+        return p.getIntValue();
+    }
+
+    /**
+     * Checks that the value of a field that must be present was read.
+     *
+     * @param <T> the type of the value
+     * @param value the value of the field, or {@code null} if the field was not present
+     * @param key the name of the field
      * @param ctx the current deserialization context
      * @param errMsgFormatter a unary operator that takes the key as an argument, and returns a string
-     * @return the {@code JsonNode} representing the value stored at the given key in the given object
-     * @throws JsonMappingException if there is no such key in the given object
+     * @return the value
+     * @throws JsonMappingException if the value is {@code null}
      */
-    public static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx,
+    public static <T> T requireField(T value, String key, DeserializationContext ctx,
             UnaryOperator<String> errMsgFormatter) throws JsonMappingException {
-        JsonNode jsonNode = node.get(key);
-        if (jsonNode == null) {
-            throw JsonUtil.getWrappedIllegalValueException(
-                ctx, errMsgFormatter.apply(key));
+        if (value == null) {
+            throw getWrappedIllegalValueException(ctx, errMsgFormatter.apply(key));
         }
 
-        return jsonNode;
+        return value;
     }
 
     /**
-     * Gets the (non-null) {@code JsonNode} of type {@code T} representing the value stored at the given key
-     * in the {@code ObjectNode}.
-     *
-     * Generally, the only meaningful types for {@code T} are subclasses of {@code JsonNode}, including but
-     * not limited to {@code ObjectNode}, {@code TextNode}, and {@code IntNode}.
+     * Reads the JSON array at the current token of {@code p}, and deserializes its elements in parallel.
      *
-     * If there is no such node at the given key (i.e. the {@code JsonNode} is {@code null}), then a
-     * {@code JsonMappingException} will be thrown.
+     * The array is only tokenized by the calling thread. Its elements are buffered in chunks of
+     * {@code PARALLEL_CHUNK_SIZE}, and each chunk is deserialized in the common {@code ForkJoinPool} as soon as it is
+     * buffered, while the rest of the document is read. Each element is deserialized with a context of its own.
      *
-     * If the type of the node does not match {@code cls}, then a {@code JsonMappingException} will also be
-     * thrown.
+     * @param <T> the type of the elements
+     * @param p the parser, positioned at the start of the array
+     * @param ctx the current deserialization context
+     * @param elementClass the class of the elements
+     * @param errMsg the message of the exception thrown if there is no array
+     * @return a task that completes with the elements in order, to be waited for with {@link #join(ForkJoinTask)}
+     * @throws IOException if the current token is not the start of an array, or the JSON could not be read
+     */
+    public static <T> ForkJoinTask<List<T>> forkArray(JsonParser p, DeserializationContext ctx,
+            Class<T> elementClass, String errMsg) throws IOException {
+        requireStartArray(p, ctx, errMsg);
+
+        List<ForkJoinTask<List<T>>> chunkTasks = new ArrayList<>();
+        TokenBuffer chunk = null;
+        int chunkLength = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (chunk == null) {
+                chunk = new TokenBuffer(p, ctx);
+            }
+            chunk.copyCurrentStructure(p);
+            if (++chunkLength == PARALLEL_CHUNK_SIZE) {
+                chunkTasks.add(forkValues(chunk, elementClass));
+                chunk = null;
+                chunkLength = 0;
+            }
+        }
+        if (chunk != null) {
+            chunkTasks.add(forkValues(chunk, elementClass));
+        }
+
+        return ForkJoinTask.adapt(() -> {
+            List<T> values = new ArrayList<>();
+            for (ForkJoinTask<List<T>> chunkTask : chunkTasks) {
+                values.addAll(chunkTask.join());
+            }
+            return values;
+        }).fork();
+    }
+
+    /**
+     * Reads the JSON value at the current token of {@code p}, and deserializes it in the common
+     * {@code ForkJoinPool}, while the rest of the document is read.
      *
-     * @param <T> the type of {@code JsonNode} to be returned
-     * @param node the object to retrieve the value from
-     * @param key the key of the value
+     * @param <T> the type of the value
+     * @param p the parser, positioned at the start of the value
      * @param ctx the current deserialization context
-     * @param errMsgFormatter a unary operator that takes the key as an argument, and returns a string
-     * @param cls the type of {@code JsonNode} to be returned
-     * @return the {@code JsonNode} representing the value stored at the given key in the given object
-     * @throws JsonMappingException if there is no such key in the given object, or the type of the
-     *         {@code JsonNode} does not match {@code cls}
+     * @param valueClass the class of the value
+     * @return a task that completes with the value, to be waited for with {@link #join(ForkJoinTask)}
+     * @throws IOException if the JSON could not be read
      */
-    public static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-            UnaryOperator<String> errMsgFormatter, Class<T> cls) throws JsonMappingException {
-        JsonNode jsonNode = getNonNullNode(node, key, ctx, errMsgFormatter);
-        if (!cls.isInstance(jsonNode)) {
-            throw JsonUtil.getWrappedIllegalValueException(
-                ctx, errMsgFormatter.apply(key));
+    public static <T> ForkJoinTask<T> forkValue(JsonParser p, DeserializationContext ctx, Class<T> valueClass)
+            throws IOException {
+        TokenBuffer buffer = new TokenBuffer(p, ctx);
+        buffer.copyCurrentStructure(p);
+        return ForkJoinTask.adapt(() -> {
+            JsonParser bufferParser = buffer.asParser(objectMapper);
+            bufferParser.nextToken();
+            return objectMapper.readValue(bufferParser, valueClass);
+        }).fork();
+    }
+
+    /**
+     * Waits for a task from {@link #forkArray} or {@link #forkValue}, and returns its result.
+     *
+     * @throws IOException if the task failed to read its JSON
+     */
+    public static <T> T join(ForkJoinTask<T> task) throws IOException {
+        try {
+            return task.join();
+        } catch (RuntimeException e) {
+            // the pool wraps checked exceptions, and may wrap them again when they are rethrown in another thread
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw e;
         }
+    }
 
-        return cls.cast(jsonNode);
+    private static <T> ForkJoinTask<List<T>> forkValues(TokenBuffer buffer, Class<T> valueClass) {
+        return ForkJoinTask.adapt(() -> {
+            JsonParser bufferParser = buffer.asParser(objectMapper);
+            List<T> values = new ArrayList<>();
+            // each value is read from its first token, and the current token is cleared after it is read
+            while (bufferParser.nextToken() != null) {
+                values.add(objectMapper.readValue(bufferParser, valueClass));
+            }
+            return values;
+        }).fork();
     }
 
     /**
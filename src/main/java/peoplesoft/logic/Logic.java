@@ -1,6 +1,10 @@
 package peoplesoft.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import javafx.collections.ObservableList;
 import peoplesoft.commons.core.GuiSettings;
@@ -10,6 +14,7 @@ import peoplesoft.logic.parser.exceptions.ParseException;
 import peoplesoft.model.ReadOnlyAddressBook;
 import peoplesoft.model.job.Job;
 import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
 
 /**
  * API of the Logic component
@@ -24,6 +29,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Waits until the changes made by every executed command have been saved.
+     * @throws IOException If a save failed.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -37,6 +48,26 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Job> getFilteredJobList();
 
+    /**
+     * Returns a function that scores the persons that match some keywords like the search command, by the ids of the
+     * persons. The function may be called from any thread.
+     *
+     * @see peoplesoft.model.Model#getPersonSearcher()
+     */
+    Function<List<String>, Map<ID, Double>> getPersonSearcher();
+
+    /**
+     * Shows only the persons with {@code scores} in the filtered list of persons, from the highest score to the
+     * lowest.
+     */
+    void showPersonSearchResults(Map<ID, Double> scores);
+
+    /**
+     * Returns a task that brings back the filter and the order of the filtered list of persons as they are now, such
+     * as after search results have been shown in the list.
+     */
+    Runnable savePersonListView();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,7 +1,15 @@
 package peoplesoft.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,10 +20,14 @@ import peoplesoft.logic.commands.CommandResult;
 import peoplesoft.logic.commands.exceptions.CommandException;
 import peoplesoft.logic.parser.AddressBookParser;
 import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.model.ChangeJournal;
+import peoplesoft.model.DeferredSnapshot;
 import peoplesoft.model.Model;
 import peoplesoft.model.ReadOnlyAddressBook;
 import peoplesoft.model.job.Job;
 import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+import peoplesoft.storage.AddressBookSaveQueue;
 import peoplesoft.storage.Storage;
 
 /**
@@ -26,15 +38,35 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaveQueue saveQueue;
     private final AddressBookParser addressBookParser;
 
+    /**
+     * The changes that were submitted to be saved, and may not have been saved yet.
+     */
+    private ChangeJournal.Entry unsavedChanges;
+
+    /**
+     * The snapshot that was submitted to be saved most recently, which must be taken before the model changes again.
+     * It is usually taken by the thread that saves it, so that the address book is not copied on this thread.
+     */
+    private DeferredSnapshot submittedSnapshot;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved to {@code storage} in the background.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new AddressBookSaveQueue(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves the address book with
+     * {@code saveQueue}.
+     */
+    public LogicManager(Model model, AddressBookSaveQueue saveQueue) {
         this.model = model;
-        this.storage = storage;
+        this.saveQueue = saveQueue;
         addressBookParser = new AddressBookParser();
     }
 
@@ -42,19 +74,47 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        if (submittedSnapshot != null) {
+            // takes the snapshot now if the saving thread has yet to, as the command may change the model
+            submittedSnapshot.get();
+            submittedSnapshot = null;
+        }
+
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        // failures of earlier saves are reported with this command, as this command's save may not have finished
+        Optional<IOException> saveFailure = saveQueue.pollFailure();
+
+        ChangeJournal.Entry changes = model.commitChanges();
+        if (!changes.isEmpty()) {
+            // changes of earlier saves that may have been coalesced or have failed are saved again with these
+            if (unsavedChanges != null && unsavedChanges.getVersion() > saveQueue.getSavedVersion()) {
+                changes = unsavedChanges.merge(changes);
+            }
+            unsavedChanges = changes;
+            logger.fine("Saving changes: " + changes);
+            submittedSnapshot = new DeferredSnapshot(model.getAddressBook(), changes);
+            saveQueue.submit(submittedSnapshot);
+        } else {
+            // changes whose save failed are not lost, but saved again with the next command
+            saveQueue.retry();
+        }
+
+        if (saveFailure.isPresent()) {
+            commandResult = new CommandResult(commandResult.getFeedbackToUser() + "\n"
+                    + FILE_OPS_ERROR_MESSAGE + saveFailure.get(), commandResult.isShowHelp(), commandResult.isExit());
         }
 
         return commandResult;
     }
 
+    @Override
+    public void flush() throws IOException {
+        saveQueue.flush();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -70,6 +130,31 @@ public class LogicManager implements Logic {
         return model.getFilteredJobList();
     }
 
+    @Override
+    public Function<List<String>, Map<ID, Double>> getPersonSearcher() {
+        return model.getPersonSearcher();
+    }
+
+    @Override
+    public void showPersonSearchResults(Map<ID, Double> scores) {
+        requireNonNull(scores);
+        model.updateFilteredPersonList(person -> scores.containsKey(person.getPersonId()),
+                Comparator.comparingDouble(person -> -scores.getOrDefault(person.getPersonId(), 0.0)));
+    }
+
+    @Override
+    public Runnable savePersonListView() {
+        Predicate<Person> predicate = model.getFilteredPersonListPredicate();
+        Optional<Comparator<Person>> comparator = model.getFilteredPersonListComparator();
+        return () -> {
+            if (comparator.isPresent()) {
+                model.updateFilteredPersonList(predicate, comparator.get());
+            } else {
+                model.updateFilteredPersonList(predicate);
+            }
+        };
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -0,0 +1,136 @@
+package peoplesoft.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import peoplesoft.logic.commands.FindCommand;
+import peoplesoft.logic.commands.SearchCommand;
+import peoplesoft.model.util.ID;
+
+/**
+ * Narrows the list of persons to the persons that match a {@code find} or {@code search} command while it is being
+ * typed, before it is entered.
+ *
+ * Searches wait until the user pauses typing, and run on a background thread against the search index, so that
+ * typing is not slowed down by searching. Only the result of the search for the latest command text is shown; the
+ * results of searches for earlier text are dropped.
+ */
+public class SearchAsYouType {
+    /** The pause in typing, in milliseconds, after which the command text is searched for. */
+    public static final long DEBOUNCE_DELAY_MILLIS = 150;
+
+    private static final Executor SEARCH_THREAD = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-as-you-type");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Logic logic;
+    private final Executor searchExecutor;
+    private final Executor resultExecutor;
+
+    /**
+     * Counts the changes to the command text, so that searches for older text can tell that they are stale.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Brings back the list of persons as it was before search results were shown in it, or null if the list is not
+     * showing search results. Only used on the thread of {@code resultExecutor}.
+     */
+    private Runnable restorePersonList;
+
+    /**
+     * Creates a {@code SearchAsYouType} that searches the persons of {@code logic} on a background thread after
+     * each pause in typing, and shows the results on the thread of {@code resultExecutor}, which is the thread that
+     * the command text is updated on.
+     */
+    public SearchAsYouType(Logic logic, Executor resultExecutor) {
+        this(logic, CompletableFuture.delayedExecutor(DEBOUNCE_DELAY_MILLIS, TimeUnit.MILLISECONDS, SEARCH_THREAD),
+                resultExecutor);
+    }
+
+    /**
+     * Creates a {@code SearchAsYouType} that searches the persons of {@code logic} with {@code searchExecutor}, which
+     * should wait for a pause in typing before searching, and shows the results with {@code resultExecutor}.
+     */
+    SearchAsYouType(Logic logic, Executor searchExecutor, Executor resultExecutor) {
+        requireNonNull(logic);
+        requireNonNull(searchExecutor);
+        requireNonNull(resultExecutor);
+        this.logic = logic;
+        this.searchExecutor = searchExecutor;
+        this.resultExecutor = resultExecutor;
+    }
+
+    /**
+     * Searches for the persons that match {@code commandText} if it is a {@code find} or {@code search} command with
+     * keywords, or brings back the list of persons as it was before search results were shown if it is not.
+     */
+    public void update(String commandText) {
+        requireNonNull(commandText);
+        long textGeneration = generation.incrementAndGet();
+        Optional<List<String>> keywords = getKeywords(commandText);
+        if (keywords.isEmpty()) {
+            if (restorePersonList != null) {
+                restorePersonList.run();
+                restorePersonList = null;
+            }
+            return;
+        }
+
+        // getting the searcher does not build the search index, so the first search builds it on the search thread
+        Function<List<String>, Map<ID, Double>> searcher = logic.getPersonSearcher();
+        searchExecutor.execute(() -> {
+            // the user kept typing before the search started
+            if (textGeneration != generation.get()) {
+                return;
+            }
+            Map<ID, Double> scores = searcher.apply(keywords.get());
+            resultExecutor.execute(() -> {
+                if (textGeneration == generation.get()) {
+                    if (restorePersonList == null) {
+                        restorePersonList = logic.savePersonListView();
+                    }
+                    logic.showPersonSearchResults(scores);
+                }
+            });
+        });
+    }
+
+    /**
+     * Drops the results of the searches that have yet to be shown, and leaves the list of persons as it is, such as
+     * when the command is entered.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        restorePersonList = null;
+    }
+
+    /**
+     * Returns the keywords of {@code commandText} if it is a {@code find} or {@code search} command with keywords.
+     * The filters and negated keywords of a {@code find} command are left out.
+     */
+    static Optional<List<String>> getKeywords(String commandText) {
+        String[] words = commandText.trim().split("\\s+");
+        if (!(words[0].equals(FindCommand.COMMAND_WORD) || words[0].equals(SearchCommand.COMMAND_WORD))) {
+            return Optional.empty();
+        }
+        List<String> keywords = Arrays.stream(words)
+                .skip(1)
+                .filter(word -> !word.contains("/") && !(word.length() > 1 && word.startsWith("-")))
+                .collect(Collectors.toList());
+        return keywords.isEmpty() ? Optional.empty() : Optional.of(keywords);
+    }
+}
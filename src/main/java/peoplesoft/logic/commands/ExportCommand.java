@@ -10,6 +10,7 @@ import peoplesoft.commons.core.index.Index;
 import peoplesoft.logic.commands.exceptions.CommandException;
 import peoplesoft.logic.export.Exporter;
 import peoplesoft.model.Model;
+import peoplesoft.model.employment.Employment;
 import peoplesoft.model.person.Person;
 
 
@@ -46,6 +47,7 @@ public class ExportCommand extends Command {
 
         Person personToExport = lastShownList.get(targetIndex.getZeroBased());
         try {
+            Employment.getInstance().filterJobList(personToExport, model);
             Exporter.getNewInstance(personToExport, model).export();
             return new CommandResult(String.format(MESSAGE_EXPORT_PERSON_SUCCESS, personToExport));
         } catch (IOException ioException) {
@@ -2,33 +2,50 @@ package peoplesoft.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import peoplesoft.commons.core.Messages;
 import peoplesoft.model.Model;
+import peoplesoft.model.person.Person;
 import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.query.PersonConditions;
+import peoplesoft.model.query.Query;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book that have all of the argument keywords as words of their names or as
+ * tags, and meet all of the argument filters.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names or tags contain all of "
+            + "the specified keywords (case-insensitive), and who meet all of the specified filters, and displays "
+            + "them as a list with index numbers. Put a - before a keyword or filter to exclude the persons it finds.\n"
+            + "Parameters: [KEYWORD]... [t/TAG[|MORE_TAGS]]... [r/RANGE]... [due/RANGE]... [is/owed] [job/KEYWORD]... "
+            + "[id/ID]\n"
+            + "RANGE is an amount, MIN-MAX, or an amount after one of >, >=, < and <=.\n"
+            + "Example: " + COMMAND_WORD + " alice r/20-40 t/friends|family -t/intern due/>0";
+
+    private final Query<Person> query;
 
-    private final PersonContainsKeywordsPredicate predicate;
+    public FindCommand(Query<Person> query) {
+        requireNonNull(query);
+        this.query = query;
+    }
 
+    /**
+     * Creates a {@code FindCommand} to find the persons that {@code predicate} matches, without filters.
+     */
     public FindCommand(PersonContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new Query<>(List.of(PersonConditions.keywords(predicate.getKeywords()))));
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(model.queryPersons(query));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -37,6 +54,6 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && query.equals(((FindCommand) other).query)); // state check
     }
 }
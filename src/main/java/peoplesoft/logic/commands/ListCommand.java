@@ -3,22 +3,63 @@ package peoplesoft.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static peoplesoft.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import peoplesoft.model.Model;
+import peoplesoft.model.tag.Tag;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, or only those that have every one of some tags.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists all persons, or only the persons that have every one of the given tags (case-insensitive).\n"
+            + "Parameters: [t/TAG]...\n"
+            + "Example: " + COMMAND_WORD + " t/contractor";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
+    public static final String MESSAGE_SUCCESS_TAGS = "%1$d persons with tags %2$s listed, %3$d of them are owed money";
+
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a ListCommand to list all persons.
+     */
+    public ListCommand() {
+        this(Set.of());
+    }
+
+    /**
+     * Creates a ListCommand to list the persons that have every one of {@code tags}.
+     */
+    public ListCommand(Set<Tag> tags) {
+        requireNonNull(tags);
+        this.tags = Set.copyOf(tags);
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (tags.isEmpty()) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        model.updateFilteredPersonList(model.findPersonsWithTags(tags));
+        String tagNames = tags.stream().map(Tag::toString).sorted().collect(Collectors.joining(" "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS_TAGS, model.countPersonsWithTags(tags), tagNames,
+                model.countPersonsOwedWithTags(tags)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListCommand // instanceof handles nulls
+                && tags.equals(((ListCommand) other).tags)); // state check
     }
 }
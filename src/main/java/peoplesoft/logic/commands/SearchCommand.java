@@ -0,0 +1,46 @@
+package peoplesoft.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import peoplesoft.commons.core.Messages;
+import peoplesoft.model.Model;
+
+/**
+ * Finds and lists all persons in address book with a word of their name, their email or their phone that starts
+ * with each of the argument keywords, best matches first.
+ * Keyword matching is case insensitive, and allows for a typing mistake in longer keywords.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose name, email or phone have "
+            + "a word starting with each of the specified keywords (case-insensitive, allowing for typos in longer "
+            + "keywords) and displays them as a list with index numbers, best matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " ali 9435";
+
+    private final List<String> keywords;
+
+    public SearchCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(model.searchPersons(keywords), model.rankPersons(keywords));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && keywords.equals(((SearchCommand) other).keywords)); // state check
+    }
+}
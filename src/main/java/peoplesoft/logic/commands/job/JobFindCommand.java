@@ -2,31 +2,45 @@ package peoplesoft.logic.commands.job;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import peoplesoft.commons.core.Messages;
 import peoplesoft.logic.commands.Command;
 import peoplesoft.logic.commands.CommandResult;
 import peoplesoft.model.Model;
+import peoplesoft.model.job.Job;
 import peoplesoft.model.job.JobContainsKeywordsPredicate;
+import peoplesoft.model.query.JobConditions;
+import peoplesoft.model.query.Query;
 
 public class JobFindCommand extends Command {
 
     public static final String COMMAND_WORD = "jobfind";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all jobs whose description contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " electric aircon appliances";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all jobs whose description contain all of "
+            + "the specified keywords (case-insensitive), and that meet all of the specified filters, and displays "
+            + "them as a list with index numbers. Put a - before a keyword or filter to exclude the jobs it finds.\n"
+            + "Parameters: [KEYWORD]... [is/paid|unpaid|final]... [person/KEYWORD]... [id/ID]\n"
+            + "Example: " + COMMAND_WORD + " aircon is/unpaid person/alice";
+
+    private final Query<Job> query;
 
-    private final JobContainsKeywordsPredicate predicate;
+    public JobFindCommand(Query<Job> query) {
+        requireNonNull(query);
+        this.query = query;
+    }
 
+    /**
+     * Creates a {@code JobFindCommand} to find the jobs that {@code predicate} matches, without filters.
+     */
     public JobFindCommand(JobContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new Query<>(List.of(JobConditions.keywords(predicate.getKeywords()))));
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredJobList(predicate);
+        model.updateFilteredJobList(model.queryJobs(query));
         return new CommandResult(
             String.format(Messages.MESSAGE_JOBS_LISTED_OVERVIEW, model.getFilteredJobList().size()));
     }
@@ -35,6 +49,6 @@ public class JobFindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof JobFindCommand // instanceof handles nulls
-            && predicate.equals(((JobFindCommand) other).predicate)); // state check
+            && query.equals(((JobFindCommand) other).query)); // state check
     }
 }
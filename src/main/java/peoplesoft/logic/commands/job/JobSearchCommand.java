@@ -0,0 +1,48 @@
+package peoplesoft.logic.commands.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import peoplesoft.commons.core.Messages;
+import peoplesoft.logic.commands.Command;
+import peoplesoft.logic.commands.CommandResult;
+import peoplesoft.model.Model;
+
+/**
+ * Finds and lists all jobs with a word of their description that starts with each of the argument keywords, best
+ * matches first.
+ * Keyword matching is case insensitive, and allows for a typing mistake in longer keywords.
+ */
+public class JobSearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "jobsearch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all jobs whose description have a word "
+            + "starting with each of the specified keywords (case-insensitive, allowing for typos in longer keywords) "
+            + "and displays them as a list with index numbers, best matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " elec airco";
+
+    private final List<String> keywords;
+
+    public JobSearchCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredJobList(model.searchJobs(keywords), model.rankJobs(keywords));
+        return new CommandResult(
+            String.format(Messages.MESSAGE_JOBS_LISTED_OVERVIEW, model.getFilteredJobList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof JobSearchCommand // instanceof handles nulls
+            && keywords.equals(((JobSearchCommand) other).keywords)); // state check
+    }
+}
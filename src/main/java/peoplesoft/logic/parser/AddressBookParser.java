@@ -16,6 +16,7 @@ import peoplesoft.logic.commands.ExportCommand;
 import peoplesoft.logic.commands.FindCommand;
 import peoplesoft.logic.commands.HelpCommand;
 import peoplesoft.logic.commands.ListCommand;
+import peoplesoft.logic.commands.SearchCommand;
 import peoplesoft.logic.commands.job.JobAddCommand;
 import peoplesoft.logic.commands.job.JobAssignCommand;
 import peoplesoft.logic.commands.job.JobDeleteCommand;
@@ -23,6 +24,7 @@ import peoplesoft.logic.commands.job.JobFinalizeCommand;
 import peoplesoft.logic.commands.job.JobFindCommand;
 import peoplesoft.logic.commands.job.JobListCommand;
 import peoplesoft.logic.commands.job.JobMarkCommand;
+import peoplesoft.logic.commands.job.JobSearchCommand;
 import peoplesoft.logic.parser.exceptions.ParseException;
 import peoplesoft.logic.parser.job.JobAddCommandParser;
 import peoplesoft.logic.parser.job.JobAssignCommandParser;
@@ -30,6 +32,7 @@ import peoplesoft.logic.parser.job.JobDeleteCommandParser;
 import peoplesoft.logic.parser.job.JobFinalizeCommandParser;
 import peoplesoft.logic.parser.job.JobFindCommandParser;
 import peoplesoft.logic.parser.job.JobMarkCommandParser;
+import peoplesoft.logic.parser.job.JobSearchCommandParser;
 
 /**
  * Parses user input.
@@ -76,8 +79,11 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -102,6 +108,9 @@ public class AddressBookParser {
         case JobFindCommand.COMMAND_WORD:
             return new JobFindCommandParser().parse(arguments);
 
+        case JobSearchCommand.COMMAND_WORD:
+            return new JobSearchCommandParser().parse(arguments);
+
         case JobAssignCommand.COMMAND_WORD:
             return new JobAssignCommandParser().parse(arguments);
 
@@ -15,4 +15,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_DURATION = new Prefix("d/");
     public static final Prefix PREFIX_INDEX = new Prefix("i/");
     public static final Prefix PREFIX_CONFIRMATION = new Prefix("y/");
+
+    /* Prefix definitions of the filters of queries */
+    public static final Prefix PREFIX_AMOUNT_DUE = new Prefix("due/");
+    public static final Prefix PREFIX_STATE = new Prefix("is/");
+    public static final Prefix PREFIX_JOB = new Prefix("job/");
+    public static final Prefix PREFIX_PERSON = new Prefix("person/");
+    public static final Prefix PREFIX_ID = new Prefix("id/");
 }
@@ -1,12 +1,25 @@
 package peoplesoft.logic.parser;
 
 import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static peoplesoft.commons.core.Messages.MESSAGE_UNKNOWN_FILTER;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_AMOUNT_DUE;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_ID;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_JOB;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_RATE;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_STATE;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 import peoplesoft.logic.commands.FindCommand;
 import peoplesoft.logic.parser.exceptions.ParseException;
-import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.query.Condition;
+import peoplesoft.model.query.PersonConditions;
+import peoplesoft.model.query.Query;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -16,6 +29,8 @@ public class FindCommandParser implements Parser<FindCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Words without a filter prefix are keywords, which every person found must have. Words starting with
+     * {@code -} are negated.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
@@ -27,9 +42,55 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE), pe);
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> keywords = new ArrayList<>();
+        List<Condition<Person>> conditions = new ArrayList<>();
+        for (String word : trimmedArgs.split("\\s+")) {
+            boolean isNegated = word.length() > 1 && word.startsWith("-");
+            String term = isNegated ? word.substring(1) : word;
+            if (!term.contains("/")) {
+                if (isNegated) {
+                    conditions.add(PersonConditions.keywords(List.of(term)).negate());
+                } else {
+                    keywords.add(term);
+                }
+                continue;
+            }
+            Condition<Person> condition = parseFilter(term);
+            conditions.add(isNegated ? condition.negate() : condition);
+        }
+        // the keywords are looked up together, like a find without filters
+        if (!keywords.isEmpty()) {
+            conditions.add(0, PersonConditions.keywords(keywords));
+        }
+
+        return new FindCommand(new Query<>(conditions));
+    }
 
-        return new FindCommand(new PersonContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Parses {@code term}, which starts with the prefix of a filter, into a condition on persons.
+     */
+    private static Condition<Person> parseFilter(String term) throws ParseException {
+        if (term.startsWith(PREFIX_TAG.getPrefix())) {
+            String tags = term.substring(PREFIX_TAG.getPrefix().length());
+            return PersonConditions.tags(ParserUtil.parseTags(Arrays.asList(tags.split("\\|", -1))));
+        } else if (term.startsWith(PREFIX_RATE.getPrefix())) {
+            return PersonConditions.rate(ParserUtil.parseRange(term.substring(PREFIX_RATE.getPrefix().length())));
+        } else if (term.startsWith(PREFIX_AMOUNT_DUE.getPrefix())) {
+            return PersonConditions.amountDue(
+                    ParserUtil.parseRange(term.substring(PREFIX_AMOUNT_DUE.getPrefix().length())));
+        } else if (term.startsWith(PREFIX_STATE.getPrefix())) {
+            String state = term.substring(PREFIX_STATE.getPrefix().length()).toLowerCase(Locale.ROOT);
+            if (!state.equals(PersonConditions.STATE_OWED)) {
+                throw new ParseException(PersonConditions.MESSAGE_STATE_CONSTRAINTS);
+            }
+            return PersonConditions.owed();
+        } else if (term.startsWith(PREFIX_JOB.getPrefix())) {
+            return PersonConditions.assignedToJob(
+                    ParserUtil.parseString(term.substring(PREFIX_JOB.getPrefix().length())));
+        } else if (term.startsWith(PREFIX_ID.getPrefix())) {
+            return PersonConditions.id(ParserUtil.parseID(term.substring(PREFIX_ID.getPrefix().length())));
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_FILTER, term));
     }
 
 }
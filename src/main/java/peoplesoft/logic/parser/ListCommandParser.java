@@ -0,0 +1,28 @@
+package peoplesoft.logic.parser;
+
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import peoplesoft.logic.commands.ListCommand;
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Anything before the first tag is ignored, like for the other commands that do not need attributes.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        return new ListCommand(tags);
+    }
+
+}
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 import peoplesoft.commons.core.index.Index;
@@ -16,6 +17,8 @@ import peoplesoft.model.person.Address;
 import peoplesoft.model.person.Email;
 import peoplesoft.model.person.Name;
 import peoplesoft.model.person.Phone;
+import peoplesoft.model.query.JobConditions;
+import peoplesoft.model.query.Range;
 import peoplesoft.model.tag.Tag;
 import peoplesoft.model.util.ID;
 
@@ -207,4 +210,34 @@ public class ParserUtil {
         }
         return new ID(trimmedId);
     }
+
+    /**
+     * Parses a {@code String range} into a {@code Range}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static Range parseRange(String range) throws ParseException {
+        requireNonNull(range);
+        String trimmedRange = range.trim();
+        if (!Range.isValidRange(trimmedRange)) {
+            throw new ParseException(Range.MESSAGE_CONSTRAINTS);
+        }
+        return new Range(trimmedRange);
+    }
+
+    /**
+     * Parses a {@code String state} into a payment state of jobs.
+     * Leading and trailing whitespaces will be trimmed, and the state is matched ignoring case.
+     *
+     * @throws ParseException if the given {@code state} is not a payment state of jobs.
+     */
+    public static String parseJobState(String state) throws ParseException {
+        requireNonNull(state);
+        String trimmedState = state.trim().toLowerCase(Locale.ROOT);
+        if (!JobConditions.isValidState(trimmedState)) {
+            throw new ParseException(JobConditions.MESSAGE_STATE_CONSTRAINTS);
+        }
+        return trimmedState;
+    }
 }
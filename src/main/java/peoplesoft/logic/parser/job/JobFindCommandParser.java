@@ -1,20 +1,30 @@
 package peoplesoft.logic.parser.job;
 
 import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static peoplesoft.commons.core.Messages.MESSAGE_UNKNOWN_FILTER;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_ID;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_PERSON;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_STATE;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 import peoplesoft.logic.commands.job.JobFindCommand;
 import peoplesoft.logic.parser.Parser;
 import peoplesoft.logic.parser.ParserUtil;
 import peoplesoft.logic.parser.exceptions.ParseException;
-import peoplesoft.model.job.JobContainsKeywordsPredicate;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.query.Condition;
+import peoplesoft.model.query.JobConditions;
+import peoplesoft.model.query.Query;
 
 public class JobFindCommandParser implements Parser<JobFindCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the {@code JobFindCommand}
      * and returns a {@code JobFindCommand} object for execution.
+     * Words without a filter prefix are keywords, which every job found must have. Words starting with {@code -}
+     * are negated.
      * @throws ParseException if the user input does not conform the expected format
      */
     public JobFindCommand parse(String args) throws ParseException {
@@ -26,8 +36,42 @@ public class JobFindCommandParser implements Parser<JobFindCommand> {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, JobFindCommand.MESSAGE_USAGE), pe);
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> keywords = new ArrayList<>();
+        List<Condition<Job>> conditions = new ArrayList<>();
+        for (String word : trimmedArgs.split("\\s+")) {
+            boolean isNegated = word.length() > 1 && word.startsWith("-");
+            String term = isNegated ? word.substring(1) : word;
+            if (!term.contains("/")) {
+                if (isNegated) {
+                    conditions.add(JobConditions.keywords(List.of(term)).negate());
+                } else {
+                    keywords.add(term);
+                }
+                continue;
+            }
+            Condition<Job> condition = parseFilter(term);
+            conditions.add(isNegated ? condition.negate() : condition);
+        }
+        // the keywords are looked up together, like a jobfind without filters
+        if (!keywords.isEmpty()) {
+            conditions.add(0, JobConditions.keywords(keywords));
+        }
+
+        return new JobFindCommand(new Query<>(conditions));
+    }
 
-        return new JobFindCommand(new JobContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Parses {@code term}, which starts with the prefix of a filter, into a condition on jobs.
+     */
+    private static Condition<Job> parseFilter(String term) throws ParseException {
+        if (term.startsWith(PREFIX_STATE.getPrefix())) {
+            return JobConditions.state(ParserUtil.parseJobState(term.substring(PREFIX_STATE.getPrefix().length())));
+        } else if (term.startsWith(PREFIX_PERSON.getPrefix())) {
+            return JobConditions.assignedToPerson(
+                ParserUtil.parseString(term.substring(PREFIX_PERSON.getPrefix().length())));
+        } else if (term.startsWith(PREFIX_ID.getPrefix())) {
+            return JobConditions.id(ParserUtil.parseID(term.substring(PREFIX_ID.getPrefix().length())));
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_FILTER, term));
     }
 }
@@ -0,0 +1,30 @@
+package peoplesoft.logic.parser.job;
+
+import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import peoplesoft.logic.commands.job.JobSearchCommand;
+import peoplesoft.logic.parser.Parser;
+import peoplesoft.logic.parser.ParserUtil;
+import peoplesoft.logic.parser.exceptions.ParseException;
+
+public class JobSearchCommandParser implements Parser<JobSearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code JobSearchCommand}
+     * and returns a {@code JobSearchCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public JobSearchCommand parse(String args) throws ParseException {
+        String trimmedArgs;
+        try {
+            trimmedArgs = ParserUtil.parseString(args);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, JobSearchCommand.MESSAGE_USAGE), pe);
+        }
+
+        return new JobSearchCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+}
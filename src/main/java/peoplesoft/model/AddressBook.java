@@ -1,40 +1,72 @@
 package peoplesoft.model;
 
 import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.IntNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.core.LogsCenter;
 import peoplesoft.commons.core.PersonIdFactory;
 import peoplesoft.commons.util.JsonUtil;
 import peoplesoft.model.employment.Employment;
 import peoplesoft.model.job.Job;
+import peoplesoft.model.job.JobContainsKeywordsPredicate;
 import peoplesoft.model.job.JobList;
 import peoplesoft.model.job.UniqueJobList;
+import peoplesoft.model.job.exceptions.DuplicateJobException;
 import peoplesoft.model.job.exceptions.JobNotFoundException;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
+import peoplesoft.model.money.PaymentLedger;
+import peoplesoft.model.person.LazyPersonList;
 import peoplesoft.model.person.Person;
+import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.person.PersonList;
+import peoplesoft.model.person.PersonStore;
 import peoplesoft.model.person.UniquePersonList;
+import peoplesoft.model.person.exceptions.DuplicatePersonException;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
+import peoplesoft.model.query.IndexLookup;
+import peoplesoft.model.query.JobConditions;
+import peoplesoft.model.query.PersonConditions;
+import peoplesoft.model.query.Query;
+import peoplesoft.model.query.QueryIndex;
+import peoplesoft.model.query.QueryPlan;
+import peoplesoft.model.query.QueryPlanner;
+import peoplesoft.model.tag.Tag;
 import peoplesoft.model.util.ID;
+import peoplesoft.model.util.KeywordIndex;
+import peoplesoft.model.util.SearchIndex;
+import peoplesoft.model.util.TermIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -43,9 +75,52 @@ import peoplesoft.model.util.ID;
 @JsonSerialize(using = AddressBook.AddressBookSerializer.class)
 @JsonDeserialize(using = AddressBook.AddressBookDeserializer.class)
 public class AddressBook implements ReadOnlyAddressBook {
+    private static final Logger logger = LogsCenter.getLogger(AddressBook.class);
 
-    private final UniquePersonList persons;
+    private final PersonList persons;
     private JobList jobs;
+    private final PaymentLedger ledger = new PaymentLedger();
+    private final ChangeJournal journal = new ChangeJournal();
+
+    /**
+     * Whether {@code ledger} has yet to be built from the payments of every person. Building it is put off for
+     * persons that are only built when they are asked for, until the ledger is needed.
+     */
+    private boolean isLedgerStale;
+
+    /**
+     * The keyword indexes of the persons and of the jobs, or {@code null} if they have yet to be built. They are only
+     * built when the address book is first searched, and are then kept up to date as the lists change.
+     */
+    private KeywordIndex<Person> personIndex;
+    private KeywordIndex<Job> jobIndex;
+
+    /**
+     * The index of the persons by the names of their tags, or {@code null} if it has yet to be built.
+     */
+    private KeywordIndex<Person> tagIndex;
+
+    /**
+     * The search indexes of the persons and of the jobs, or {@code null} if they have yet to be built.
+     */
+    private SearchIndex<Person> personSearchIndex;
+    private SearchIndex<Job> jobSearchIndex;
+
+    /**
+     * The indexes of the persons and of the jobs by their payment states, or {@code null} if they have yet to be
+     * built.
+     */
+    private KeywordIndex<Person> personStateIndex;
+    private KeywordIndex<Job> jobStateIndex;
+
+    /**
+     * Incremented whenever the persons or the jobs change, before any view of the lists is told of the change, so
+     * that query plans can tell that their matches are stale when the views test the changed items again.
+     */
+    private long listVersion;
+
+    private final QueryIndex<Person> personQueryIndex = new PersonQueryIndex();
+    private final QueryIndex<Job> jobQueryIndex = new JobQueryIndex();
 
     /**
      * Creates an empty AddressBook.
@@ -53,14 +128,40 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook() {
         persons = new UniquePersonList();
         jobs = new UniqueJobList();
+        registerIndexListeners();
     }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * If the persons of {@code toBeCopied} are only built when they are asked for, so are the persons of the copy.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
-        this();
-        resetData(toBeCopied);
+        requireNonNull(toBeCopied);
+        if (toBeCopied instanceof AddressBook && ((AddressBook) toBeCopied).persons instanceof LazyPersonList) {
+            persons = new LazyPersonList((LazyPersonList) ((AddressBook) toBeCopied).persons);
+            jobs = new UniqueJobList();
+            jobs.setJobs(toBeCopied.getJobList());
+            isLedgerStale = true;
+        } else {
+            persons = new UniquePersonList();
+            jobs = new UniqueJobList();
+            resetData(toBeCopied);
+        }
+        registerIndexListeners();
+    }
+
+    /**
+     * Creates an AddressBook with the persons in {@code personStore}, which are only built when they are asked for,
+     * and the given jobs.
+     * {@code jobs} must not contain duplicate jobs.
+     */
+    public AddressBook(PersonStore personStore, List<Job> jobs) {
+        requireAllNonNull(personStore, jobs);
+        persons = new LazyPersonList(personStore);
+        this.jobs = new UniqueJobList();
+        this.jobs.setJobs(jobs);
+        isLedgerStale = true;
+        registerIndexListeners();
     }
 
     /**
@@ -73,6 +174,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     private AddressBook(UniquePersonList upl, UniqueJobList ujl) {
         persons = upl;
         jobs = ujl;
+        ledger.setPayments(upl.asUnmodifiableObservableList());
+        registerIndexListeners();
     }
 
     //// list overwrite operations
@@ -82,7 +185,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        List<ID> oldPersonIds = this.persons.asUnmodifiableObservableList().stream()
+                .map(Person::getPersonId)
+                .collect(Collectors.toList());
+        personIndex = null;
+        tagIndex = null;
+        personSearchIndex = null;
+        personStateIndex = null;
         this.persons.setPersons(persons);
+        ledger.setPayments(persons);
+        isLedgerStale = false;
+        oldPersonIds.forEach(journal::recordPersonChange);
+        persons.forEach(p -> journal.recordPersonChange(p.getPersonId()));
     }
 
     /**
@@ -90,7 +204,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code jobs} must not contain duplicate jobs.
      */
     public void setJobs(List<Job> jobs) {
+        List<Job> oldJobs = List.copyOf(this.jobs.asUnmodifiableObservableList());
+        jobIndex = null;
+        jobSearchIndex = null;
+        jobStateIndex = null;
         this.jobs.setJobs(jobs);
+        oldJobs.forEach(j -> journal.recordJobChange(j.getJobId()));
+        jobs.forEach(j -> journal.recordJobChange(j.getJobId()));
     }
 
     /**
@@ -129,6 +249,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        ledger.setPayments(p);
+        journal.recordPersonChange(p.getPersonId());
     }
 
     /**
@@ -140,6 +262,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        ledger.removePayments(target.getPersonId());
+        ledger.setPayments(editedPerson);
+        journal.recordPersonChange(target.getPersonId());
+        journal.recordPersonChange(editedPerson.getPersonId());
+    }
+
+    /**
+     * Replaces each person in the address book with the person in {@code editedPersons} that has the same id,
+     * as a single change.
+     * Every person in {@code editedPersons} must have the id of an existing person in the address book.
+     */
+    public void updatePersons(Collection<Person> editedPersons) {
+        persons.updatePersons(editedPersons);
+        for (Person editedPerson : editedPersons) {
+            ledger.setPayments(editedPerson);
+            journal.recordPersonChange(editedPerson.getPersonId());
+        }
     }
 
     /**
@@ -148,6 +287,465 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        ledger.removePayments(key.getPersonId());
+        journal.recordPersonChange(key.getPersonId());
+    }
+
+    //// payment-level operations
+
+    /**
+     * Returns the payments for the job with the given id, keyed by person id.
+     */
+    public Map<ID, Payment> getPaymentsForJob(ID jobId) {
+        return getLedger().getPaymentsForJob(jobId);
+    }
+
+    /**
+     * Returns the total of the pending payments of the person with the given id.
+     */
+    public Money getAmountDue(ID personId) {
+        return getLedger().getAmountDue(personId);
+    }
+
+    /**
+     * Returns the total of the pending payments of every person.
+     */
+    public Money getTotalAmountDue() {
+        return getLedger().getTotalAmountDue();
+    }
+
+    /**
+     * Returns the total of the completed payments of every person.
+     */
+    public Money getTotalAmountPaid() {
+        return getLedger().getTotalAmountPaid();
+    }
+
+    /**
+     * Returns the ledger, building it first if it has not been built.
+     */
+    private PaymentLedger getLedger() {
+        if (isLedgerStale) {
+            ledger.setPayments(persons.asUnmodifiableObservableList());
+            isLedgerStale = false;
+        }
+        return ledger;
+    }
+
+    //// search
+
+    /**
+     * Returns a predicate that matches the persons that have every one of {@code keywords} as a word of their name
+     * or as a tag, ignoring case, like {@code PersonContainsKeywordsPredicate}. The persons are found through the
+     * keyword index, instead of by splitting the name of every person.
+     */
+    public Predicate<Person> findPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> keywordsCopy = List.copyOf(keywords);
+        return person -> getPersonIndex().find(keywordsCopy).contains(person.getPersonId());
+    }
+
+    /**
+     * Returns a predicate that matches the jobs that have every one of {@code keywords} as a word of their
+     * description, ignoring case, like {@code JobContainsKeywordsPredicate}. The jobs are found through the keyword
+     * index, instead of by splitting the description of every job.
+     */
+    public Predicate<Job> findJobs(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> keywordsCopy = List.copyOf(keywords);
+        return job -> getJobIndex().find(keywordsCopy).contains(job.getJobId());
+    }
+
+    /**
+     * Returns a predicate that matches the persons that have, for every one of {@code keywords}, a word of their
+     * name, their email or their phone that starts with the keyword, ignoring case and allowing for a typing mistake
+     * in longer keywords. The persons are found through the search index.
+     */
+    public Predicate<Person> searchPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> keywordsCopy = List.copyOf(keywords);
+        return person -> getPersonSearchIndex().search(keywordsCopy).containsKey(person.getPersonId());
+    }
+
+    /**
+     * Returns a comparator that orders the persons matched by {@link #searchPersons(List)} from the best match to
+     * the worst.
+     */
+    public Comparator<Person> rankPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> keywordsCopy = List.copyOf(keywords);
+        return Comparator.comparingDouble(person ->
+                -getPersonSearchIndex().search(keywordsCopy).getOrDefault(person.getPersonId(), 0.0));
+    }
+
+    /**
+     * Returns a function that scores the persons matched by {@link #searchPersons(List)} for some keywords, by the
+     * ids of the persons. The function may be called from any thread, and keeps searching the persons of this
+     * address book as they change, until they are all replaced. Getting the function does not build the search index,
+     * the first call of the function does.
+     */
+    public Function<List<String>, Map<ID, Double>> getPersonSearcher() {
+        return getPersonSearchIndex()::search;
+    }
+
+    /**
+     * Returns a predicate that matches the jobs that have, for every one of {@code keywords}, a word of their
+     * description that starts with the keyword, ignoring case and allowing for a typing mistake in longer keywords.
+     * The jobs are found through the search index.
+     */
+    public Predicate<Job> searchJobs(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> keywordsCopy = List.copyOf(keywords);
+        return job -> getJobSearchIndex().search(keywordsCopy).containsKey(job.getJobId());
+    }
+
+    /**
+     * Returns a comparator that orders the jobs matched by {@link #searchJobs(List)} from the best match to the worst.
+     */
+    public Comparator<Job> rankJobs(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> keywordsCopy = List.copyOf(keywords);
+        return Comparator.comparingDouble(job ->
+                -getJobSearchIndex().search(keywordsCopy).getOrDefault(job.getJobId(), 0.0));
+    }
+
+    /**
+     * Returns the terms that {@code person} can be searched by, which are the words of its name, the parts of its
+     * email and its phone.
+     */
+    private static List<String> getSearchTerms(Person person) {
+        List<String> terms = new ArrayList<>(Arrays.asList(person.getName().fullName.split("\\s+")));
+        terms.addAll(Arrays.asList(person.getEmail().value.split("[@._+-]+")));
+        terms.add(person.getPhone().value);
+        return terms;
+    }
+
+    /**
+     * Returns a predicate that matches the persons that have every one of {@code tags}, ignoring the case of their
+     * names. The persons are found through the tag index.
+     */
+    public Predicate<Person> findPersonsWithTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        List<String> tagNames = getTagNames(tags);
+        return person -> getTagIndex().find(tagNames).contains(person.getPersonId());
+    }
+
+    /**
+     * Returns the number of persons that have every one of {@code tags}, ignoring the case of their names.
+     */
+    public int countPersonsWithTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return getTagIndex().find(getTagNames(tags)).size();
+    }
+
+    /**
+     * Returns the number of persons that have every one of {@code tags}, ignoring the case of their names, and are
+     * owed money. Only the persons with the tags are looked up in the ledger.
+     */
+    public int countPersonsOwedWithTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        PaymentLedger paymentLedger = getLedger();
+        return (int) getTagIndex().find(getTagNames(tags)).stream()
+                .filter(personId -> paymentLedger.getAmountDue(personId).signum() > 0)
+                .count();
+    }
+
+    private static List<String> getTagNames(Collection<Tag> tags) {
+        return tags.stream().map(Tag::getTagName).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a plan that finds the persons that {@code query} matches, and tests whether a person is one of them.
+     * The plan starts from the index that finds the fewest persons, and keeps finding the persons of this address
+     * book as they change, until they are all replaced.
+     */
+    public QueryPlan<Person> queryPersons(Query<Person> query) {
+        requireNonNull(query);
+        QueryPlan<Person> plan = QueryPlanner.plan(query, personQueryIndex);
+        logger.fine("Planned person query " + query + ": " + plan);
+        return plan;
+    }
+
+    /**
+     * Returns a plan that finds the jobs that {@code query} matches, and tests whether a job is one of them.
+     * The plan starts from the index that finds the fewest jobs, and keeps finding the jobs of this address book as
+     * they change, until they are all replaced.
+     */
+    public QueryPlan<Job> queryJobs(Query<Job> query) {
+        requireNonNull(query);
+        QueryPlan<Job> plan = QueryPlanner.plan(query, jobQueryIndex);
+        logger.fine("Planned job query " + query + ": " + plan);
+        return plan;
+    }
+
+    /**
+     * Returns the keyword index of the persons, building it first if it has not been built.
+     */
+    private KeywordIndex<Person> getPersonIndex() {
+        if (personIndex == null) {
+            personIndex = new KeywordIndex<>(Person::getPersonId, PersonContainsKeywordsPredicate::getKeywords);
+            personIndex.addAll(persons.asUnmodifiableObservableList());
+        }
+        return personIndex;
+    }
+
+    /**
+     * Returns the tag index of the persons, building it first if it has not been built.
+     */
+    private KeywordIndex<Person> getTagIndex() {
+        if (tagIndex == null) {
+            tagIndex = new KeywordIndex<>(Person::getPersonId, person -> getTagNames(person.getTags()));
+            tagIndex.addAll(persons.asUnmodifiableObservableList());
+        }
+        return tagIndex;
+    }
+
+    /**
+     * Returns the search index of the persons, creating it first if it has not been created.
+     * The index is only built by its first search, which may run on another thread, such as a search while typing.
+     */
+    private SearchIndex<Person> getPersonSearchIndex() {
+        if (personSearchIndex == null) {
+            personSearchIndex = new SearchIndex<>(Person::getPersonId, AddressBook::getSearchTerms);
+            personSearchIndex.addAllLater(persons.copyPersons());
+        }
+        return personSearchIndex;
+    }
+
+    /**
+     * Returns the payment state index of the persons, building it first if it has not been built.
+     */
+    private KeywordIndex<Person> getPersonStateIndex() {
+        if (personStateIndex == null) {
+            personStateIndex = new KeywordIndex<>(Person::getPersonId, PersonConditions::getStates);
+            personStateIndex.addAll(persons.asUnmodifiableObservableList());
+        }
+        return personStateIndex;
+    }
+
+    /**
+     * Returns the payment state index of the jobs, building it first if it has not been built.
+     */
+    private KeywordIndex<Job> getJobStateIndex() {
+        if (jobStateIndex == null) {
+            jobStateIndex = new KeywordIndex<>(Job::getJobId, JobConditions::getStates);
+            jobStateIndex.addAll(jobs.asUnmodifiableObservableList());
+        }
+        return jobStateIndex;
+    }
+
+    /**
+     * Returns the search index of the jobs, building it first if it has not been built.
+     */
+    private SearchIndex<Job> getJobSearchIndex() {
+        if (jobSearchIndex == null) {
+            jobSearchIndex = new SearchIndex<>(Job::getJobId, JobContainsKeywordsPredicate::getKeywords);
+            jobSearchIndex.addAll(jobs.asUnmodifiableObservableList());
+        }
+        return jobSearchIndex;
+    }
+
+    /**
+     * Returns the keyword index of the jobs, building it first if it has not been built.
+     */
+    private KeywordIndex<Job> getJobIndex() {
+        if (jobIndex == null) {
+            jobIndex = new KeywordIndex<>(Job::getJobId, JobContainsKeywordsPredicate::getKeywords);
+            jobIndex.addAll(jobs.asUnmodifiableObservableList());
+        }
+        return jobIndex;
+    }
+
+    /**
+     * Keeps the keyword, tag, search and payment state indexes, once built, up to date with the lists.
+     * This is called before any view of the lists is made, so that the indexes are updated before such views, like
+     * the filtered lists of {@code ModelManager}, test the changed persons and jobs again.
+     */
+    private void registerIndexListeners() {
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            listVersion++;
+            forwardChange(change, personIndex);
+            forwardChange(change, tagIndex);
+            forwardChange(change, personSearchIndex);
+            forwardChange(change, personStateIndex);
+        });
+        jobs.asUnmodifiableObservableList().addListener((ListChangeListener<Job>) change -> {
+            listVersion++;
+            forwardChange(change, jobIndex);
+            forwardChange(change, jobSearchIndex);
+            forwardChange(change, jobStateIndex);
+        });
+    }
+
+    /**
+     * Tells {@code index} of {@code change} from its start, unless the index has yet to be built.
+     */
+    private static <T> void forwardChange(ListChangeListener.Change<? extends T> change, TermIndex<T> index) {
+        if (index != null) {
+            change.reset();
+            index.onChanged(change);
+        }
+    }
+
+    /**
+     * Returns a value that changes whenever the persons, the jobs or the {@code Employment} associations change.
+     */
+    private Object getQueryVersion() {
+        Employment employment = Employment.getInstance();
+        return List.of(listVersion, employment, employment.getVersion());
+    }
+
+    /**
+     * The persons of this address book, and the indexes that queries for them can look them up in.
+     */
+    private class PersonQueryIndex implements QueryIndex<Person> {
+        @Override
+        public List<Person> getItems() {
+            return persons.asUnmodifiableObservableList();
+        }
+
+        @Override
+        public ID getId(Person person) {
+            return person.getPersonId();
+        }
+
+        @Override
+        public Person getItem(ID personId) {
+            return persons.get(personId);
+        }
+
+        @Override
+        public int estimate(IndexLookup lookup) {
+            List<String> keys = lookup.getKeys();
+            switch (lookup.getIndex()) {
+            case ID:
+                return persons.contains(new ID(keys.get(0))) ? 1 : 0;
+            case TAG:
+                return keys.stream().mapToInt(getTagIndex()::count).sum();
+            case KEYWORD:
+                return keys.stream().mapToInt(getPersonIndex()::count).min().orElse(0);
+            case STATE:
+                return getPersonStateIndex().count(keys.get(0));
+            case ASSIGNMENT:
+                return getJobIndex().find(keys).stream()
+                        .mapToInt(jobId -> Employment.getInstance().getPersonIds(jobId).size())
+                        .sum();
+            default:
+                throw new IllegalArgumentException("Persons cannot be looked up in " + lookup.getIndex());
+            }
+        }
+
+        @Override
+        public Set<ID> lookup(IndexLookup lookup) {
+            List<String> keys = lookup.getKeys();
+            switch (lookup.getIndex()) {
+            case ID:
+                ID personId = new ID(keys.get(0));
+                return persons.contains(personId) ? Set.of(personId) : Set.of();
+            case TAG:
+                return getTagIndex().findAny(keys);
+            case KEYWORD:
+                return getPersonIndex().find(keys);
+            case STATE:
+                return getPersonStateIndex().find(keys);
+            case ASSIGNMENT:
+                // associations may outlive the persons they are with
+                return getJobIndex().find(keys).stream()
+                        .flatMap(jobId -> Employment.getInstance().getPersonIds(jobId).stream())
+                        .filter(persons::contains)
+                        .collect(Collectors.toSet());
+            default:
+                throw new IllegalArgumentException("Persons cannot be looked up in " + lookup.getIndex());
+            }
+        }
+
+        @Override
+        public Object getVersion() {
+            return getQueryVersion();
+        }
+    }
+
+    /**
+     * The jobs of this address book, and the indexes that queries for them can look them up in.
+     */
+    private class JobQueryIndex implements QueryIndex<Job> {
+        @Override
+        public List<Job> getItems() {
+            return jobs.asUnmodifiableObservableList();
+        }
+
+        @Override
+        public ID getId(Job job) {
+            return job.getJobId();
+        }
+
+        @Override
+        public Job getItem(ID jobId) {
+            return jobs.get(jobId);
+        }
+
+        @Override
+        public int estimate(IndexLookup lookup) {
+            List<String> keys = lookup.getKeys();
+            switch (lookup.getIndex()) {
+            case ID:
+                return jobs.contains(new ID(keys.get(0))) ? 1 : 0;
+            case KEYWORD:
+                return keys.stream().mapToInt(getJobIndex()::count).min().orElse(0);
+            case STATE:
+                return getJobStateIndex().count(keys.get(0));
+            case ASSIGNMENT:
+                return getPersonIndex().find(keys).stream()
+                        .mapToInt(personId -> Employment.getInstance().getJobIds(personId).size())
+                        .sum();
+            default:
+                throw new IllegalArgumentException("Jobs cannot be looked up in " + lookup.getIndex());
+            }
+        }
+
+        @Override
+        public Set<ID> lookup(IndexLookup lookup) {
+            List<String> keys = lookup.getKeys();
+            switch (lookup.getIndex()) {
+            case ID:
+                ID jobId = new ID(keys.get(0));
+                return jobs.contains(jobId) ? Set.of(jobId) : Set.of();
+            case KEYWORD:
+                return getJobIndex().find(keys);
+            case STATE:
+                return getJobStateIndex().find(keys);
+            case ASSIGNMENT:
+                // associations may outlive the jobs they are with
+                return getPersonIndex().find(keys).stream()
+                        .flatMap(personId -> Employment.getInstance().getJobIds(personId).stream())
+                        .filter(jobs::contains)
+                        .collect(Collectors.toSet());
+            default:
+                throw new IllegalArgumentException("Jobs cannot be looked up in " + lookup.getIndex());
+            }
+        }
+
+        @Override
+        public Object getVersion() {
+            return getQueryVersion();
+        }
+    }
+
+    //// change tracking
+
+    /**
+     * Returns a version number that increases whenever the data of this address book, the {@code Employment}
+     * associations or the id states change.
+     */
+    public long getVersion() {
+        return journal.getVersion();
+    }
+
+    /**
+     * Returns the changes made since the previous call.
+     */
+    public ChangeJournal.Entry commitChanges() {
+        return journal.commit();
     }
 
     //// job-level operations
@@ -176,6 +774,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addJob(Job job) {
         jobs.add(job);
+        journal.recordJobChange(job.getJobId());
     }
 
     /**
@@ -187,6 +786,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedJob);
 
         jobs.setJob(target, editedJob);
+        journal.recordJobChange(target.getJobId());
+        journal.recordJobChange(editedJob.getJobId());
     }
 
     /**
@@ -195,6 +796,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeJob(Job key) {
         jobs.remove(key);
+        journal.recordJobChange(key.getJobId());
     }
 
     //// util methods
@@ -219,13 +821,20 @@ public class AddressBook implements ReadOnlyAddressBook {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddressBook // instanceof handles nulls
-                && persons.equals(((AddressBook) other).persons)
+                && getPersonList().equals(((AddressBook) other).getPersonList())
                 && jobs.equals(((AddressBook) other).jobs));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(persons, jobs);
+        return Objects.hash(getPersonList(), jobs);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the persons list, which does not change when this address book does.
+     */
+    List<Person> copyPersonList() {
+        return persons.copyPersons();
     }
 
     protected static class AddressBookSerializer extends StdSerializer<AddressBook> {
@@ -241,7 +850,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         public void serialize(AddressBook val, JsonGenerator gen, SerializerProvider provider) throws IOException {
             gen.writeStartObject();
 
-            gen.writeObjectField("persons", val.persons);
+            gen.writeObjectField("persons", val.getPersonList());
             gen.writeObjectField("jobs", val.jobs);
             gen.writeObjectField("employment", Employment.getInstance());
             gen.writeNumberField("jobIdState", JobIdFactory.getId());
@@ -264,52 +873,69 @@ public class AddressBook implements ReadOnlyAddressBook {
             this(null);
         }
 
-        private static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx)
-                throws JsonMappingException {
-            return JsonUtil.getNonNullNode(node, key, ctx, INVALID_VAL_FMTR);
-        }
-
-        private static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-                Class<T> cls) throws JsonMappingException {
-            return JsonUtil.getNonNullNodeWithType(node, key, ctx,
-                INVALID_VAL_FMTR, cls);
-        }
-
         @Override
         public AddressBook deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            JsonUtil.requireStartObject(p, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            // the sections are deserialized in parallel while the rest of the document is read
+            long startTime = System.nanoTime();
+            ForkJoinTask<List<Person>> personsTask = null;
+            ForkJoinTask<List<Job>> jobsTask = null;
+            ForkJoinTask<Employment> employmentTask = null;
+            Integer jobIdState = null;
+            Integer personIdState = null;
+            for (String field = JsonUtil.nextFieldName(p); field != null; field = JsonUtil.nextFieldName(p)) {
+                switch (field) {
+                case "persons":
+                    personsTask = JsonUtil.forkArray(p, ctx, Person.class, INVALID_VAL_FMTR.apply("persons"));
+                    break;
+                case "jobs":
+                    jobsTask = JsonUtil.forkArray(p, ctx, Job.class, INVALID_VAL_FMTR.apply("jobs"));
+                    break;
+                case "employment":
+                    employmentTask = JsonUtil.forkValue(p, ctx, Employment.class);
+                    break;
+                case "jobIdState":
+                    jobIdState = JsonUtil.readInt(p, ctx, INVALID_VAL_FMTR.apply("jobIdState"));
+                    break;
+                case "personIdState":
+                    personIdState = JsonUtil.readInt(p, ctx, INVALID_VAL_FMTR.apply("personIdState"));
+                    break;
+                default:
+                    p.skipChildren();
+                }
             }
+            long readTime = System.nanoTime();
 
-            ObjectNode objNode = (ObjectNode) node;
-
-            UniquePersonList upl = getNonNullNode(objNode, "persons", ctx)
-                    .traverse(codec)
-                    .readValueAs(UniquePersonList.class);
+            JsonUtil.requireField(personsTask, "persons", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(jobsTask, "jobs", ctx, INVALID_VAL_FMTR);
 
-            UniqueJobList ujl = getNonNullNode(objNode, "jobs", ctx)
-                    .traverse(codec)
-                    .readValueAs(UniqueJobList.class);
-
-            if (objNode.has("employment")) {
-                Employment emp = objNode.get("employment") // not null, we're good
-                        .traverse(codec)
-                        .readValueAs(Employment.class);
+            UniquePersonList upl = new UniquePersonList();
+            UniqueJobList ujl = new UniqueJobList();
+            try {
+                upl.setPersons(JsonUtil.join(personsTask));
+            } catch (DuplicatePersonException e) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, e.getMessage());
+            }
+            long personsTime = System.nanoTime();
+            try {
+                ujl.setJobs(JsonUtil.join(jobsTask));
+            } catch (DuplicateJobException e) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, e.getMessage());
+            }
+            Employment emp = employmentTask == null ? null : JsonUtil.join(employmentTask);
+            long jobsTime = System.nanoTime();
 
+            if (emp != null) {
                 Employment.setInstance(emp);
             } else {
                 Employment.newInstance();
             }
 
-            if (objNode.has("jobIdState")) {
+            if (jobIdState != null) {
                 // note jobId cannot be negative
-                int jobId = Math.max(
-                        getNonNullNodeWithType(objNode, "jobIdState", ctx, IntNode.class).intValue(),
-                        0);
+                int jobId = Math.max(jobIdState, 0);
 
                 // just in case we get a jobId that already exists
                 while (upl.contains(new ID(jobId))) {
@@ -321,11 +947,9 @@ public class AddressBook implements ReadOnlyAddressBook {
                 JobIdFactory.setId(0);
             }
 
-            if (objNode.has("personIdState")) {
+            if (personIdState != null) {
                 // note personId cannot be negative
-                int personId = Math.max(
-                        getNonNullNodeWithType(objNode, "personIdState", ctx, IntNode.class).intValue(),
-                        0);
+                int personId = Math.max(personIdState, 0);
 
                 // just in case we get a personId that already exists
                 while (upl.contains(new ID(personId))) {
@@ -337,7 +961,18 @@ public class AddressBook implements ReadOnlyAddressBook {
                 PersonIdFactory.setId(0);
             }
 
-            return new AddressBook(upl, ujl);
+            AddressBook addressBook = new AddressBook(upl, ujl);
+            long endTime = System.nanoTime();
+            logger.info(String.format("Loaded %d persons and %d jobs in %d ms (reading %d ms, then persons %d ms,"
+                    + " jobs and employment %d ms, ledger %d ms)",
+                    upl.asUnmodifiableObservableList().size(), ujl.asUnmodifiableObservableList().size(),
+                    toMillis(endTime - startTime), toMillis(readTime - startTime), toMillis(personsTime - readTime),
+                    toMillis(jobsTime - personsTime), toMillis(endTime - jobsTime)));
+            return addressBook;
+        }
+
+        private static long toMillis(long nanos) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
         }
 
         @Override
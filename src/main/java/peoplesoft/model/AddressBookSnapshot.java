@@ -0,0 +1,231 @@
+package peoplesoft.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.person.LazyPersonList;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+
+/**
+ * An immutable copy of the data that is saved with an {@code AddressBook}, including the {@code Employment}
+ * associations and the id states, which are otherwise read from global state when an {@code AddressBook} is
+ * serialized. Unlike an {@code AddressBook}, a snapshot can be serialized on another thread while the model
+ * continues to change.
+ *
+ * Persons and jobs are immutable, so taking a snapshot only copies references. Persons that are only built when
+ * they are asked for are not built by taking a snapshot.
+ *
+ * A snapshot can also hold the changes made since the address book was last saved, together with the persons and
+ * jobs that they touched, so that a storage can write only those. The changes are not compared by {@code equals}.
+ */
+@JsonSerialize(using = AddressBookSnapshot.AddressBookSnapshotSerializer.class)
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final List<Person> personsCopy;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Job> jobs;
+    private final Map<ID, Set<ID>> employment;
+    private final int jobIdState;
+    private final int personIdState;
+
+    private final ChangeJournal.Entry changes;
+    private final Map<ID, Person> changedPersons;
+    private final Map<ID, Job> changedJobs;
+
+    private AddressBookSnapshot(ReadOnlyAddressBook addressBook, Map<ID, Set<ID>> employment,
+            int jobIdState, int personIdState, ChangeJournal.Entry changes) {
+        personsCopy = addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).copyPersonList()
+                : List.copyOf(addressBook.getPersonList());
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(personsCopy));
+        jobs = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(addressBook.getJobList()));
+        this.employment = new HashMap<>();
+        for (Map.Entry<ID, Set<ID>> e : employment.entrySet()) {
+            this.employment.put(e.getKey(), Collections.unmodifiableSortedSet(new TreeSet<>(e.getValue())));
+        }
+        this.jobIdState = jobIdState;
+        this.personIdState = personIdState;
+        this.changes = changes;
+        changedPersons = new HashMap<>();
+        changedJobs = new HashMap<>();
+        if (changes != null) {
+            findChanged(addressBook, changes);
+        }
+    }
+
+    /**
+     * Records the persons and jobs of {@code addressBook} that {@code changes} touched. Those that are not recorded
+     * were removed.
+     */
+    private void findChanged(ReadOnlyAddressBook addressBook, ChangeJournal.Entry changes) {
+        if (addressBook instanceof AddressBook) {
+            // only the changed persons and jobs are looked up, so the others are not gone through
+            AddressBook book = (AddressBook) addressBook;
+            changes.getPersonIds().stream().filter(book::hasPerson)
+                    .forEach(id -> changedPersons.put(id, book.getPerson(id)));
+            changes.getJobIds().stream().filter(book::hasJob)
+                    .forEach(id -> changedJobs.put(id, book.getJob(id)));
+            return;
+        }
+
+        persons.stream().filter(p -> changes.getPersonIds().contains(p.getPersonId()))
+                .forEach(p -> changedPersons.put(p.getPersonId(), p));
+        jobs.stream().filter(j -> changes.getJobIds().contains(j.getJobId()))
+                .forEach(j -> changedJobs.put(j.getJobId(), j));
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook}, together with the current {@code Employment} instance and id states.
+     *
+     * @param addressBook Address book.
+     * @return Snapshot.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new AddressBookSnapshot(addressBook, Employment.getInstance().getAllJobs(),
+                JobIdFactory.getId(), PersonIdFactory.getId(), null);
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook}, together with the current {@code Employment} instance and id states,
+     * that holds {@code changes}, the changes made since the address book was last saved.
+     *
+     * @param addressBook Address book.
+     * @param changes Changes since the last save.
+     * @return Snapshot.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook, ChangeJournal.Entry changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        return new AddressBookSnapshot(addressBook, Employment.getInstance().getAllJobs(),
+                JobIdFactory.getId(), PersonIdFactory.getId(), changes);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns the persons in the snapshot if they are read from a {@code PersonStore} as they are asked for, so
+     * that a storage can tell which of them are unchanged from the store without building them.
+     */
+    public Optional<LazyPersonList.PersonsCopy> getStoredPersons() {
+        return personsCopy instanceof LazyPersonList.PersonsCopy
+                ? Optional.of((LazyPersonList.PersonsCopy) personsCopy)
+                : Optional.empty();
+    }
+
+    @Override
+    public ObservableList<Job> getJobList() {
+        return jobs;
+    }
+
+    /**
+     * Returns the {@code Employment} associations at the time of the snapshot, mapping {@code JobId} to
+     * {@code PersonId}s.
+     */
+    public Map<ID, Set<ID>> getEmployment() {
+        return Collections.unmodifiableMap(employment);
+    }
+
+    public int getJobIdState() {
+        return jobIdState;
+    }
+
+    public int getPersonIdState() {
+        return personIdState;
+    }
+
+    /**
+     * Returns the changes made since the address book was last saved, or an empty {@code Optional} if they are not
+     * known.
+     */
+    public Optional<ChangeJournal.Entry> getChanges() {
+        return Optional.ofNullable(changes);
+    }
+
+    /**
+     * Returns the persons in the snapshot whose ids are in the changes, keyed by id. A changed id that is not a key
+     * is the id of a removed person.
+     */
+    public Map<ID, Person> getChangedPersons() {
+        return Collections.unmodifiableMap(changedPersons);
+    }
+
+    /**
+     * Returns the jobs in the snapshot whose ids are in the changes, keyed by id. A changed id that is not a key is
+     * the id of a removed job.
+     */
+    public Map<ID, Job> getChangedJobs() {
+        return Collections.unmodifiableMap(changedJobs);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return jobIdState == otherSnapshot.jobIdState
+                && personIdState == otherSnapshot.personIdState
+                && persons.equals(otherSnapshot.persons)
+                && jobs.equals(otherSnapshot.jobs)
+                && employment.equals(otherSnapshot.employment);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, jobs, employment, jobIdState, personIdState);
+    }
+
+    // writes the same format as AddressBook.AddressBookSerializer
+    protected static class AddressBookSnapshotSerializer extends StdSerializer<AddressBookSnapshot> {
+        private AddressBookSnapshotSerializer(Class<AddressBookSnapshot> val) {
+            super(val);
+        }
+
+        private AddressBookSnapshotSerializer() {
+            this(null);
+        }
+
+        @Override
+        public void serialize(AddressBookSnapshot val, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+
+            gen.writeObjectField("persons", val.persons);
+            gen.writeObjectField("jobs", val.jobs);
+            gen.writeObjectField("employment", val.employment);
+            gen.writeNumberField("jobIdState", val.jobIdState);
+            gen.writeNumberField("personIdState", val.personIdState);
+
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package peoplesoft.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.util.ID;
+
+/**
+ * Records the changes made to the data of an {@code AddressBook}, so that changes can be acted upon without
+ * comparing the whole address book.
+ *
+ * Changes to persons and jobs are recorded by the {@code AddressBook}. Changes to the {@code Employment} instance
+ * and to the id states are global, so they are detected by comparing them to what was last seen.
+ * Recorded changes are grouped into an {@code Entry} by {@link #commit()}, usually once per command.
+ */
+public class ChangeJournal {
+    private long version;
+
+    private final Set<ID> changedPersonIds = new LinkedHashSet<>();
+    private final Set<ID> changedJobIds = new LinkedHashSet<>();
+    private boolean isEmploymentChanged;
+    private boolean isIdStateChanged;
+
+    private Employment lastEmployment;
+    private long lastEmploymentVersion;
+    private int lastJobIdState;
+    private int lastPersonIdState;
+
+    /**
+     * Creates a {@code ChangeJournal} with no changes, that treats the current {@code Employment} instance and id
+     * states as unchanged.
+     */
+    public ChangeJournal() {
+        lastEmployment = Employment.getInstance();
+        lastEmploymentVersion = lastEmployment.getVersion();
+        lastJobIdState = JobIdFactory.getId();
+        lastPersonIdState = PersonIdFactory.getId();
+    }
+
+    /**
+     * Records that the {@code Person} with the given id was added, replaced or removed.
+     */
+    void recordPersonChange(ID personId) {
+        requireNonNull(personId);
+        changedPersonIds.add(personId);
+        version++;
+    }
+
+    /**
+     * Records that the {@code Job} with the given id was added, replaced or removed.
+     */
+    void recordJobChange(ID jobId) {
+        requireNonNull(jobId);
+        changedJobIds.add(jobId);
+        version++;
+    }
+
+    private void detectGlobalChanges() {
+        Employment employment = Employment.getInstance();
+        if (employment != lastEmployment || employment.getVersion() != lastEmploymentVersion) {
+            lastEmployment = employment;
+            lastEmploymentVersion = employment.getVersion();
+            isEmploymentChanged = true;
+            version++;
+        }
+
+        if (JobIdFactory.getId() != lastJobIdState || PersonIdFactory.getId() != lastPersonIdState) {
+            lastJobIdState = JobIdFactory.getId();
+            lastPersonIdState = PersonIdFactory.getId();
+            isIdStateChanged = true;
+            version++;
+        }
+    }
+
+    /**
+     * Returns the current version. The version increases whenever a change is recorded, and never decreases.
+     *
+     * @return Version.
+     */
+    public long getVersion() {
+        detectGlobalChanges();
+        return version;
+    }
+
+    /**
+     * Returns the changes recorded since the previous call, and starts recording a new set of changes.
+     *
+     * @return Changes since the previous call.
+     */
+    public Entry commit() {
+        detectGlobalChanges();
+        Entry entry = new Entry(version, changedPersonIds, changedJobIds, isEmploymentChanged, isIdStateChanged);
+        changedPersonIds.clear();
+        changedJobIds.clear();
+        isEmploymentChanged = false;
+        isIdStateChanged = false;
+        return entry;
+    }
+
+    /**
+     * A set of changes, such as those made by a single command. Immutable.
+     */
+    public static class Entry {
+        private final long version;
+        private final Set<ID> personIds;
+        private final Set<ID> jobIds;
+        private final boolean isEmploymentChanged;
+        private final boolean isIdStateChanged;
+
+        /**
+         * Constructs an {@code Entry}.
+         *
+         * @param version Version of the journal after the changes.
+         * @param personIds Ids of the persons that were added, replaced or removed.
+         * @param jobIds Ids of the jobs that were added, replaced or removed.
+         * @param isEmploymentChanged Whether any association was added or removed.
+         * @param isIdStateChanged Whether any id state changed.
+         */
+        public Entry(long version, Set<ID> personIds, Set<ID> jobIds, boolean isEmploymentChanged,
+                boolean isIdStateChanged) {
+            this.version = version;
+            this.personIds = Collections.unmodifiableSet(new LinkedHashSet<>(personIds));
+            this.jobIds = Collections.unmodifiableSet(new LinkedHashSet<>(jobIds));
+            this.isEmploymentChanged = isEmploymentChanged;
+            this.isIdStateChanged = isIdStateChanged;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public Set<ID> getPersonIds() {
+            return personIds;
+        }
+
+        public Set<ID> getJobIds() {
+            return jobIds;
+        }
+
+        public boolean isEmploymentChanged() {
+            return isEmploymentChanged;
+        }
+
+        public boolean isIdStateChanged() {
+            return isIdStateChanged;
+        }
+
+        /**
+         * Returns the changes of both this entry and {@code other}, such as the changes of two commands that have
+         * yet to be saved. The version of the result is the later of the two versions.
+         */
+        public Entry merge(Entry other) {
+            requireNonNull(other);
+            Set<ID> mergedPersonIds = new LinkedHashSet<>(personIds);
+            mergedPersonIds.addAll(other.personIds);
+            Set<ID> mergedJobIds = new LinkedHashSet<>(jobIds);
+            mergedJobIds.addAll(other.jobIds);
+            return new Entry(Math.max(version, other.version), mergedPersonIds, mergedJobIds,
+                    isEmploymentChanged || other.isEmploymentChanged, isIdStateChanged || other.isIdStateChanged);
+        }
+
+        /**
+         * Returns true if nothing was changed.
+         */
+        public boolean isEmpty() {
+            return personIds.isEmpty() && jobIds.isEmpty() && !isEmploymentChanged && !isIdStateChanged;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+
+            Entry otherEntry = (Entry) other;
+            return version == otherEntry.version
+                    && personIds.equals(otherEntry.personIds)
+                    && jobIds.equals(otherEntry.jobIds)
+                    && isEmploymentChanged == otherEntry.isEmploymentChanged
+                    && isIdStateChanged == otherEntry.isIdStateChanged;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, personIds, jobIds, isEmploymentChanged, isIdStateChanged);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Version %d: persons %s, jobs %s, employment %s, id state %s",
+                    version, personIds, jobIds, isEmploymentChanged ? "changed" : "unchanged",
+                    isIdStateChanged ? "changed" : "unchanged");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package peoplesoft.model;
+
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * An {@code AddressBookSnapshot} that is only taken when it is first asked for, rather than when it is created, so
+ * that the address book can be copied by the thread that saves the snapshot instead of the thread that changes the
+ * address book.
+ *
+ * The address book, the {@code Employment} instance and the id states must not change until the snapshot is taken.
+ * The thread that changes them asks for the snapshot before changing them again, which takes it then if no other
+ * thread has yet.
+ */
+public class DeferredSnapshot implements Supplier<AddressBookSnapshot> {
+    private ReadOnlyAddressBook addressBook;
+    private final ChangeJournal.Entry changes;
+    private AddressBookSnapshot snapshot;
+
+    /**
+     * Constructs a {@code DeferredSnapshot} of {@code addressBook}, that holds {@code changes}, the changes made
+     * since the address book was last saved.
+     */
+    public DeferredSnapshot(ReadOnlyAddressBook addressBook, ChangeJournal.Entry changes) {
+        requireAllNonNull(addressBook, changes);
+        this.addressBook = addressBook;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns the snapshot, taking it first if it has not been taken.
+     */
+    @Override
+    public synchronized AddressBookSnapshot get() {
+        if (snapshot == null) {
+            snapshot = AddressBookSnapshot.of(addressBook, changes);
+            // the address book may change from now on, so it is not kept
+            addressBook = null;
+        }
+        return snapshot;
+    }
+}
@@ -1,14 +1,24 @@
 package peoplesoft.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import peoplesoft.commons.core.GuiSettings;
 import peoplesoft.model.job.Job;
 import peoplesoft.model.job.exceptions.JobNotFoundException;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
 import peoplesoft.model.person.Person;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
+import peoplesoft.model.query.Query;
+import peoplesoft.model.tag.Tag;
 import peoplesoft.model.util.ID;
 
 /**
@@ -95,6 +105,45 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in the address book with the person in {@code editedPersons} that has the same id,
+     * as a single change.
+     * Every person in {@code editedPersons} must have the id of an existing person in the address book.
+     */
+    void updatePersons(Collection<Person> editedPersons);
+
+    /**
+     * Returns the payments for the job with the given id, keyed by person id.
+     */
+    Map<ID, Payment> getPaymentsForJob(ID jobId);
+
+    /**
+     * Returns the total of the pending payments of the person with the given id.
+     */
+    Money getAmountDue(ID personId);
+
+    /**
+     * Returns the total of the pending payments of every person in the address book.
+     */
+    Money getTotalAmountDue();
+
+    /**
+     * Returns the total of the completed payments of every person in the address book.
+     */
+    Money getTotalAmountPaid();
+
+    /**
+     * Returns a version number that increases whenever the address book, the employment associations or the id
+     * states change.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes made to the address book, the employment associations and the id states since the
+     * previous call.
+     */
+    ChangeJournal.Entry commitChanges();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -104,6 +153,73 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders it by the
+     * given {@code comparator}. Updating the filter alone brings back the order of the address book.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Returns the predicate that the filtered person list is filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns the comparator that the filtered person list is ordered by, or an empty {@code Optional} if it is in
+     * the order of the address book.
+     */
+    Optional<Comparator<Person>> getFilteredPersonListComparator();
+
+    /**
+     * Returns a predicate that matches the persons that have every one of {@code keywords} as a word of their name
+     * or as a tag, ignoring case. The persons are found through a keyword index, instead of by testing each person.
+     */
+    Predicate<Person> findPersons(List<String> keywords);
+
+    /**
+     * Returns a predicate that matches the persons that meet every condition of {@code query}. The persons are found
+     * from the index that finds the fewest of them, and only those persons are tested against the other conditions.
+     */
+    Predicate<Person> queryPersons(Query<Person> query);
+
+    /**
+     * Returns a predicate that matches the persons that have, for every one of {@code keywords}, a word of their
+     * name, their email or their phone that starts with the keyword, ignoring case and allowing for a typing mistake
+     * in longer keywords. The persons are found through a search index.
+     */
+    Predicate<Person> searchPersons(List<String> keywords);
+
+    /**
+     * Returns a comparator that orders the persons matched by {@link #searchPersons(List)} from the best match to
+     * the worst.
+     */
+    Comparator<Person> rankPersons(List<String> keywords);
+
+    /**
+     * Returns a function that scores the persons matched by {@link #searchPersons(List)} for some keywords, by the
+     * ids of the persons. Unlike the rest of the model, the function may be called from any thread, such as to
+     * search in the background while the user types.
+     */
+    Function<List<String>, Map<ID, Double>> getPersonSearcher();
+
+    /**
+     * Returns a predicate that matches the persons that have every one of {@code tags}, ignoring the case of their
+     * names. The persons are found through a tag index, instead of by testing each person.
+     */
+    Predicate<Person> findPersonsWithTags(Collection<Tag> tags);
+
+    /**
+     * Returns the number of persons that have every one of {@code tags}, ignoring the case of their names.
+     */
+    int countPersonsWithTags(Collection<Tag> tags);
+
+    /**
+     * Returns the number of persons that have every one of {@code tags}, ignoring the case of their names, and are
+     * owed money.
+     */
+    int countPersonsOwedWithTags(Collection<Tag> tags);
+
     /**
      * Returns true if a job with the same identity as {@code job} exists in the address book.
      */
@@ -148,4 +264,35 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredJobList(Predicate<Job> predicate);
+
+    /**
+     * Updates the filter of the filtered job list to filter by the given {@code predicate}, and orders it by the
+     * given {@code comparator}. Updating the filter alone brings back the order of the address book.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredJobList(Predicate<Job> predicate, Comparator<Job> comparator);
+
+    /**
+     * Returns a predicate that matches the jobs that have every one of {@code keywords} as a word of their
+     * description, ignoring case. The jobs are found through a keyword index, instead of by testing each job.
+     */
+    Predicate<Job> findJobs(List<String> keywords);
+
+    /**
+     * Returns a predicate that matches the jobs that meet every condition of {@code query}. The jobs are found from
+     * the index that finds the fewest of them, and only those jobs are tested against the other conditions.
+     */
+    Predicate<Job> queryJobs(Query<Job> query);
+
+    /**
+     * Returns a predicate that matches the jobs that have, for every one of {@code keywords}, a word of their
+     * description that starts with the keyword, ignoring case and allowing for a typing mistake in longer keywords.
+     * The jobs are found through a search index.
+     */
+    Predicate<Job> searchJobs(List<String> keywords);
+
+    /**
+     * Returns a comparator that orders the jobs matched by {@link #searchJobs(List)} from the best match to the worst.
+     */
+    Comparator<Job> rankJobs(List<String> keywords);
 }
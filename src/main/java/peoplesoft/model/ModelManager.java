@@ -4,19 +4,31 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import peoplesoft.commons.core.GuiSettings;
 import peoplesoft.commons.core.LogsCenter;
 import peoplesoft.model.job.Job;
 import peoplesoft.model.job.exceptions.JobNotFoundException;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
 import peoplesoft.model.person.Person;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
+import peoplesoft.model.query.Query;
+import peoplesoft.model.tag.Tag;
 import peoplesoft.model.util.ID;
+import peoplesoft.model.util.SortableList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,25 +40,47 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Job> filteredJobs;
+    private final SortableList<Person> sortedPersons;
+    private final SortedList<Job> sortedJobs;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(new AddressBook(requireNonNull(addressBook)), new UserPrefs(requireNonNull(userPrefs)));
+    }
+
+    /**
+     * Initializes a ModelManager that uses the given addressBook and userPrefs themselves, rather than copies.
+     */
+    private ModelManager(AddressBook addressBook, UserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
-        this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook = addressBook;
+        this.userPrefs = userPrefs;
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredJobs = new FilteredList<>(this.addressBook.getJobList());
+        // the persons are only kept in sorted order while they are ranked, as they may be built on demand
+        sortedPersons = new SortableList<>(filteredPersons);
+        sortedJobs = new SortedList<>(filteredJobs);
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Returns a ModelManager that takes over {@code addressBook} instead of copying it, such as an address book that
+     * was just read from storage.
+     * {@code addressBook} must not be used other than through the returned ModelManager afterwards.
+     */
+    public static ModelManager adopt(AddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        return new ModelManager(addressBook, new UserPrefs(userPrefs));
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -131,6 +165,44 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void updatePersons(Collection<Person> editedPersons) {
+        requireNonNull(editedPersons);
+        addressBook.updatePersons(editedPersons);
+    }
+
+    @Override
+    public Map<ID, Payment> getPaymentsForJob(ID jobId) {
+        requireNonNull(jobId);
+        return addressBook.getPaymentsForJob(jobId);
+    }
+
+    @Override
+    public Money getAmountDue(ID personId) {
+        requireNonNull(personId);
+        return addressBook.getAmountDue(personId);
+    }
+
+    @Override
+    public Money getTotalAmountDue() {
+        return addressBook.getTotalAmountDue();
+    }
+
+    @Override
+    public Money getTotalAmountPaid() {
+        return addressBook.getTotalAmountPaid();
+    }
+
+    @Override
+    public long getVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public ChangeJournal.Entry commitChanges() {
+        return addressBook.commitChanges();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -139,13 +211,81 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        // stops sorting first, so that the persons that the predicate matches are not all kept in sorted order
+        sortedPersons.setComparator(null);
+        filteredPersons.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_PERSONS : predicate::test;
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getFilteredPersonListComparator() {
+        Comparator<? super Person> comparator = sortedPersons.getComparator();
+        return comparator == null ? Optional.empty() : Optional.of(comparator::compare);
+    }
+
+    @Override
+    public Predicate<Person> findPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersons(keywords);
+    }
+
+    @Override
+    public Predicate<Person> queryPersons(Query<Person> query) {
+        requireNonNull(query);
+        return addressBook.queryPersons(query);
+    }
+
+    @Override
+    public Predicate<Person> searchPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.searchPersons(keywords);
+    }
+
+    @Override
+    public Comparator<Person> rankPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.rankPersons(keywords);
+    }
+
+    @Override
+    public Function<List<String>, Map<ID, Double>> getPersonSearcher() {
+        return addressBook.getPersonSearcher();
+    }
+
+    @Override
+    public Predicate<Person> findPersonsWithTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.findPersonsWithTags(tags);
+    }
+
+    @Override
+    public int countPersonsWithTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.countPersonsWithTags(tags);
+    }
+
+    @Override
+    public int countPersonsOwedWithTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.countPersonsOwedWithTags(tags);
     }
 
     //=========== Job Operations =============================================================================
@@ -153,7 +293,7 @@ public class ModelManager implements Model {
     @Override
     public boolean hasJob(Job job) {
         requireNonNull(job);
-        return hasPerson(job.getJobId());
+        return hasJob(job.getJobId());
     }
 
     @Override
@@ -193,13 +333,45 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Job> getFilteredJobList() {
-        return filteredJobs;
+        return sortedJobs;
     }
 
     @Override
     public void updateFilteredJobList(Predicate<Job> predicate) {
         requireNonNull(predicate);
         filteredJobs.setPredicate(predicate);
+        sortedJobs.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredJobList(Predicate<Job> predicate, Comparator<Job> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredJobs.setPredicate(predicate);
+        sortedJobs.setComparator(comparator);
+    }
+
+    @Override
+    public Predicate<Job> findJobs(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findJobs(keywords);
+    }
+
+    @Override
+    public Predicate<Job> queryJobs(Query<Job> query) {
+        requireNonNull(query);
+        return addressBook.queryJobs(query);
+    }
+
+    @Override
+    public Predicate<Job> searchJobs(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.searchJobs(keywords);
+    }
+
+    @Override
+    public Comparator<Job> rankJobs(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.rankJobs(keywords);
     }
 
     // good practice to include this when overriding equals()
@@ -2,6 +2,7 @@ package peoplesoft.model;
 
 import java.nio.file.Path;
 
+import peoplesoft.commons.core.DataFileFormat;
 import peoplesoft.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    DataFileFormat getAddressBookFileFormat();
+
 }
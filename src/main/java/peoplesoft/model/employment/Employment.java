@@ -4,25 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
@@ -35,6 +35,8 @@ import peoplesoft.model.util.ID;
 
 /**
  * Association class to handle assigning {@code Jobs} to {@code Persons}.
+ * Associations are indexed in both directions, so that the jobs of a person and the persons of a job can be
+ * looked up without scanning every association.
  */
 @JsonSerialize(using = Employment.EmploymentSerializer.class)
 @JsonDeserialize(using = Employment.EmploymentDeserializer.class)
@@ -50,23 +52,41 @@ public class Employment {
      */
     private Map<ID, Set<ID>> map;
 
+    /**
+     * Maps {@code PersonId} to {@code JobId}. Kept in sync with {@code map}.
+     */
+    private Map<ID, Set<ID>> reverseMap;
+
+    /**
+     * Incremented whenever an association is added or removed.
+     */
+    private long version;
+
     /**
      * Constructor for a new employment.
      */
     public Employment() {
         map = new HashMap<>();
+        reverseMap = new HashMap<>();
     }
 
     /**
-     * Constructor used for serdes.
+     * Constructs an {@code Employment} with the given associations. Also used for serdes.
      *
-     * @param map Map of values
+     * @param map Map of {@code JobId} to {@code PersonId}s.
      */
-    Employment(Map<ID, Set<ID>> map) {
+    public Employment(Map<ID, Set<ID>> map) {
         requireNonNull(map);
         this.map = new HashMap<>();
+        this.reverseMap = new HashMap<>();
         for (Map.Entry<ID, Set<ID>> e : map.entrySet()) {
+            if (e.getValue().isEmpty()) {
+                continue;
+            }
             this.map.put(e.getKey(), new TreeSet<>(e.getValue()));
+            for (ID personId : e.getValue()) {
+                this.reverseMap.computeIfAbsent(personId, k -> new TreeSet<>()).add(e.getKey());
+            }
         }
     }
 
@@ -87,6 +107,8 @@ public class Employment {
         if (!map.get(job.getJobId()).add(person.getPersonId())) {
             throw new DuplicateEmploymentException();
         }
+        reverseMap.computeIfAbsent(person.getPersonId(), k -> new TreeSet<>()).add(job.getJobId());
+        version++;
     }
 
     /**
@@ -104,10 +126,9 @@ public class Employment {
             throw new EmploymentNotFoundException();
         }
         // Guaranteed to be present
-        map.get(job.getJobId()).remove(person.getPersonId());
-        if (map.get(job.getJobId()).isEmpty()) {
-            map.remove(job.getJobId());
-        }
+        removeEntry(map, job.getJobId(), person.getPersonId());
+        removeEntry(reverseMap, person.getPersonId(), job.getJobId());
+        version++;
     }
 
     /**
@@ -117,11 +138,14 @@ public class Employment {
      */
     public void deletePerson(Person person) {
         requireAllNonNull(person);
-        for (Map.Entry<ID, Set<ID>> e : map.entrySet()) {
-            e.getValue().removeIf(p -> p.equals(person.getPersonId()));
+        Set<ID> jobIds = reverseMap.remove(person.getPersonId());
+        if (jobIds == null) {
+            return;
+        }
+        for (ID jobId : jobIds) {
+            removeEntry(map, jobId, person.getPersonId());
         }
-        // If list of IDs for persons is empty, remove the entry from the map
-        map.entrySet().removeIf(e -> e.getValue().isEmpty());
+        version++;
     }
 
     /**
@@ -131,12 +155,55 @@ public class Employment {
      */
     public void deleteJob(Job job) {
         requireAllNonNull(job);
-        map.remove(job.getJobId());
+        Set<ID> personIds = map.remove(job.getJobId());
+        if (personIds == null) {
+            return;
+        }
+        for (ID personId : personIds) {
+            removeEntry(reverseMap, personId, job.getJobId());
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code value} from the set mapped to {@code key}, and removes the mapping if the set becomes empty.
+     */
+    private static void removeEntry(Map<ID, Set<ID>> index, ID key, ID value) {
+        Set<ID> values = index.get(key);
+        if (values == null) {
+            return;
+        }
+        values.remove(value);
+        if (values.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns the ids of the {@code Job}s that the {@code Person} with the given id has.
+     *
+     * @param personId Id of the person.
+     * @return Unmodifiable set of job ids, which is empty if the person has no jobs.
+     */
+    public Set<ID> getJobIds(ID personId) {
+        requireNonNull(personId);
+        return Collections.unmodifiableSet(reverseMap.getOrDefault(personId, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the ids of the {@code Person}s assigned to the {@code Job} with the given id.
+     *
+     * @param jobId Id of the job.
+     * @return Unmodifiable set of person ids, which is empty if no one is assigned to the job.
+     */
+    public Set<ID> getPersonIds(ID jobId) {
+        requireNonNull(jobId);
+        return Collections.unmodifiableSet(map.getOrDefault(jobId, Collections.emptySet()));
     }
 
     /**
      * Returns a list of {@code Jobs} that a {@code Person} has.
-     * Also updates the FilteredJobList for UI.
+     * Ids that are not in the model are skipped.
      *
      * @param person Person.
      * @param model Model.
@@ -144,16 +211,15 @@ public class Employment {
      */
     public List<Job> getJobs(Person person, Model model) {
         requireAllNonNull(person, model);
-
-        // TODO: Updates UI, remove if not needed
-        model.updateFilteredJobList(job -> map.get(job.getJobId()) != null
-                && map.get(job.getJobId()).contains(person.getPersonId()));
-        return model.getFilteredJobList();
+        return getJobIds(person.getPersonId()).stream()
+                .filter(model::hasJob)
+                .map(model::getJob)
+                .collect(Collectors.toList());
     }
 
     /**
      * Returns a list of {@code Person}s assigned to a {@code Job}.
-     * Also updates the FilteredPersonList for UI.
+     * Ids that are not in the model are skipped.
      *
      * @param job Job.
      * @param model Model.
@@ -161,18 +227,50 @@ public class Employment {
      */
     public List<Person> getPersons(Job job, Model model) {
         requireAllNonNull(job, model);
-        model.updateFilteredPersonList(person -> map.get(job.getJobId()) != null
-                && map.get(job.getJobId()).contains(person.getPersonId()));
-        return model.getFilteredPersonList();
+        return getPersonIds(job.getJobId()).stream()
+                .filter(model::hasPerson)
+                .map(model::getPerson)
+                .collect(Collectors.toList());
     }
 
     /**
-     * Returns a list of {@code Jobs} that a {@code Person} has.
+     * Updates the FilteredJobList of the model to show only the {@code Jobs} that a {@code Person} has.
+     *
+     * @param person Person.
+     * @param model Model.
+     */
+    public void filterJobList(Person person, Model model) {
+        requireAllNonNull(person, model);
+        model.updateFilteredJobList(job -> getJobIds(person.getPersonId()).contains(job.getJobId()));
+    }
+
+    /**
+     * Updates the FilteredPersonList of the model to show only the {@code Person}s assigned to a {@code Job}.
+     *
+     * @param job Job.
+     * @param model Model.
+     */
+    public void filterPersonList(Job job, Model model) {
+        requireAllNonNull(job, model);
+        model.updateFilteredPersonList(person -> getPersonIds(job.getJobId()).contains(person.getPersonId()));
+    }
+
+    /**
+     * Returns the ids of the {@code Person}s assigned to each {@code Job}, keyed by job id.
      *
-     * @return Map of jobs.
+     * @return Unmodifiable map of job ids to person ids.
      */
     public Map<ID, Set<ID>> getAllJobs() {
-        return map;
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns a number that changes whenever an association is added or removed.
+     *
+     * @return Version.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -234,17 +332,13 @@ public class Employment {
         @Override
         public Employment deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
+            if (p.getCurrentToken() != JsonToken.START_OBJECT) {
                 throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
             }
 
-            // readValueAs Map is ok because we know `node` has to be a json object
-            Map<ID, Set<ID>> map = node
-                    .traverse(codec)
-                    .readValueAs(new TypeReference<Map<ID, Set<ID>>>(){});
+            // reading a Map is ok because we know the current value has to be a json object
+            Map<ID, Set<ID>> map = ctx.readValue(p,
+                    ctx.getTypeFactory().constructType(new TypeReference<Map<ID, Set<ID>>>(){}));
 
             return new Employment(map);
         }
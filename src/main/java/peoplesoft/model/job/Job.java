@@ -10,17 +10,12 @@ import java.util.function.UnaryOperator;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.BooleanNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
@@ -58,9 +53,10 @@ public class Job {
     }
 
     /**
-     * Constructor used internally.
+     * Constructor for an immutable job with the given payment state, such as a job read from storage.
+     * All fields must not be null.
      */
-    private Job(ID jobId, String desc, Duration duration, boolean hasPaid, boolean isFinal) {
+    public Job(ID jobId, String desc, Duration duration, boolean hasPaid, boolean isFinal) {
         requireAllNonNull(jobId, desc, duration, hasPaid, isFinal);
         this.jobId = jobId;
         this.desc = desc;
@@ -232,42 +228,43 @@ public class Job {
             this(null);
         }
 
-        private static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx)
-                throws JsonMappingException {
-            return JsonUtil.getNonNullNode(node, key, ctx, INVALID_VAL_FMTR);
-        }
-
-        private static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-                Class<T> cls) throws JsonMappingException {
-            return JsonUtil.getNonNullNodeWithType(node, key, ctx,
-                INVALID_VAL_FMTR, cls);
-        }
-
         @Override
         public Job deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            JsonUtil.requireStartObject(p, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            ID jobId = null;
+            String desc = null;
+            Duration duration = null;
+            Boolean hasPaid = null;
+            Boolean isFinal = null;
+            for (String field = JsonUtil.nextFieldName(p); field != null; field = JsonUtil.nextFieldName(p)) {
+                switch (field) {
+                case "jobId":
+                    jobId = ctx.readValue(p, ID.class);
+                    break;
+                case "desc":
+                    desc = JsonUtil.readString(p, ctx, INVALID_VAL_FMTR.apply("desc"));
+                    break;
+                case "duration":
+                    duration = ctx.readValue(p, Duration.class);
+                    break;
+                case "hasPaid":
+                    hasPaid = JsonUtil.readBoolean(p, ctx, INVALID_VAL_FMTR.apply("hasPaid"));
+                    break;
+                case "isFinal":
+                    isFinal = JsonUtil.readBoolean(p, ctx, INVALID_VAL_FMTR.apply("isFinal"));
+                    break;
+                default:
+                    p.skipChildren();
+                }
             }
 
-            ObjectNode job = (ObjectNode) node;
-
-            ID jobId = getNonNullNode(job, "jobId", ctx)
-                    .traverse(codec)
-                    .readValueAs(ID.class);
-
-            String desc = getNonNullNodeWithType(job, "desc", ctx, TextNode.class).textValue();
-
-            Duration duration = getNonNullNode(job, "duration", ctx)
-                    .traverse(codec)
-                    .readValueAs(Duration.class);
-
-            Boolean hasPaid = getNonNullNodeWithType(job, "hasPaid", ctx, BooleanNode.class).booleanValue();
-
-            Boolean isFinal = getNonNullNodeWithType(job, "isFinal", ctx, BooleanNode.class).booleanValue();
+            JsonUtil.requireField(jobId, "jobId", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(desc, "desc", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(duration, "duration", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(hasPaid, "hasPaid", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(isFinal, "isFinal", ctx, INVALID_VAL_FMTR);
 
             return new Job(jobId, desc, duration, hasPaid, isFinal);
         }
@@ -1,5 +1,6 @@
 package peoplesoft.model.job;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -13,6 +14,17 @@ public class JobContainsKeywordsPredicate implements Predicate<Job> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the keywords that {@code job} can be found by, which are the words of its description.
+     */
+    public static List<String> getKeywords(Job job) {
+        return Arrays.asList(job.getDesc().split("\\s+"));
+    }
+
     @Override
     public boolean test(Job job) {
         return !keywords.isEmpty() && keywords.stream()
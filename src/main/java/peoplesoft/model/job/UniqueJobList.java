@@ -4,26 +4,28 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import peoplesoft.commons.util.CollectionUtil;
 import peoplesoft.commons.util.JsonUtil;
 import peoplesoft.model.job.exceptions.DuplicateJobException;
 import peoplesoft.model.job.exceptions.JobNotFoundException;
@@ -31,6 +33,7 @@ import peoplesoft.model.util.ID;
 
 /**
  * Implementation of {@code JobList}.
+ * Jobs are indexed by their {@code ID}, so that lookups by id do not need to scan the whole list.
  */
 @JsonSerialize(using = UniqueJobList.UniqueJobListSerializer.class)
 @JsonDeserialize(using = UniqueJobList.UniqueJobListDeserializer.class)
@@ -40,10 +43,15 @@ public class UniqueJobList implements JobList {
     private final ObservableList<Job> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Maps the {@code ID} of each job in {@code internalList} to its index in {@code internalList}.
+     */
+    private final Map<ID, Integer> indexesById = new HashMap<>();
+
     @Override
     public boolean contains(ID jobId) {
         requireNonNull(jobId);
-        return internalList.stream().anyMatch(job -> job.getJobId().equals(jobId));
+        return indexesById.containsKey(jobId);
     }
 
     /**
@@ -54,10 +62,11 @@ public class UniqueJobList implements JobList {
     @Override
     public Job get(ID jobId) throws JobNotFoundException {
         requireNonNull(jobId);
-        return internalList.stream()
-            .filter(j -> j != null && jobId.equals(j.getJobId()))
-            .findAny()
-            .orElseThrow(JobNotFoundException::new);
+        Integer index = indexesById.get(jobId);
+        if (index == null) {
+            throw new JobNotFoundException();
+        }
+        return internalList.get(index);
     }
 
     @Override
@@ -66,24 +75,28 @@ public class UniqueJobList implements JobList {
         if (contains(toAdd.getJobId())) {
             throw new DuplicateJobException();
         }
+        indexesById.put(toAdd.getJobId(), internalList.size());
         internalList.add(toAdd);
     }
 
     @Override
     public void remove(Job toRemove) {
         requireNonNull(toRemove);
-        if (!contains(toRemove.getJobId())) {
+        Integer index = indexesById.remove(toRemove.getJobId());
+        if (index == null) {
             throw new JobNotFoundException();
         }
-        internalList.removeIf(job -> job.isSameJob(toRemove));
+        internalList.remove((int) index);
+        // jobs after the removed one have shifted down by one
+        reindexFrom(index);
     }
 
     @Override
     public void setJob(Job targetJob, Job editedJob) {
         requireAllNonNull(targetJob, editedJob);
 
-        int index = internalList.indexOf(targetJob);
-        if (index == -1) {
+        Integer index = indexesById.get(targetJob.getJobId());
+        if (index == null || !internalList.get(index).equals(targetJob)) {
             throw new JobNotFoundException();
         }
 
@@ -91,21 +104,31 @@ public class UniqueJobList implements JobList {
             throw new DuplicateJobException();
         }
 
+        indexesById.remove(targetJob.getJobId());
+        indexesById.put(editedJob.getJobId(), index);
         internalList.set(index, editedJob);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setJobs(UniqueJobList replacement) {
         requireNonNull(replacement);
+        indexesById.clear();
+        indexesById.putAll(replacement.indexesById);
         internalList.setAll(replacement.internalList);
     }
 
     @Override
     public void setJobs(List<Job> jobs) {
         requireAllNonNull(jobs);
-        if (!jobsAreUnique(jobs)) {
-            throw new DuplicateJobException();
+        Set<ID> duplicateIds = CollectionUtil.findDuplicates(jobs, Job::getJobId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicateJobException(duplicateIds);
         }
+        indexesById.clear();
         internalList.setAll(jobs);
+        reindexFrom(0);
     }
 
     /**
@@ -116,18 +139,20 @@ public class UniqueJobList implements JobList {
     }
 
     /**
-     * Returns true if {@code jobs} contains only unique persons.
+     * Updates {@code indexesById} for all jobs in {@code internalList} starting at {@code fromIndex}.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            indexesById.put(internalList.get(i).getJobId(), i);
+        }
+    }
+
+    /**
+     * Returns true if {@code jobs} contains only unique jobs.
      */
     @Override
     public boolean jobsAreUnique(List<Job> jobs) {
-        for (int i = 0; i < jobs.size() - 1; i++) {
-            for (int j = i + 1; j < jobs.size(); j++) {
-                if (jobs.get(i).isSameJob(jobs.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return CollectionUtil.findDuplicates(jobs, Job::getJobId).isEmpty();
     }
 
     @Override
@@ -176,19 +201,19 @@ public class UniqueJobList implements JobList {
         @Override
         public UniqueJobList deserialize(JsonParser p, DeserializationContext ctx)
             throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
+            JsonUtil.requireStartArray(p, ctx, MISSING_OR_INVALID_INSTANCE);
 
-            if (!(node instanceof ArrayNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            List<Job> jobList = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                jobList.add(ctx.readValue(p, Job.class));
             }
 
-            List<Job> jobList = node // is ArrayNode
-                    .traverse(codec)
-                    .readValueAs(new TypeReference<List<Job>>(){});
-
             UniqueJobList ujl = new UniqueJobList();
-            ujl.setJobs(jobList);
+            try {
+                ujl.setJobs(jobList);
+            } catch (DuplicateJobException e) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, e.getMessage());
+            }
 
             return ujl;
         }
@@ -1,5 +1,10 @@
 package peoplesoft.model.job.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import peoplesoft.model.util.ID;
+
 /**
  * Signals that the operation will result in duplicate Jobs (Jobs are considered duplicates if they have the same
  * identity).
@@ -8,4 +13,12 @@ public class DuplicateJobException extends RuntimeException {
     public DuplicateJobException() {
         super("Operation would result in duplicate jobs");
     }
+
+    /**
+     * Creates a {@code DuplicateJobException} that reports the ids shared by more than one job.
+     */
+    public DuplicateJobException(Collection<ID> duplicateIds) {
+        super("Operation would result in duplicate jobs with ids: "
+                + duplicateIds.stream().map(ID::toString).collect(Collectors.joining(", ")));
+    }
 }
@@ -11,7 +11,7 @@ public class MoneyUtil {
      * Throws NegativeMoneyValueException if {@code money} is negative.
      */
     public static void requireNonNegative(Money money) {
-        if (money.getValue().signum() < 0) {
+        if (money.signum() < 0) {
             throw new NegativeMoneyValueException();
         }
     }
@@ -4,36 +4,61 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.OptionalLong;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
 
 /**
  * Represents some value of money. Immutable.
+ *
+ * Values are stored as a whole number of micro-units (6 decimal places) in a {@code long}, which keeps
+ * common arithmetic free of {@code BigDecimal} allocation. Values that do not fit in a {@code long} fall back to
+ * a {@code BigDecimal}.
  */
 @JsonSerialize(using = Money.MoneySerializer.class)
 @JsonDeserialize(using = Money.MoneyDeserializer.class)
 public class Money {
 
     private static final int VALUE_SCALE = 6;
-    private static final NumberFormat CURRENCY_FORMAT = NumberFormat.getCurrencyInstance(Locale.US);
+    private static final long MICROS_PER_CENT = 10_000;
+    private static final int GROUPING_SIZE = 3;
 
-    public final BigDecimal value;
+    /**
+     * {@code NumberFormat} is not thread-safe, so each thread formats large values with its own instance.
+     */
+    private static final ThreadLocal<NumberFormat> CURRENCY_FORMAT =
+            ThreadLocal.withInitial(Money::createCurrencyFormat);
+
+    /**
+     * The value in micro-units. Only meaningful if {@code bigValue} is null.
+     */
+    private final long micros;
+
+    /**
+     * The value at {@code VALUE_SCALE}, if it is too large to be held in {@code micros}, and null otherwise.
+     */
+    private final BigDecimal bigValue;
+
+    /**
+     * The currency format of the value, computed when first needed. Racy writes are harmless, since every thread
+     * computes an equal, immutable {@code String}.
+     */
+    private String formatted;
 
     /**
      * Constructs a {@code Money}.
@@ -51,8 +76,36 @@ public class Money {
      */
     public Money(BigDecimal value) {
         requireNonNull(value);
-        CURRENCY_FORMAT.setRoundingMode(RoundingMode.HALF_UP);
-        this.value = value.setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+        BigDecimal scaled = value.setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+        BigInteger unscaled = scaled.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            this.micros = unscaled.longValue();
+            this.bigValue = null;
+        } else {
+            this.micros = 0;
+            this.bigValue = scaled;
+        }
+    }
+
+    private Money(long micros) {
+        this.micros = micros;
+        this.bigValue = null;
+    }
+
+    /**
+     * Returns a {@code Money} with the value of {@code micros} micro-units, i.e. millionths.
+     *
+     * @param micros Value in micro-units.
+     * @return Money.
+     */
+    public static Money ofMicros(long micros) {
+        return new Money(micros);
+    }
+
+    private static NumberFormat createCurrencyFormat() {
+        NumberFormat format = NumberFormat.getCurrencyInstance(Locale.US);
+        format.setRoundingMode(RoundingMode.HALF_UP);
+        return format;
     }
 
     /**
@@ -70,7 +123,26 @@ public class Money {
     }
 
     public BigDecimal getValue() {
-        return value;
+        return isCompact() ? BigDecimal.valueOf(micros, VALUE_SCALE) : bigValue;
+    }
+
+    /**
+     * Returns the value in micro-units, i.e. millionths, or an empty {@code OptionalLong} if it is too large to
+     * fit in a {@code long}.
+     */
+    public OptionalLong getMicros() {
+        return isCompact() ? OptionalLong.of(micros) : OptionalLong.empty();
+    }
+
+    /**
+     * Returns -1, 0, or 1 as the value is negative, zero, or positive.
+     */
+    public int signum() {
+        return isCompact() ? Long.signum(micros) : bigValue.signum();
+    }
+
+    private boolean isCompact() {
+        return bigValue == null;
     }
 
     /**
@@ -80,7 +152,14 @@ public class Money {
      * @return Sum.
      */
     public Money add(Money augend) {
-        return new Money(value.add(augend.value).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        if (isCompact() && augend.isCompact()) {
+            long sum = micros + augend.micros;
+            // overflow iff both operands have the same sign, and the sign of the result differs
+            if (((micros ^ sum) & (augend.micros ^ sum)) >= 0) {
+                return new Money(sum);
+            }
+        }
+        return new Money(getValue().add(augend.getValue()));
     }
 
     /**
@@ -90,7 +169,7 @@ public class Money {
      * @return Sum.
      */
     public Money add(BigDecimal augend) {
-        return new Money(value.add(augend).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        return new Money(getValue().add(augend));
     }
 
     /**
@@ -100,7 +179,32 @@ public class Money {
      * @return Difference.
      */
     public Money subtract(Money augend) {
-        return new Money(value.add(augend.value.negate()).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        if (isCompact() && augend.isCompact()) {
+            long difference = micros - augend.micros;
+            // overflow iff the operands have different signs, and the sign of the result differs from the first
+            if (((micros ^ augend.micros) & (micros ^ difference)) >= 0) {
+                return new Money(difference);
+            }
+        }
+        return new Money(getValue().subtract(augend.getValue()));
+    }
+
+    /**
+     * Returns a {@code Money} with the value equal the product of this value and a whole number.
+     *
+     * @param multiplicand Value to multiply.
+     * @return Product.
+     */
+    public Money multiply(long multiplicand) {
+        if (isCompact()) {
+            long high = Math.multiplyHigh(micros, multiplicand);
+            long product = micros * multiplicand;
+            // no overflow iff the high half is just the sign extension of the low half
+            if (high == product >> (Long.SIZE - 1)) {
+                return new Money(product);
+            }
+        }
+        return new Money(getValue().multiply(BigDecimal.valueOf(multiplicand)));
     }
 
     /**
@@ -110,7 +214,7 @@ public class Money {
      * @return Product.
      */
     public Money multiply(BigDecimal multiplicand) {
-        return new Money(value.multiply(multiplicand).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        return new Money(getValue().multiply(multiplicand));
     }
 
     /**
@@ -120,7 +224,7 @@ public class Money {
      * @return Product.
      */
     public Money multiply(Money multiplicand) {
-        return new Money(value.multiply(multiplicand.value).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        return new Money(getValue().multiply(multiplicand.getValue()));
     }
 
     /**
@@ -130,7 +234,7 @@ public class Money {
      * @return Quotient.
      */
     public Money divide(BigDecimal divisor) {
-        return new Money(value.divide(divisor, VALUE_SCALE, RoundingMode.HALF_UP));
+        return new Money(getValue().divide(divisor, VALUE_SCALE, RoundingMode.HALF_UP));
     }
 
     /**
@@ -140,7 +244,7 @@ public class Money {
      * @return Quotient.
      */
     public Money divide(Money divisor) {
-        return new Money(value.divide(divisor.value, VALUE_SCALE, RoundingMode.HALF_UP));
+        return new Money(getValue().divide(divisor.getValue(), VALUE_SCALE, RoundingMode.HALF_UP));
     }
 
     /**
@@ -149,20 +253,27 @@ public class Money {
      * @return Value as a string.
      */
     public String printFullValue() {
-        return value.toString();
+        return getValue().toString();
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Money // instanceof handles nulls
-                && value.equals(((Money) other).value)); // state check
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof Money)) { // instanceof handles nulls
+            return false;
+        }
+        // a value is only held in bigValue if it does not fit in micros, so the representations are canonical
+        Money otherMoney = (Money) other;
+        return isCompact()
+                ? otherMoney.isCompact() && micros == otherMoney.micros
+                : bigValue.equals(otherMoney.bigValue);
     }
 
     @Override
     public int hashCode() {
-        // Might change if scale not matching is an issue
-        return value.hashCode();
+        return isCompact() ? Long.hashCode(micros) : bigValue.hashCode();
     }
 
     /**
@@ -172,8 +283,47 @@ public class Money {
      */
     @Override
     public String toString() {
-        // Might change if scale not matching is an issue
-        return CURRENCY_FORMAT.format(value);
+        String result = formatted;
+        if (result == null) {
+            result = isCompact() ? formatCurrency(micros) : CURRENCY_FORMAT.get().format(bigValue);
+            formatted = result;
+        }
+        return result;
+    }
+
+    /**
+     * Formats a value in micro-units the same way as the US currency {@code NumberFormat} with
+     * {@code RoundingMode.HALF_UP}, e.g. {@code $1,234.57} or {@code -$0.50}, without allocating a
+     * {@code BigDecimal}.
+     */
+    private static String formatCurrency(long micros) {
+        long cents = micros / MICROS_PER_CENT;
+        long remainder = micros % MICROS_PER_CENT;
+        if (Math.abs(remainder) >= MICROS_PER_CENT / 2) {
+            cents += Long.signum(micros);
+        }
+
+        // micros / MICROS_PER_CENT is well within range, so negating cannot overflow
+        String digits = Long.toString(Math.abs(cents / 100));
+        long fraction = Math.abs(cents % 100);
+
+        StringBuilder sb = new StringBuilder(digits.length() + digits.length() / GROUPING_SIZE + 5);
+        if (micros < 0) { // the sign is kept even if the value rounds to zero
+            sb.append('-');
+        }
+        sb.append('$');
+        for (int i = 0; i < digits.length(); i++) {
+            if (i > 0 && (digits.length() - i) % GROUPING_SIZE == 0) {
+                sb.append(',');
+            }
+            sb.append(digits.charAt(i));
+        }
+        sb.append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+        return sb.toString();
     }
 
     protected static class MoneySerializer extends StdSerializer<Money> {
@@ -187,7 +337,7 @@ public class Money {
 
         @Override
         public void serialize(Money val, JsonGenerator gen, SerializerProvider provider) throws IOException {
-            gen.writeString(val.value.toString()); // to preserve precision
+            gen.writeString(val.printFullValue()); // to preserve precision
         }
     }
 
@@ -205,13 +355,7 @@ public class Money {
         @Override
         public Money deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-
-            if (!(node instanceof TextNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
-            }
-
-            String valString = ((TextNode) node).textValue();
+            String valString = JsonUtil.readString(p, ctx, MISSING_OR_INVALID_INSTANCE);
 
             if (!Money.isValidMoneyString(valString)) {
                 throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
@@ -10,16 +10,12 @@ import java.util.function.UnaryOperator;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
@@ -79,6 +75,21 @@ public abstract class Payment {
         return new PendingPayment(person.getPersonId(), job.getJobId(), amount);
     }
 
+    /**
+     * Creates a {@code Payment} object that is already in the given state, such as a payment read from storage.
+     *
+     * @param personId Id of the person to pay.
+     * @param jobId Id of the job that resulted in the payment.
+     * @param amount Amount to pay.
+     * @param isCompleted Whether the payment has been paid.
+     * @return Payment.
+     */
+    public static Payment restorePayment(ID personId, ID jobId, Money amount, boolean isCompleted) {
+        return isCompleted
+                ? new CompletedPayment(personId, jobId, amount)
+                : new PendingPayment(personId, jobId, amount);
+    }
+
     public ID getPersonId() {
         return personId;
     }
@@ -140,7 +151,7 @@ public abstract class Payment {
             super(payment);
         }
 
-        // this one's only used for deser
+        // this one's only used when restoring saved payments
         private CompletedPayment(ID personId, ID jobId, Money money) {
             super(personId, jobId, money);
         }
@@ -247,31 +258,31 @@ public abstract class Payment {
             this(null);
         }
 
-        private static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx)
-                throws JsonMappingException {
-            return JsonUtil.getNonNullNode(node, key, ctx, INVALID_VAL_FMTR);
-        }
-
-        private static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-                Class<T> cls) throws JsonMappingException {
-            return JsonUtil.getNonNullNodeWithType(node, key, ctx,
-                INVALID_VAL_FMTR, cls);
-        }
-
         @Override
         public Payment deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            JsonUtil.requireStartObject(p, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            String state = null;
+            ID jobId = null;
+            Money amount = null;
+            for (String field = JsonUtil.nextFieldName(p); field != null; field = JsonUtil.nextFieldName(p)) {
+                switch (field) {
+                case "state":
+                    state = JsonUtil.readString(p, ctx, INVALID_VAL_FMTR.apply("state"));
+                    break;
+                case "jobId":
+                    jobId = ctx.readValue(p, ID.class);
+                    break;
+                case "amount":
+                    amount = ctx.readValue(p, Money.class);
+                    break;
+                default:
+                    p.skipChildren();
+                }
             }
 
-            ObjectNode payment = (ObjectNode) node;
-
-            String state = getNonNullNodeWithType(payment, "state", ctx, TextNode.class)
-                    .textValue();
+            JsonUtil.requireField(state, "state", ctx, INVALID_VAL_FMTR);
 
             Object personIdAttr = ctx.getAttribute("personId");
             if (!(personIdAttr instanceof ID)) {
@@ -282,13 +293,8 @@ public abstract class Payment {
 
             ID personId = (ID) personIdAttr;
 
-            ID jobId = getNonNullNode(payment, "jobId", ctx)
-                    .traverse(codec)
-                    .readValueAs(ID.class);
-
-            Money amount = getNonNullNode(payment, "amount", ctx)
-                    .traverse(codec)
-                    .readValueAs(Money.class);
+            JsonUtil.requireField(jobId, "jobId", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(amount, "amount", ctx, INVALID_VAL_FMTR);
 
             switch (state) {
             case "PENDING":
@@ -1,5 +1,6 @@
 package peoplesoft.model.money;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,10 +14,9 @@ import peoplesoft.model.util.ID;
 
 /**
  * Class that handles all the coupling for the creation of {@code Payment} objects.
+ * Each operation computes the updated {@code Person}s first, and then applies them to the model in a single batch.
  */
 public class PaymentHandler {
-    // TODO: reduce time complexity if anyone wants to flex their CS2040S
-
     /**
      * Creates {@code PendingPayment} objects for each {@code Person} assigned
      * to a {@code Job}.
@@ -32,41 +32,43 @@ public class PaymentHandler {
         if (persons.isEmpty()) {
             throw new PaymentRequiresPersonException();
         }
+        List<Person> editedPersons = new ArrayList<>(persons.size());
         for (Person p : persons) {
             Map<ID, Payment> payments = new HashMap<>(p.getPayments());
             Payment newPayment = Payment.createPayment(p, job, job.calculatePay(p.getRate()));
             payments.put(job.getJobId(), newPayment);
-            Person newPerson = new Person(p.getPersonId(), p.getName(), p.getPhone(), p.getEmail(),
-                    p.getAddress(), p.getRate(), p.getTags(), payments);
-            model.setPerson(p, newPerson); // I hope this does not cause iteration errors
+            editedPersons.add(withPayments(p, payments));
         }
+        model.updatePersons(editedPersons);
     }
 
     /**
-     * Removes {@code PendingPayment} objects for each {@code Person} assigned
-     * to a {@code Job}.
+     * Removes {@code PendingPayment} objects for each {@code Person} that holds
+     * one for a {@code Job}.
      *
      * @param job Job.
      * @param model Model.
      * @param emp Employment instance. (Mainly for testing)
-     * @throws PaymentRequiresPersonException If there is no {@code Person} assigned to the {@code Job}.
+     * @throws PaymentRequiresPersonException If there is no {@code Person} at all.
      */
     public static void removePendingPayments(Job job, Model model, Employment emp) {
         assert !job.isFinal();
-        // Currently checks all persons, in case there is a user who assigns, marks, un-assigns by editing
-        // the data file, and un-marks.
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        List<Person> persons = model.getFilteredPersonList();
-        if (persons.isEmpty()) {
+        // Uses the payments recorded in the model rather than the assignees, in case there is a user who
+        // assigns, marks, un-assigns by editing the data file, and un-marks.
+        if (model.getAddressBook().getPersonList().isEmpty()) {
             throw new PaymentRequiresPersonException();
         }
-        for (Person p : persons) {
+        List<Person> editedPersons = new ArrayList<>();
+        for (Map.Entry<ID, Payment> e : model.getPaymentsForJob(job.getJobId()).entrySet()) {
+            if (e.getValue().isCompleted()) {
+                continue;
+            }
+            Person p = model.getPerson(e.getKey());
             Map<ID, Payment> payments = new HashMap<>(p.getPayments());
-            payments.entrySet().removeIf(e -> e.getKey().equals(job.getJobId()) && !e.getValue().isCompleted());
-            Person newPerson = new Person(p.getPersonId(), p.getName(), p.getPhone(), p.getEmail(),
-                    p.getAddress(), p.getRate(), p.getTags(), payments);
-            model.setPerson(p, newPerson); // I hope this does not cause iteration errors
+            payments.remove(job.getJobId());
+            editedPersons.add(withPayments(p, payments));
         }
+        model.updatePersons(editedPersons);
     }
 
     /**
@@ -83,12 +85,24 @@ public class PaymentHandler {
         if (persons.isEmpty()) {
             throw new PaymentRequiresPersonException();
         }
+        List<Person> editedPersons = new ArrayList<>(persons.size());
         for (Person p : persons) {
+            Payment payment = p.getPayments().get(job.getJobId());
+            if (payment == null) {
+                continue;
+            }
             Map<ID, Payment> payments = new HashMap<>(p.getPayments());
-            payments.replaceAll((id, payment) -> id.equals(job.getJobId()) ? payment.pay() : payment);
-            Person newPerson = new Person(p.getPersonId(), p.getName(), p.getPhone(), p.getEmail(),
-                    p.getAddress(), p.getRate(), p.getTags(), payments);
-            model.setPerson(p, newPerson); // I hope this does not cause iteration errors
+            payments.put(job.getJobId(), payment.pay());
+            editedPersons.add(withPayments(p, payments));
         }
+        model.updatePersons(editedPersons);
+    }
+
+    /**
+     * Returns a copy of {@code person} with its payments replaced by {@code payments}.
+     */
+    private static Person withPayments(Person person, Map<ID, Payment> payments) {
+        return new Person(person.getPersonId(), person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getRate(), person.getTags(), payments);
     }
 }
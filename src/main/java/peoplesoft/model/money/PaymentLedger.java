@@ -0,0 +1,170 @@
+package peoplesoft.model.money;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+
+/**
+ * Indexes the {@code Payment}s held by {@code Person}s by person and by job, and keeps running totals of the
+ * pending and completed amounts of each person and of the whole payroll.
+ *
+ * The ledger is derived from the payments that each {@code Person} holds, so it has to be told whenever a
+ * {@code Person} is added, replaced or removed.
+ */
+public class PaymentLedger {
+    private static final Money ZERO = new Money(0);
+
+    /**
+     * Maps {@code PersonId} to the payments of that person, keyed by {@code JobId}.
+     */
+    private final Map<ID, Map<ID, Payment>> paymentsByPerson = new HashMap<>();
+
+    /**
+     * Maps {@code JobId} to the payments for that job, keyed by {@code PersonId}.
+     */
+    private final Map<ID, Map<ID, Payment>> paymentsByJob = new HashMap<>();
+
+    private final Map<ID, Money> amountsDue = new HashMap<>();
+    private final Map<ID, Money> amountsPaid = new HashMap<>();
+    private Money totalAmountDue = ZERO;
+    private Money totalAmountPaid = ZERO;
+
+    /**
+     * Replaces the payments recorded for {@code person} with the payments that it holds.
+     *
+     * @param person Person.
+     */
+    public void setPayments(Person person) {
+        requireNonNull(person);
+        removePayments(person.getPersonId());
+
+        Map<ID, Payment> payments = person.getPayments();
+        if (payments.isEmpty()) {
+            return;
+        }
+
+        ID personId = person.getPersonId();
+        Money paid = ZERO;
+        for (Payment payment : payments.values()) {
+            paymentsByJob.computeIfAbsent(payment.getJobId(), k -> new HashMap<>()).put(personId, payment);
+            if (payment.isCompleted()) {
+                paid = paid.add(payment.getAmount());
+            }
+        }
+        paymentsByPerson.put(personId, new HashMap<>(payments));
+        amountsDue.put(personId, person.getAmountDue());
+        amountsPaid.put(personId, paid);
+        totalAmountDue = totalAmountDue.add(person.getAmountDue());
+        totalAmountPaid = totalAmountPaid.add(paid);
+    }
+
+    /**
+     * Replaces the contents of the ledger with the payments held by {@code persons}.
+     *
+     * @param persons Persons.
+     */
+    public void setPayments(Collection<Person> persons) {
+        requireAllNonNull(persons);
+        paymentsByPerson.clear();
+        paymentsByJob.clear();
+        amountsDue.clear();
+        amountsPaid.clear();
+        totalAmountDue = ZERO;
+        totalAmountPaid = ZERO;
+        for (Person person : persons) {
+            setPayments(person);
+        }
+    }
+
+    /**
+     * Removes all payments recorded for the {@code Person} with the given id.
+     *
+     * @param personId Id of the person.
+     */
+    public void removePayments(ID personId) {
+        requireNonNull(personId);
+        Map<ID, Payment> payments = paymentsByPerson.remove(personId);
+        if (payments == null) {
+            return;
+        }
+
+        for (ID jobId : payments.keySet()) {
+            Map<ID, Payment> forJob = paymentsByJob.get(jobId);
+            forJob.remove(personId);
+            if (forJob.isEmpty()) {
+                paymentsByJob.remove(jobId);
+            }
+        }
+        totalAmountDue = totalAmountDue.subtract(amountsDue.remove(personId));
+        totalAmountPaid = totalAmountPaid.subtract(amountsPaid.remove(personId));
+    }
+
+    /**
+     * Returns the payments of the {@code Person} with the given id, keyed by job id.
+     *
+     * @param personId Id of the person.
+     * @return Unmodifiable map of payments.
+     */
+    public Map<ID, Payment> getPaymentsOfPerson(ID personId) {
+        requireNonNull(personId);
+        return Collections.unmodifiableMap(paymentsByPerson.getOrDefault(personId, Collections.emptyMap()));
+    }
+
+    /**
+     * Returns the payments for the {@code Job} with the given id, keyed by person id.
+     *
+     * @param jobId Id of the job.
+     * @return Unmodifiable map of payments.
+     */
+    public Map<ID, Payment> getPaymentsForJob(ID jobId) {
+        requireNonNull(jobId);
+        return Collections.unmodifiableMap(paymentsByJob.getOrDefault(jobId, Collections.emptyMap()));
+    }
+
+    /**
+     * Returns the total of the pending payments of the {@code Person} with the given id.
+     *
+     * @param personId Id of the person.
+     * @return Amount due.
+     */
+    public Money getAmountDue(ID personId) {
+        requireNonNull(personId);
+        return amountsDue.getOrDefault(personId, ZERO);
+    }
+
+    /**
+     * Returns the total of the completed payments of the {@code Person} with the given id.
+     *
+     * @param personId Id of the person.
+     * @return Amount paid.
+     */
+    public Money getAmountPaid(ID personId) {
+        requireNonNull(personId);
+        return amountsPaid.getOrDefault(personId, ZERO);
+    }
+
+    /**
+     * Returns the total of the pending payments of every {@code Person}.
+     *
+     * @return Total amount due.
+     */
+    public Money getTotalAmountDue() {
+        return totalAmountDue;
+    }
+
+    /**
+     * Returns the total of the completed payments of every {@code Person}.
+     *
+     * @return Total amount paid.
+     */
+    public Money getTotalAmountPaid() {
+        return totalAmountPaid;
+    }
+}
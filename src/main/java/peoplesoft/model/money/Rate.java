@@ -5,7 +5,6 @@ import static peoplesoft.model.job.util.DurationUtil.requirePositive;
 import static peoplesoft.model.job.util.MoneyUtil.requireNonNegative;
 
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.format.DateTimeParseException;
 import java.util.Objects;
@@ -14,16 +13,12 @@ import java.util.function.UnaryOperator;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
@@ -71,8 +66,20 @@ public class Rate {
      *         duration
      */
     public Money calculateAmount(Duration totalDuration) {
-        return amount.multiply(BigDecimal.valueOf(totalDuration.dividedBy(duration)));
+        return amount.multiply(wholeMultiples(totalDuration, duration));
+    }
 
+    /**
+     * Returns the number of whole times that {@code divisor} occurs in {@code dividend}.
+     * Equivalent to {@code Duration#dividedBy(Duration)}, but avoids its {@code BigDecimal} arithmetic
+     * when both durations fit in a {@code long} number of nanoseconds.
+     */
+    private static long wholeMultiples(Duration dividend, Duration divisor) {
+        try {
+            return dividend.toNanos() / divisor.toNanos();
+        } catch (ArithmeticException e) {
+            return dividend.dividedBy(divisor);
+        }
     }
 
     @Override
@@ -140,40 +147,33 @@ public class Rate {
             this(null);
         }
 
-        private static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx)
-                throws JsonMappingException {
-            return JsonUtil.getNonNullNode(node, key, ctx, INVALID_VAL_FMTR);
-        }
-
-        private static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-                Class<T> cls) throws JsonMappingException {
-            return JsonUtil.getNonNullNodeWithType(node, key, ctx,
-                INVALID_VAL_FMTR, cls);
-        }
-
         @Override
         public Rate deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            JsonUtil.requireStartObject(p, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            Money amount = null;
+            String durationString = null;
+            for (String field = JsonUtil.nextFieldName(p); field != null; field = JsonUtil.nextFieldName(p)) {
+                switch (field) {
+                case "amount":
+                    amount = ctx.readValue(p, Money.class);
+                    break;
+                case "duration":
+                    durationString = JsonUtil.readString(p, ctx, INVALID_VAL_FMTR.apply("duration"));
+                    break;
+                default:
+                    p.skipChildren();
+                }
             }
 
-            ObjectNode rate = (ObjectNode) node;
-
-            Money amount = getNonNullNode(rate, "amount", ctx)
-                    .traverse(codec)
-                    .readValueAs(Money.class);
-
-            String durationString = getNonNullNodeWithType(rate, "duration", ctx, TextNode.class)
-                    .textValue();
+            JsonUtil.requireField(amount, "amount", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(durationString, "duration", ctx, INVALID_VAL_FMTR);
 
             Duration duration;
             try {
                 duration = Duration.parse(durationString);
-            } catch (NullPointerException | DateTimeParseException e) {
+            } catch (DateTimeParseException e) {
                 throw JsonUtil.getWrappedIllegalValueException(
                     ctx, INVALID_VAL_FMTR.apply("duration"), e);
             }
@@ -0,0 +1,337 @@
+package peoplesoft.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import peoplesoft.commons.util.CollectionUtil;
+import peoplesoft.model.person.exceptions.DuplicatePersonException;
+import peoplesoft.model.person.exceptions.PersonNotFoundException;
+import peoplesoft.model.util.ID;
+
+/**
+ * A {@code PersonList} that starts with the persons in a {@code PersonStore}, and only builds them when they are
+ * asked for, such as when a person is looked up by id or shown in a list view. Persons that are added or replaced
+ * are kept in memory, so memory use grows with the number of persons that are changed or being viewed, rather
+ * than with the number of persons in the store.
+ *
+ * Like {@code UniquePersonList}, persons are indexed by their {@code ID}, and the removal of a person uses
+ * {@code Person#equals(Object)}.
+ */
+public class LazyPersonList implements PersonList {
+
+    private final PersonStore store;
+
+    /**
+     * The ids of the persons in the list, in order.
+     */
+    private final List<ID> ids;
+
+    /**
+     * Maps the {@code ID} of each person in the list to its index in {@code ids}.
+     */
+    private final Map<ID, Integer> indexesById = new HashMap<>();
+
+    /**
+     * Maps the {@code ID} of each person that was added or replaced since the list was created to the person.
+     * Other persons are read from {@code store}.
+     */
+    private final Map<ID, Person> changedPersons;
+
+    private final PersonView view = new PersonView();
+
+    /**
+     * Creates a list of the persons in {@code store}.
+     */
+    public LazyPersonList(PersonStore store) {
+        requireNonNull(store);
+        this.store = store;
+        ids = new ArrayList<>(store.getPersonIds());
+        changedPersons = new HashMap<>();
+        reindexFrom(0);
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}, which shares its {@code PersonStore}.
+     */
+    public LazyPersonList(LazyPersonList toBeCopied) {
+        requireNonNull(toBeCopied);
+        store = toBeCopied.store;
+        ids = new ArrayList<>(toBeCopied.ids);
+        changedPersons = new HashMap<>(toBeCopied.changedPersons);
+        indexesById.putAll(toBeCopied.indexesById);
+    }
+
+    @Override
+    public boolean contains(ID personId) {
+        requireNonNull(personId);
+        return indexesById.containsKey(personId);
+    }
+
+    @Override
+    public Person get(ID personId) throws PersonNotFoundException {
+        requireNonNull(personId);
+        if (!contains(personId)) {
+            throw new PersonNotFoundException();
+        }
+        return lookUp(personId);
+    }
+
+    @Override
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd.getPersonId())) {
+            throw new DuplicatePersonException();
+        }
+        indexesById.put(toAdd.getPersonId(), ids.size());
+        ids.add(toAdd.getPersonId());
+        changedPersons.put(toAdd.getPersonId(), toAdd);
+        view.fireAdded(ids.size() - 1);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson.getPersonId())) {
+            throw new DuplicatePersonException();
+        }
+
+        indexesById.remove(target.getPersonId());
+        changedPersons.remove(target.getPersonId());
+        indexesById.put(editedPerson.getPersonId(), index);
+        changedPersons.put(editedPerson.getPersonId(), editedPerson);
+        ids.set(index, editedPerson.getPersonId());
+        view.fireReplaced(List.of(index), List.of(target));
+    }
+
+    @Override
+    public void updatePersons(Collection<Person> editedPersons) {
+        requireAllNonNull(editedPersons);
+        Set<ID> duplicateIds = CollectionUtil.findDuplicates(editedPersons, Person::getPersonId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIds);
+        }
+        for (Person editedPerson : editedPersons) {
+            if (!contains(editedPerson.getPersonId())) {
+                throw new PersonNotFoundException();
+            }
+        }
+        if (editedPersons.isEmpty()) {
+            return;
+        }
+
+        List<Integer> indexes = new ArrayList<>();
+        List<Person> oldPersons = new ArrayList<>();
+        for (Person editedPerson : editedPersons) {
+            indexes.add(indexesById.get(editedPerson.getPersonId()));
+            oldPersons.add(lookUp(editedPerson.getPersonId()));
+            changedPersons.put(editedPerson.getPersonId(), editedPerson);
+        }
+        view.fireReplaced(indexes, oldPersons);
+    }
+
+    @Override
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+
+        indexesById.remove(toRemove.getPersonId());
+        changedPersons.remove(toRemove.getPersonId());
+        ids.remove(index);
+        // persons after the removed one have shifted down by one
+        reindexFrom(index);
+        view.fireRemoved(index, toRemove);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which are all kept in memory.
+     * {@code persons} must not contain duplicate persons.
+     */
+    @Override
+    public void setPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        Set<ID> duplicateIds = CollectionUtil.findDuplicates(persons, Person::getPersonId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIds);
+        }
+
+        List<Person> oldPersons = copyPersons();
+        ids.clear();
+        indexesById.clear();
+        changedPersons.clear();
+        for (Person person : persons) {
+            ids.add(person.getPersonId());
+            changedPersons.put(person.getPersonId(), person);
+        }
+        reindexFrom(0);
+        view.fireReset(oldPersons);
+    }
+
+    @Override
+    public ObservableList<Person> asUnmodifiableObservableList() {
+        return view;
+    }
+
+    /**
+     * Returns a copy of the persons in this list, which builds the persons from the {@code PersonStore} as they are
+     * asked for.
+     */
+    @Override
+    public List<Person> copyPersons() {
+        return new PersonsCopy(store, List.copyOf(ids), Map.copyOf(changedPersons));
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return view.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LazyPersonList // instanceof handles nulls
+                        && view.equals(((LazyPersonList) other).view));
+    }
+
+    @Override
+    public int hashCode() {
+        return view.hashCode();
+    }
+
+    /**
+     * Returns the person in the list with the given id, building it if it was not changed.
+     */
+    private Person lookUp(ID personId) {
+        Person person = changedPersons.get(personId);
+        return person != null ? person : store.getPerson(personId);
+    }
+
+    /**
+     * Returns the index of the person in the list that is equal to {@code person}, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer index = indexesById.get(person.getPersonId());
+        if (index == null || !lookUp(person.getPersonId()).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Updates {@code indexesById} for all persons in {@code ids} starting at {@code fromIndex}.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < ids.size(); i++) {
+            indexesById.put(ids.get(i), i);
+        }
+    }
+
+    /**
+     * An unmodifiable view of the list, which builds each person when it is asked for.
+     */
+    private class PersonView extends ObservableListBase<Person> implements RandomAccess {
+        @Override
+        public Person get(int index) {
+            return lookUp(ids.get(index));
+        }
+
+        @Override
+        public int size() {
+            return ids.size();
+        }
+
+        void fireAdded(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        void fireReplaced(List<Integer> indexes, List<Person> oldPersons) {
+            beginChange();
+            for (int i = 0; i < indexes.size(); i++) {
+                nextSet(indexes.get(i), oldPersons.get(i));
+            }
+            endChange();
+        }
+
+        void fireRemoved(int index, Person removed) {
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        void fireReset(List<Person> oldPersons) {
+            beginChange();
+            nextReplace(0, ids.size(), oldPersons);
+            endChange();
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the list, which builds each person when it is asked for.
+     * A storage can use {@link #isStored(int)} to tell which persons are unchanged from the {@code PersonStore},
+     * and write those from their stored form instead of building them.
+     */
+    public static class PersonsCopy extends AbstractList<Person> implements RandomAccess {
+        private final PersonStore store;
+        private final List<ID> ids;
+        private final Map<ID, Person> changedPersons;
+
+        PersonsCopy(PersonStore store, List<ID> ids, Map<ID, Person> changedPersons) {
+            this.store = store;
+            this.ids = ids;
+            this.changedPersons = changedPersons;
+        }
+
+        @Override
+        public Person get(int index) {
+            ID personId = ids.get(index);
+            Person person = changedPersons.get(personId);
+            return person != null ? person : store.getPerson(personId);
+        }
+
+        @Override
+        public int size() {
+            return ids.size();
+        }
+
+        public PersonStore getStore() {
+            return store;
+        }
+
+        /**
+         * Returns the id of the person at {@code index}, without building the person.
+         */
+        public ID getPersonId(int index) {
+            return ids.get(index);
+        }
+
+        /**
+         * Returns true if the person at {@code index} is the one in the {@code PersonStore}, that is, it was not
+         * added or replaced since the store was read.
+         */
+        public boolean isStored(int index) {
+            return !changedPersons.containsKey(ids.get(index));
+        }
+    }
+}
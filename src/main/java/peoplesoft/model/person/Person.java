@@ -15,18 +15,15 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import peoplesoft.commons.util.JsonUtil;
 import peoplesoft.model.money.Money;
@@ -54,6 +51,7 @@ public class Person {
     private final Rate rate;
     private final Set<Tag> tags = new HashSet<>();
     private final Map<ID, Payment> payments = new HashMap<>();
+    private final Money amountDue;
 
     /**
      * Every field must be present and not null.
@@ -69,6 +67,7 @@ public class Person {
         this.rate = rate;
         this.tags.addAll(tags);
         this.payments.putAll(payments);
+        this.amountDue = sumPendingPayments(this.payments);
     }
 
     public ID getPersonId() {
@@ -108,11 +107,16 @@ public class Person {
     }
 
     /**
-     * Calculates the Money of all the {@code PendingPayment}s on this {@code Person} at a point in time
+     * Returns the Money of all the {@code PendingPayment}s on this {@code Person}.
+     * As a {@code Person} is immutable, this is computed once on construction.
      *
      * @return Amount due.
      */
     public Money getAmountDue() {
+        return amountDue;
+    }
+
+    private static Money sumPendingPayments(Map<ID, Payment> payments) {
         Money sum = new Money(0);
         for (Payment p : payments.values()) {
             if (!p.isCompleted()) {
@@ -241,71 +245,101 @@ public class Person {
             this(null);
         }
 
-        private static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx)
-                    throws JsonMappingException {
-            return JsonUtil.getNonNullNode(node, key, ctx, INVALID_VAL_FMTR);
-        }
-
-        private static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-                    Class<T> cls) throws JsonMappingException {
-            return JsonUtil.getNonNullNodeWithType(node, key, ctx,
-                    INVALID_VAL_FMTR, cls);
-        }
-
         @Override
         public Person deserialize(JsonParser p, DeserializationContext ctx)
                     throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            JsonUtil.requireStartObject(p, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            ID id = null;
+            Name name = null;
+            Phone phone = null;
+            Email email = null;
+            Address address = null;
+            Rate rate = null;
+            Set<Tag> tags = null;
+            Map<ID, Payment> payments = null;
+            // payments need the person ID, so payments that come before the ID are buffered until the ID is read
+            TokenBuffer bufferedPayments = null;
+            for (String field = JsonUtil.nextFieldName(p); field != null; field = JsonUtil.nextFieldName(p)) {
+                switch (field) {
+                case "id":
+                    id = ctx.readValue(p, ID.class);
+                    break;
+                case "name":
+                    name = ctx.readValue(p, Name.class);
+                    break;
+                case "phone":
+                    phone = ctx.readValue(p, Phone.class);
+                    break;
+                case "email":
+                    email = ctx.readValue(p, Email.class);
+                    break;
+                case "address":
+                    address = ctx.readValue(p, Address.class);
+                    break;
+                case "rate":
+                    rate = ctx.readValue(p, Rate.class);
+                    break;
+                case "tagged":
+                    tags = readTags(p, ctx);
+                    break;
+                case "payments":
+                    if (id == null) {
+                        bufferedPayments = new TokenBuffer(p.getCodec(), false);
+                        bufferedPayments.copyCurrentStructure(p);
+                    } else {
+                        payments = readPayments(p, ctx, id);
+                    }
+                    break;
+                default:
+                    p.skipChildren();
+                }
             }
 
-            ObjectNode person = (ObjectNode) node;
-
-            ID id = getNonNullNode(person, "id", ctx)
-                    .traverse(codec)
-                    .readValueAs(ID.class);
-
-            Name name = getNonNullNode(person, "name", ctx)
-                    .traverse(codec)
-                    .readValueAs(Name.class);
+            JsonUtil.requireField(id, "id", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(name, "name", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(phone, "phone", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(email, "email", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(address, "address", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(rate, "rate", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(tags, "tagged", ctx, INVALID_VAL_FMTR);
+
+            if (bufferedPayments != null) {
+                JsonParser bufferedParser = bufferedPayments.asParser(p.getCodec());
+                bufferedParser.nextToken();
+                payments = readPayments(bufferedParser, ctx, id);
+            }
+            JsonUtil.requireField(payments, "payments", ctx, INVALID_VAL_FMTR);
 
-            Phone phone = getNonNullNode(person, "phone", ctx)
-                    .traverse(codec)
-                    .readValueAs(Phone.class);
+            return new Person(id, name, phone, email, address, rate, tags, payments);
+        }
 
-            Email email = getNonNullNode(person, "email", ctx)
-                    .traverse(codec)
-                    .readValueAs(Email.class);
+        private static Set<Tag> readTags(JsonParser p, DeserializationContext ctx) throws IOException {
+            JsonUtil.requireStartArray(p, ctx, INVALID_VAL_FMTR.apply("tagged"));
 
-            Address address = getNonNullNode(person, "address", ctx)
-                    .traverse(codec)
-                    .readValueAs(Address.class);
+            Set<Tag> tags = new HashSet<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                tags.add(ctx.readValue(p, Tag.class));
+            }
 
-            Rate rate = getNonNullNode(person, "rate", ctx)
-                    .traverse(codec)
-                    .readValueAs(Rate.class);
+            return tags;
+        }
 
-            Set<Tag> tags = getNonNullNodeWithType(person, "tagged", ctx, ArrayNode.class)
-                    .traverse(codec)
-                    .readValueAs(new TypeReference<Set<Tag>>(){});
+        private static Map<ID, Payment> readPayments(JsonParser p, DeserializationContext ctx, ID personId)
+                throws IOException {
+            JsonUtil.requireStartArray(p, ctx, INVALID_VAL_FMTR.apply("payments"));
 
-            // we deserialize the Payment objects one by one
-            // because ctx.readValue() doesn't take TypeReferences
-            // and we need to use the ctx to pass the current person ID down
-            ctx.setAttribute("personId", id);
+            // the ctx is used to pass the current person ID down
+            ctx.setAttribute("personId", personId);
             Map<ID, Payment> payments = new HashMap<>();
-            ArrayNode paymentsNode = getNonNullNodeWithType(person, "payments", ctx, ArrayNode.class);
-            for (JsonNode paymentNode : paymentsNode) {
-                Payment pymt = ctx.readValue(paymentNode.traverse(codec), Payment.class);
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                Payment pymt = ctx.readValue(p, Payment.class);
                 if (payments.put(pymt.getJobId(), pymt) != null) { // check if jobId already exists in the map
                     throw JsonUtil.getWrappedIllegalValueException(ctx, INVALID_VAL_FMTR.apply("payments"));
                 }
             }
 
-            return new Person(id, name, phone, email, address, rate, tags, payments);
+            return payments;
         }
 
         @Override
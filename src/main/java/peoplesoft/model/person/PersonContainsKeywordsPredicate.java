@@ -1,5 +1,7 @@
 package peoplesoft.model.person;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -15,6 +17,20 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the keywords that {@code person} can be found by, which are the words of its name and the names of
+     * its tags.
+     */
+    public static List<String> getKeywords(Person person) {
+        List<String> personKeywords = new ArrayList<>(Arrays.asList(person.getName().fullName.split("\\s+")));
+        person.getTags().forEach(tag -> personKeywords.add(tag.getTagName()));
+        return personKeywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return !keywords.isEmpty() && keywords.stream()
@@ -0,0 +1,36 @@
+package peoplesoft.model.person;
+
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import peoplesoft.model.person.exceptions.PersonNotFoundException;
+import peoplesoft.model.util.ID;
+
+/**
+ * A list of persons that does not allow duplicate ids or nulls.
+ */
+public interface PersonList extends Iterable<Person> {
+
+    boolean contains(ID personId);
+
+    Person get(ID personId) throws PersonNotFoundException;
+
+    void add(Person toAdd);
+
+    void setPerson(Person target, Person editedPerson);
+
+    void updatePersons(Collection<Person> editedPersons);
+
+    void remove(Person toRemove);
+
+    void setPersons(List<Person> persons);
+
+    ObservableList<Person> asUnmodifiableObservableList();
+
+    /**
+     * Returns an unmodifiable copy of the persons in this list, which does not change when this list does.
+     */
+    List<Person> copyPersons();
+
+}
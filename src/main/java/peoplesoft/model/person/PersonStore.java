@@ -0,0 +1,26 @@
+package peoplesoft.model.person;
+
+import java.util.List;
+
+import peoplesoft.model.person.exceptions.PersonNotFoundException;
+import peoplesoft.model.util.ID;
+
+/**
+ * A read-only collection of persons that are kept in their stored form, and only built when they are asked for.
+ * The persons in a store never change.
+ */
+public interface PersonStore {
+
+    /**
+     * Returns the ids of the stored persons, in the order that they were stored.
+     */
+    List<ID> getPersonIds();
+
+    /**
+     * Returns the stored person with the given id.
+     * A store may keep recently built persons, but does not keep every person that it has built.
+     *
+     * @throws PersonNotFoundException if there is no such person
+     */
+    Person getPerson(ID personId) throws PersonNotFoundException;
+}
@@ -4,26 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
+import peoplesoft.commons.util.CollectionUtil;
 import peoplesoft.commons.util.JsonUtil;
 import peoplesoft.model.person.exceptions.DuplicatePersonException;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
@@ -38,46 +44,65 @@ import peoplesoft.model.util.ID;
  *
  * Supports a minimal set of list operations.
  *
+ * Persons are also indexed by their {@code ID} (to the person and to its position in the backing list), so that
+ * lookups by id do not need to scan the whole list.
+ *
  * @see Person#isSamePerson(Person)
  */
 @JsonSerialize(using = UniquePersonList.UniquePersonListSerializer.class)
 @JsonDeserialize(using = UniquePersonList.UniquePersonListDeserializer.class)
-public class UniquePersonList implements Iterable<Person> {
+public class UniquePersonList implements PersonList {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Maps the {@code ID} of each person in {@code internalList} to the person.
+     */
+    private final Map<ID, Person> personsById = new HashMap<>();
+
+    /**
+     * Maps the {@code ID} of each person in {@code internalList} to its index in {@code internalList}.
+     */
+    private final Map<ID, Integer> indexesById = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
+    @Override
     public boolean contains(ID personId) {
         requireNonNull(personId);
-        return internalList.stream().anyMatch(p -> p != null && personId.equals(p.getPersonId()));
+        return personsById.containsKey(personId);
     }
 
     /**
-     * Returns the job with the given id.
+     * Returns the person with the given id.
      *
      * @throws PersonNotFoundException if the person does not exist
      */
+    @Override
     public Person get(ID personId) throws PersonNotFoundException {
         requireNonNull(personId);
-        return internalList.stream()
-            .filter(p -> p != null && personId.equals(p.getPersonId()))
-            .findAny()
-            .orElseThrow(PersonNotFoundException::new);
+        Person person = personsById.get(personId);
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
      */
+    @Override
     public void add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd.getPersonId())) {
             throw new DuplicatePersonException();
         }
+        personsById.put(toAdd.getPersonId(), toAdd);
+        indexesById.put(toAdd.getPersonId(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -86,10 +111,11 @@ public class UniquePersonList implements Iterable<Person> {
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
+    @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -98,22 +124,68 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        personsById.remove(target.getPersonId());
+        indexesById.remove(target.getPersonId());
+        personsById.put(editedPerson.getPersonId(), editedPerson);
+        indexesById.put(editedPerson.getPersonId(), index);
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces each person in the list with the person in {@code editedPersons} that has the same id.
+     * Every person in {@code editedPersons} must have the id of an existing person in the list, and no two may
+     * share an id. All replacements are validated before any is applied, and observers of the list are notified
+     * of a single change, which only holds the replaced persons.
+     */
+    @Override
+    public void updatePersons(Collection<Person> editedPersons) {
+        requireAllNonNull(editedPersons);
+        Set<ID> duplicateIds = CollectionUtil.findDuplicates(editedPersons, Person::getPersonId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIds);
+        }
+        for (Person editedPerson : editedPersons) {
+            if (!contains(editedPerson.getPersonId())) {
+                throw new PersonNotFoundException();
+            }
+        }
+        if (editedPersons.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Person> replacements = new TreeMap<>();
+        for (Person editedPerson : editedPersons) {
+            personsById.put(editedPerson.getPersonId(), editedPerson);
+            replacements.put(indexesById.get(editedPerson.getPersonId()), editedPerson);
+        }
+        internalList.setEach(replacements);
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
+    @Override
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        personsById.remove(toRemove.getPersonId());
+        indexesById.remove(toRemove.getPersonId());
+        internalList.remove(index);
+        // persons after the removed one have shifted down by one
+        reindexFrom(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
+        indexesById.clear();
+        indexesById.putAll(replacement.indexesById);
         internalList.setAll(replacement.internalList);
     }
 
@@ -121,22 +193,36 @@ public class UniquePersonList implements Iterable<Person> {
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
      */
+    @Override
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Set<ID> duplicateIds = findDuplicateIds(persons);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIds);
         }
 
+        personsById.clear();
+        indexesById.clear();
+        for (Person person : persons) {
+            personsById.put(person.getPersonId(), person);
+        }
         internalList.setAll(persons);
+        reindexFrom(0);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
+    @Override
     public ObservableList<Person> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
 
+    @Override
+    public List<Person> copyPersons() {
+        return List.copyOf(internalList);
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -155,17 +241,76 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the index of the person in {@code internalList} that is equal to {@code person}, or -1 if there
+     * is no such person.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person person) {
+        Integer index = indexesById.get(person.getPersonId());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Updates {@code indexesById} for all persons in {@code internalList} starting at {@code fromIndex}.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            indexesById.put(internalList.get(i).getPersonId(), i);
+        }
+    }
+
+    /**
+     * Returns the ids of persons in {@code persons} that are not unique.
+     */
+    private Set<ID> findDuplicateIds(List<Person> persons) {
+        return CollectionUtil.findDuplicates(persons, Person::getPersonId);
+    }
+
+    /**
+     * The backing list of persons, which can replace several persons with a single change to its observers.
+     */
+    private static class PersonObservableList extends ModifiableObservableListBase<Person> implements RandomAccess {
+        private final List<Person> persons = new ArrayList<>();
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person person) {
+            persons.add(index, person);
+        }
+
+        @Override
+        protected Person doSet(int index, Person person) {
+            return persons.set(index, person);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
+
+        /**
+         * Replaces the person at each index in {@code replacements} with its person. Observers are notified of a
+         * single change, which only holds the replaced persons.
+         */
+        void setEach(Map<Integer, Person> replacements) {
+            beginChange();
+            try {
+                replacements.forEach(this::set);
+            } finally {
+                endChange();
             }
         }
-        return true;
     }
 
     protected static class UniquePersonListSerializer extends StdSerializer<UniquePersonList> {
@@ -197,19 +342,19 @@ public class UniquePersonList implements Iterable<Person> {
         @Override
         public UniquePersonList deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
+            JsonUtil.requireStartArray(p, ctx, MISSING_OR_INVALID_INSTANCE);
 
-            if (!(node instanceof ArrayNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            List<Person> personList = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                personList.add(ctx.readValue(p, Person.class));
             }
 
-            List<Person> personList = node // is ArrayNode
-                    .traverse(codec)
-                    .readValueAs(new TypeReference<List<Person>>(){});
-
             UniquePersonList upl = new UniquePersonList();
-            upl.setPersons(personList);
+            try {
+                upl.setPersons(personList);
+            } catch (DuplicatePersonException e) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, e.getMessage());
+            }
 
             return upl;
         }
@@ -1,5 +1,10 @@
 package peoplesoft.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import peoplesoft.model.util.ID;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +13,12 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Creates a {@code DuplicatePersonException} that reports the ids shared by more than one person.
+     */
+    public DuplicatePersonException(Collection<ID> duplicateIds) {
+        super("Operation would result in duplicate persons with ids: "
+                + duplicateIds.stream().map(ID::toString).collect(Collectors.joining(", ")));
+    }
 }
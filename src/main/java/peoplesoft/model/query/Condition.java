@@ -0,0 +1,93 @@
+package peoplesoft.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.AppUtil.checkArgument;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * One of the conditions of a {@code Query}, which items are tested against or looked up by.
+ *
+ * A condition can be tested on an item by itself, looked up in an index, or both. Conditions that need more than
+ * the item to be tested, such as the jobs that a person is assigned to, can only be looked up. A condition that can
+ * be tested may look up more items than it holds for, such as every person who is owed money for a condition on
+ * the amount due, so the items that it looks up are tested too.
+ *
+ * @param <T> the type of the items
+ */
+public class Condition<T> {
+    private final String term;
+    private final Predicate<T> predicate;
+    private final IndexLookup lookup;
+    private final boolean isNegated;
+
+    /**
+     * Constructs a {@code Condition} written as {@code term}, that holds for the items that {@code predicate}
+     * matches, out of the items that {@code lookup} finds. At most one of {@code predicate} and {@code lookup} may be
+     * null.
+     */
+    public Condition(String term, Predicate<T> predicate, IndexLookup lookup) {
+        this(term, predicate, lookup, false);
+    }
+
+    private Condition(String term, Predicate<T> predicate, IndexLookup lookup, boolean isNegated) {
+        requireNonNull(term);
+        checkArgument(predicate != null || lookup != null, "A condition must be testable or indexed");
+        this.term = term;
+        this.predicate = predicate;
+        this.lookup = lookup;
+        this.isNegated = isNegated;
+    }
+
+    /**
+     * Returns a condition that holds for the items that this condition does not hold for.
+     */
+    public Condition<T> negate() {
+        return new Condition<>(term, predicate, lookup, !isNegated);
+    }
+
+    public boolean isNegated() {
+        return isNegated;
+    }
+
+    /**
+     * Returns the predicate that tests this condition, ignoring negation, if it can be tested on an item by itself.
+     */
+    public Optional<Predicate<T>> getPredicate() {
+        return Optional.ofNullable(predicate);
+    }
+
+    /**
+     * Returns the lookup of the items that this condition holds for, ignoring negation, if it can be looked up.
+     */
+    public Optional<IndexLookup> getLookup() {
+        return Optional.ofNullable(lookup);
+    }
+
+    /**
+     * Returns true if the matches of the query can be found from the items that this condition looks up, which is
+     * when it can be looked up and is not negated.
+     */
+    public boolean canDrive() {
+        return lookup != null && !isNegated;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Condition // instanceof handles nulls
+                && term.equals(((Condition<?>) other).term)
+                && isNegated == ((Condition<?>) other).isNegated); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return term.hashCode() ^ Boolean.hashCode(isNegated);
+    }
+
+    @Override
+    public String toString() {
+        return isNegated ? "-" + term : term;
+    }
+}
@@ -0,0 +1,66 @@
+package peoplesoft.model.query;
+
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes how the items matching a {@code Condition} can be looked up in an index, instead of by testing every
+ * item. Keys are matched ignoring case.
+ */
+public class IndexLookup {
+    /**
+     * The indexes that items can be looked up in, and how the keys of a lookup are matched in each.
+     */
+    public enum Index {
+        /** The item with the id that is the only key. */
+        ID,
+        /** The persons with any of the keys as a tag. */
+        TAG,
+        /** The items with every one of the keys as a keyword, like {@code find} without filters. */
+        KEYWORD,
+        /** The items in the payment state that is the only key. */
+        STATE,
+        /** The items assigned to a person or job that has the only key as a keyword. */
+        ASSIGNMENT
+    }
+
+    private final Index index;
+    private final List<String> keys;
+
+    /**
+     * Constructs an {@code IndexLookup} of {@code keys} in {@code index}.
+     */
+    public IndexLookup(Index index, List<String> keys) {
+        requireAllNonNull(index, keys);
+        this.index = index;
+        this.keys = List.copyOf(keys);
+    }
+
+    public Index getIndex() {
+        return index;
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexLookup // instanceof handles nulls
+                && index == ((IndexLookup) other).index
+                && keys.equals(((IndexLookup) other).keys)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, keys);
+    }
+
+    @Override
+    public String toString() {
+        return index + " " + keys;
+    }
+}
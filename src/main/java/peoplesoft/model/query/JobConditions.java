@@ -0,0 +1,92 @@
+package peoplesoft.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.JobContainsKeywordsPredicate;
+import peoplesoft.model.query.IndexLookup.Index;
+import peoplesoft.model.util.ID;
+
+/**
+ * Contains the conditions that queries for jobs are made of.
+ */
+public class JobConditions {
+    /** The payment states of jobs that have been paid, have yet to be paid, and whose payments are finalized. */
+    public static final String STATE_PAID = "paid";
+    public static final String STATE_UNPAID = "unpaid";
+    public static final String STATE_FINAL = "final";
+
+    public static final String MESSAGE_STATE_CONSTRAINTS = "Job states should be one of "
+            + STATE_PAID + ", " + STATE_UNPAID + " and " + STATE_FINAL;
+
+    private JobConditions() {} // prevents instantiation
+
+    /**
+     * Returns a condition that holds for the jobs that have every one of {@code keywords} as a word of their
+     * description, ignoring case, like {@code JobContainsKeywordsPredicate}.
+     */
+    public static Condition<Job> keywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return new Condition<>(String.join(" ", keywords), new JobContainsKeywordsPredicate(keywords),
+                new IndexLookup(Index.KEYWORD, keywords));
+    }
+
+    /**
+     * Returns a condition that holds for the jobs in the payment state {@code state}.
+     */
+    public static Condition<Job> state(String state) {
+        requireNonNull(state);
+        checkArgument(isValidState(state), MESSAGE_STATE_CONSTRAINTS);
+        Predicate<Job> predicate;
+        switch (state) {
+        case STATE_PAID:
+            predicate = Job::hasPaid;
+            break;
+        case STATE_UNPAID:
+            predicate = job -> !job.hasPaid();
+            break;
+        default:
+            predicate = Job::isFinal;
+        }
+        return new Condition<>("is/" + state, predicate, new IndexLookup(Index.STATE, List.of(state)));
+    }
+
+    /**
+     * Returns a condition that holds for the jobs assigned to a person with {@code keyword} as a word of their name
+     * or as a tag, ignoring case.
+     */
+    public static Condition<Job> assignedToPerson(String keyword) {
+        requireNonNull(keyword);
+        return new Condition<>("person/" + keyword, null, new IndexLookup(Index.ASSIGNMENT, List.of(keyword)));
+    }
+
+    /**
+     * Returns a condition that holds for the job with the id {@code id}.
+     */
+    public static Condition<Job> id(ID id) {
+        requireNonNull(id);
+        return new Condition<>("id/" + id, job -> job.getJobId().equals(id),
+                new IndexLookup(Index.ID, List.of(id.value)));
+    }
+
+    /**
+     * Returns true if a given string is a payment state of jobs.
+     */
+    public static boolean isValidState(String test) {
+        return test.equals(STATE_PAID) || test.equals(STATE_UNPAID) || test.equals(STATE_FINAL);
+    }
+
+    /**
+     * Returns the payment states of {@code job}, which it can be looked up by. A finalized job is also paid.
+     */
+    public static List<String> getStates(Job job) {
+        if (!job.hasPaid()) {
+            return List.of(STATE_UNPAID);
+        }
+        return job.isFinal() ? List.of(STATE_PAID, STATE_FINAL) : List.of(STATE_PAID);
+    }
+}
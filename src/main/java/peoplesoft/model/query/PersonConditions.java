@@ -0,0 +1,106 @@
+package peoplesoft.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import peoplesoft.model.person.Person;
+import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.query.IndexLookup.Index;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.util.ID;
+
+/**
+ * Contains the conditions that queries for persons are made of.
+ */
+public class PersonConditions {
+    /** The payment state of the persons who are owed money. */
+    public static final String STATE_OWED = "owed";
+
+    public static final String MESSAGE_STATE_CONSTRAINTS = "The only state of persons is " + STATE_OWED;
+
+    private PersonConditions() {} // prevents instantiation
+
+    /**
+     * Returns a condition that holds for the persons that have every one of {@code keywords} as a word of their name
+     * or as a tag, ignoring case, like {@code PersonContainsKeywordsPredicate}.
+     */
+    public static Condition<Person> keywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return new Condition<>(String.join(" ", keywords), new PersonContainsKeywordsPredicate(keywords),
+                new IndexLookup(Index.KEYWORD, keywords));
+    }
+
+    /**
+     * Returns a condition that holds for the persons that have any of {@code tags}, ignoring the case of their
+     * names.
+     */
+    public static Condition<Person> tags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        List<String> tagNames = tags.stream()
+                .map(tag -> tag.getTagName().toLowerCase(Locale.ROOT))
+                .sorted()
+                .distinct()
+                .collect(Collectors.toList());
+        Set<String> tagNameSet = Set.copyOf(tagNames);
+        return new Condition<>("t/" + String.join("|", tagNames),
+                person -> person.getTags().stream()
+                        .anyMatch(tag -> tagNameSet.contains(tag.getTagName().toLowerCase(Locale.ROOT))),
+                new IndexLookup(Index.TAG, tagNames));
+    }
+
+    /**
+     * Returns a condition that holds for the persons with a rate in {@code range}.
+     */
+    public static Condition<Person> rate(Range range) {
+        requireNonNull(range);
+        return new Condition<>("r/" + range, person -> range.contains(person.getRate().getAmount().getValue()), null);
+    }
+
+    /**
+     * Returns a condition that holds for the persons who are owed an amount in {@code range}.
+     * If the range only has amounts more than zero, the persons are looked up among the persons who are owed money.
+     */
+    public static Condition<Person> amountDue(Range range) {
+        requireNonNull(range);
+        return new Condition<>("due/" + range, person -> range.contains(person.getAmountDue().getValue()),
+                range.isPositive() ? new IndexLookup(Index.STATE, List.of(STATE_OWED)) : null);
+    }
+
+    /**
+     * Returns a condition that holds for the persons who are owed money.
+     */
+    public static Condition<Person> owed() {
+        return new Condition<>("is/" + STATE_OWED, person -> person.getAmountDue().signum() > 0,
+                new IndexLookup(Index.STATE, List.of(STATE_OWED)));
+    }
+
+    /**
+     * Returns a condition that holds for the persons assigned to a job with {@code keyword} as a word of its
+     * description, ignoring case.
+     */
+    public static Condition<Person> assignedToJob(String keyword) {
+        requireNonNull(keyword);
+        return new Condition<>("job/" + keyword, null, new IndexLookup(Index.ASSIGNMENT, List.of(keyword)));
+    }
+
+    /**
+     * Returns a condition that holds for the person with the id {@code id}.
+     */
+    public static Condition<Person> id(ID id) {
+        requireNonNull(id);
+        return new Condition<>("id/" + id, person -> person.getPersonId().equals(id),
+                new IndexLookup(Index.ID, List.of(id.value)));
+    }
+
+    /**
+     * Returns the payment states of {@code person}, which it can be looked up by.
+     */
+    public static List<String> getStates(Person person) {
+        return person.getAmountDue().signum() > 0 ? List.of(STATE_OWED) : List.of();
+    }
+}
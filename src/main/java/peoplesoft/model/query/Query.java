@@ -0,0 +1,45 @@
+package peoplesoft.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A query for the items that meet every one of its conditions.
+ * A query without conditions matches no item.
+ *
+ * @param <T> the type of the items
+ */
+public class Query<T> {
+    private final List<Condition<T>> conditions;
+
+    /**
+     * Constructs a {@code Query} for the items that meet every one of {@code conditions}.
+     */
+    public Query(List<Condition<T>> conditions) {
+        requireNonNull(conditions);
+        this.conditions = List.copyOf(conditions);
+    }
+
+    public List<Condition<T>> getConditions() {
+        return conditions;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Query // instanceof handles nulls
+                && conditions.equals(((Query<?>) other).conditions)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return conditions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return conditions.stream().map(Condition::toString).collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,44 @@
+package peoplesoft.model.query;
+
+import java.util.List;
+import java.util.Set;
+
+import peoplesoft.model.util.ID;
+
+/**
+ * The items that queries are run against, and the indexes that they can be looked up in.
+ *
+ * @param <T> the type of the items
+ */
+public interface QueryIndex<T> {
+    /**
+     * Returns every item.
+     */
+    List<T> getItems();
+
+    /**
+     * Returns the id of {@code item}.
+     */
+    ID getId(T item);
+
+    /**
+     * Returns the item with the id {@code id}, which must be the id of an item.
+     */
+    T getItem(ID id);
+
+    /**
+     * Returns the number of items that {@code lookup} finds at most, without finding them.
+     */
+    int estimate(IndexLookup lookup);
+
+    /**
+     * Returns the ids of the items that {@code lookup} finds.
+     */
+    Set<ID> lookup(IndexLookup lookup);
+
+    /**
+     * Returns a value that is equal to an earlier value only if no item, and nothing that the items are looked up
+     * by, has changed since.
+     */
+    Object getVersion();
+}
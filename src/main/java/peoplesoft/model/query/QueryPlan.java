@@ -0,0 +1,137 @@
+package peoplesoft.model.query;
+
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import peoplesoft.model.util.ID;
+
+/**
+ * A plan to find the items that a {@code Query} matches, made by {@code QueryPlanner}.
+ *
+ * The items are found by looking up the condition that drives the plan, or by going through every item if there is
+ * none, and testing the other conditions on each of those items. The matches are kept until the items change, so
+ * that testing every item of a list only runs the plan once.
+ *
+ * @param <T> the type of the items
+ */
+public class QueryPlan<T> implements Predicate<T> {
+    private final Query<T> query;
+    private final QueryIndex<T> index;
+    private final Condition<T> driver;
+    private final int estimate;
+
+    /** The conditions that are tested on each item found, with the conditions that only the index can test last. */
+    private final List<Condition<T>> residuals;
+
+    private Object matchesVersion;
+    private Set<ID> matches;
+
+    /**
+     * Constructs a {@code QueryPlan} for {@code query} on the items of {@code index}, which is driven by
+     * {@code driver}, or by going through every item if it is null, and finds {@code estimate} items at most before
+     * testing the other conditions.
+     */
+    QueryPlan(Query<T> query, QueryIndex<T> index, Condition<T> driver, int estimate) {
+        requireAllNonNull(query, index);
+        this.query = query;
+        this.index = index;
+        this.driver = driver;
+        this.estimate = estimate;
+        // a driver without a predicate finds exactly the items it holds for, so it need not be tested again
+        this.residuals = query.getConditions().stream()
+                .filter(condition -> condition != driver || condition.getPredicate().isPresent())
+                .sorted((first, second) -> Boolean.compare(
+                        first.getPredicate().isEmpty(), second.getPredicate().isEmpty()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the condition whose lookup the plan starts from, or an empty {@code Optional} if the plan goes through
+     * every item.
+     */
+    public Optional<Condition<T>> getDriver() {
+        return Optional.ofNullable(driver);
+    }
+
+    /**
+     * Returns the conditions that are tested on each item that the plan starts from, in the order they are tested.
+     */
+    public List<Condition<T>> getResiduals() {
+        return Collections.unmodifiableList(residuals);
+    }
+
+    /**
+     * Returns the number of items that the plan was estimated to start from when it was made.
+     */
+    public int getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Returns the ids of the items that the query matches, running the plan again if the items have changed since
+     * it last ran.
+     */
+    public Set<ID> getMatches() {
+        Object version = index.getVersion();
+        if (matches == null || !Objects.equals(version, matchesVersion)) {
+            matches = Collections.unmodifiableSet(run());
+            matchesVersion = version;
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean test(T item) {
+        return getMatches().contains(index.getId(item));
+    }
+
+    private Set<ID> run() {
+        Set<ID> found = new HashSet<>();
+        if (query.getConditions().isEmpty()) {
+            return found;
+        }
+
+        Collection<T> candidates = driver == null
+                ? index.getItems()
+                : index.lookup(driver.getLookup().get()).stream().map(index::getItem).collect(Collectors.toList());
+        // the lookups of conditions that cannot be tested on an item are only made once, for every candidate
+        Map<Condition<T>, Set<ID>> lookedUp = new HashMap<>();
+        for (T candidate : candidates) {
+            ID id = index.getId(candidate);
+            if (residuals.stream().allMatch(condition -> holds(condition, candidate, id, lookedUp))) {
+                found.add(id);
+            }
+        }
+        return found;
+    }
+
+    private boolean holds(Condition<T> condition, T item, ID id, Map<Condition<T>, Set<ID>> lookedUp) {
+        boolean isMet = condition.getPredicate().isPresent()
+                ? condition.getPredicate().get().test(item)
+                : lookedUp.computeIfAbsent(condition, c -> index.lookup(c.getLookup().get())).contains(id);
+        return isMet != condition.isNegated();
+    }
+
+    @Override
+    public String toString() {
+        String start = driver == null
+                ? "go through every item"
+                : String.format("look up %s (at most %d items)", driver.getLookup().get(), estimate);
+        if (residuals.isEmpty()) {
+            return start;
+        }
+        return start + ", then test "
+                + residuals.stream().map(Condition::toString).collect(Collectors.joining(", "));
+    }
+}
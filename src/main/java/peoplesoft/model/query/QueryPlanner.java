@@ -0,0 +1,36 @@
+package peoplesoft.model.query;
+
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * Plans how to find the items that a {@code Query} matches.
+ *
+ * Each condition that can be looked up, and is not negated, could drive the plan: the items that it looks up are
+ * the only items that can match, so only those need to be tested against the other conditions. The planner asks the
+ * index how many items each of those lookups would find, and drives the plan from the lookup that finds the fewest,
+ * unless that is not fewer than all the items, in which case every item is tested instead.
+ */
+public class QueryPlanner {
+
+    private QueryPlanner() {} // prevents instantiation
+
+    /**
+     * Returns a plan to find the items of {@code index} that {@code query} matches.
+     */
+    public static <T> QueryPlan<T> plan(Query<T> query, QueryIndex<T> index) {
+        requireAllNonNull(query, index);
+        Condition<T> driver = null;
+        int leastEstimate = index.getItems().size();
+        for (Condition<T> condition : query.getConditions()) {
+            if (!condition.canDrive()) {
+                continue;
+            }
+            int estimate = index.estimate(condition.getLookup().get());
+            if (estimate < leastEstimate) {
+                driver = condition;
+                leastEstimate = estimate;
+            }
+        }
+        return new QueryPlan<>(query, index, driver, leastEstimate);
+    }
+}
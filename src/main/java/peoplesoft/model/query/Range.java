@@ -0,0 +1,111 @@
+package peoplesoft.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.AppUtil.checkArgument;
+
+import java.math.BigDecimal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a range of amounts of money, such as the rates or the amounts due that a query filters by.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRange(String)}
+ */
+public class Range {
+    public static final String MESSAGE_CONSTRAINTS =
+            "Ranges should be an amount, MIN-MAX, or an amount after one of >, >=, < and <=, e.g. 10-20 or >=15";
+
+    private static final String NUMBER = "\\d+(?:\\.\\d+)?";
+    private static final Pattern COMPARISON_FORMAT = Pattern.compile("(>=|<=|>|<)?(" + NUMBER + ")");
+    private static final Pattern BETWEEN_FORMAT = Pattern.compile("(" + NUMBER + ")-(" + NUMBER + ")");
+
+    public final String value;
+
+    /** The least and greatest amounts of the range, or null if it is unbounded on that side. */
+    private final BigDecimal min;
+    private final BigDecimal max;
+    private final boolean isMinInclusive;
+    private final boolean isMaxInclusive;
+
+    /**
+     * Constructs a {@code Range}.
+     *
+     * @param value A valid range.
+     */
+    public Range(String value) {
+        requireNonNull(value);
+        checkArgument(isValidRange(value), MESSAGE_CONSTRAINTS);
+        this.value = value;
+
+        Matcher between = BETWEEN_FORMAT.matcher(value);
+        if (between.matches()) {
+            min = new BigDecimal(between.group(1));
+            max = new BigDecimal(between.group(2));
+            isMinInclusive = true;
+            isMaxInclusive = true;
+            return;
+        }
+
+        Matcher comparison = COMPARISON_FORMAT.matcher(value);
+        comparison.matches();
+        String operator = comparison.group(1) == null ? "" : comparison.group(1);
+        BigDecimal amount = new BigDecimal(comparison.group(2));
+        min = operator.startsWith("<") ? null : amount;
+        max = operator.startsWith(">") ? null : amount;
+        isMinInclusive = !operator.equals(">");
+        isMaxInclusive = !operator.equals("<");
+    }
+
+    /**
+     * Returns true if a given string is a valid range, and its least amount is not more than its greatest.
+     */
+    public static boolean isValidRange(String test) {
+        Matcher between = BETWEEN_FORMAT.matcher(test);
+        if (between.matches()) {
+            return new BigDecimal(between.group(1)).compareTo(new BigDecimal(between.group(2))) <= 0;
+        }
+        return COMPARISON_FORMAT.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code amount} is in the range.
+     */
+    public boolean contains(BigDecimal amount) {
+        requireNonNull(amount);
+        if (min != null) {
+            int sign = amount.compareTo(min);
+            if (sign < 0 || (sign == 0 && !isMinInclusive)) {
+                return false;
+            }
+        }
+        if (max != null) {
+            int sign = amount.compareTo(max);
+            return sign < 0 || (sign == 0 && isMaxInclusive);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if every amount in the range is more than zero.
+     */
+    public boolean isPositive() {
+        return min != null && (min.signum() > 0 || (min.signum() == 0 && !isMinInclusive));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Range // instanceof handles nulls
+                && value.equals(((Range) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,121 @@
+package peoplesoft.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the keywords of items to the ids of the items that have them, so that the items having
+ * every one of some keywords are found by intersecting the ids of each keyword, rather than by testing every item.
+ * Keywords are matched ignoring case.
+ *
+ * @param <T> the type of the items
+ */
+public class KeywordIndex<T> extends TermIndex<T> {
+    /**
+     * Maps each keyword, in lower case, to the ids of the items that have it.
+     */
+    private final Map<String, Set<ID>> idsByKeyword = new HashMap<>();
+
+    /**
+     * The keywords of the last {@link #find(Collection)}, and the ids that were found for them, until the index
+     * changes. Testing every item of a list against the same keywords then only intersects the ids once.
+     */
+    private Collection<String> lastKeywords;
+    private Set<ID> lastIds;
+
+    /**
+     * Constructs an empty {@code KeywordIndex} of the items that are identified by {@code idOf}, and have the
+     * keywords returned by {@code keywordsOf}.
+     */
+    public KeywordIndex(Function<T, ID> idOf, Function<T, Collection<String>> keywordsOf) {
+        super(idOf, keywordsOf);
+    }
+
+    /**
+     * Returns the ids of the items that have every one of {@code keywords}, ignoring case.
+     * No item is found if there are no keywords.
+     */
+    public synchronized Set<ID> find(Collection<String> keywords) {
+        requireNonNull(keywords);
+        addDeferred();
+        if (keywords.equals(lastKeywords)) {
+            return lastIds;
+        }
+
+        List<Set<ID>> postings = normalize(keywords).stream()
+                .map(keyword -> idsByKeyword.getOrDefault(keyword, Collections.emptySet()))
+                .sorted((first, second) -> Integer.compare(first.size(), second.size()))
+                .collect(Collectors.toList());
+
+        Set<ID> ids = new HashSet<>();
+        if (!postings.isEmpty()) {
+            // only the smallest posting list is walked
+            ids.addAll(postings.get(0));
+            for (int i = 1; i < postings.size() && !ids.isEmpty(); i++) {
+                ids.retainAll(postings.get(i));
+            }
+        }
+
+        lastKeywords = List.copyOf(keywords);
+        lastIds = Collections.unmodifiableSet(ids);
+        return lastIds;
+    }
+
+    /**
+     * Returns the ids of the items that have any of {@code keywords}, ignoring case.
+     */
+    public synchronized Set<ID> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        addDeferred();
+        Set<ID> ids = new HashSet<>();
+        for (String keyword : normalize(keywords)) {
+            ids.addAll(idsByKeyword.getOrDefault(keyword, Collections.emptySet()));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of items that have {@code keyword}, ignoring case, without finding them.
+     */
+    public synchronized int count(String keyword) {
+        requireNonNull(keyword);
+        addDeferred();
+        return idsByKeyword.getOrDefault(keyword.toLowerCase(Locale.ROOT), Collections.emptySet()).size();
+    }
+
+    @Override
+    protected void indexTerms(ID id, Set<String> keywords) {
+        lastKeywords = null;
+        for (String keyword : keywords) {
+            idsByKeyword.computeIfAbsent(keyword, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    @Override
+    protected void unindexTerms(ID id, Set<String> keywords) {
+        lastKeywords = null;
+        for (String keyword : keywords) {
+            Set<ID> ids = idsByKeyword.get(keyword);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByKeyword.remove(keyword);
+            }
+        }
+    }
+
+    @Override
+    protected void clearTerms() {
+        idsByKeyword.clear();
+        lastKeywords = null;
+    }
+}
@@ -0,0 +1,265 @@
+package peoplesoft.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An index of the terms of items that finds the items with terms that start with a keyword, or nearly do, and
+ * scores how well each item matches, so that the best matches can be shown first.
+ * Keywords are matched ignoring case.
+ *
+ * Terms are kept sorted, so that the terms starting with a keyword are a range of the terms, like the subtree of a
+ * trie. Terms are also indexed by their trigrams, so that the terms that are only a few typing mistakes away from
+ * a keyword are found among the terms that share most of its trigrams, rather than among all the terms.
+ *
+ * @param <T> the type of the items
+ */
+public class SearchIndex<T> extends TermIndex<T> {
+    /** Score of a term that is the keyword. */
+    public static final double EXACT_SCORE = 1.0;
+
+    /** Least score of a term that starts with the keyword, which is higher the more of the term the keyword is. */
+    public static final double PREFIX_SCORE = 0.5;
+
+    /** Greatest score of a term that starts with the keyword after fixing its typing mistakes. */
+    public static final double FUZZY_SCORE = 0.25;
+
+    /** Keywords of at least this length are matched with one typing mistake. */
+    private static final int ONE_EDIT_LENGTH = 4;
+
+    /** Keywords of at least this length are matched with two typing mistakes. */
+    private static final int TWO_EDITS_LENGTH = 8;
+
+    /** Pads the start of terms, so that the first letters of a term make trigrams of their own. */
+    private static final String PADDING = "$$";
+
+    /**
+     * Maps each term, in lower case, to the ids of the items that have it, sorted by term.
+     */
+    private final TreeMap<String, Set<ID>> idsByTerm = new TreeMap<>();
+
+    /**
+     * Maps each trigram of the padded terms to the terms that have it.
+     */
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+
+    /**
+     * The keywords of the last {@link #search(Collection)}, and the scores that were found for them, until the index
+     * changes. Testing and sorting every item of a list by the same keywords then only searches once.
+     */
+    private Collection<String> lastKeywords;
+    private Map<ID, Double> lastScores;
+
+    /**
+     * Constructs an empty {@code SearchIndex} of the items that are identified by {@code idOf}, and have the terms
+     * returned by {@code termsOf}.
+     */
+    public SearchIndex(Function<T, ID> idOf, Function<T, Collection<String>> termsOf) {
+        super(idOf, termsOf);
+    }
+
+    /**
+     * Returns the scores of the items that have a term matching every one of {@code keywords}, by the ids of the
+     * items. The score of an item is the sum of the scores of the best matching term for each keyword.
+     * No item is found if there are no keywords.
+     */
+    public synchronized Map<ID, Double> search(Collection<String> keywords) {
+        requireNonNull(keywords);
+        addDeferred();
+        if (keywords.equals(lastKeywords)) {
+            return lastScores;
+        }
+
+        Map<ID, Double> scores = null;
+        for (String keyword : normalize(keywords)) {
+            Map<ID, Double> keywordScores = searchKeyword(keyword);
+            if (scores == null) {
+                scores = keywordScores;
+            } else {
+                scores.keySet().retainAll(keywordScores.keySet());
+                scores.replaceAll((id, score) -> score + keywordScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+
+        lastKeywords = List.copyOf(keywords);
+        lastScores = scores == null ? Collections.emptyMap() : Collections.unmodifiableMap(scores);
+        return lastScores;
+    }
+
+    /**
+     * Returns the scores of the items with a term matching {@code keyword}, by the ids of the items.
+     */
+    private Map<ID, Double> searchKeyword(String keyword) {
+        Map<ID, Double> scores = new HashMap<>();
+        for (Map.Entry<String, Set<ID>> entry : idsByTerm.subMap(keyword, keyword + Character.MAX_VALUE).entrySet()) {
+            String term = entry.getKey();
+            addScore(scores, entry.getValue(), term.length() == keyword.length()
+                    ? EXACT_SCORE
+                    : PREFIX_SCORE + (EXACT_SCORE - PREFIX_SCORE) / 2 * keyword.length() / term.length());
+        }
+
+        int maxEdits = getMaxEdits(keyword);
+        if (maxEdits == 0) {
+            return scores;
+        }
+        Set<String> trigrams = getTrigrams(keyword);
+        // each typing mistake changes at most four trigrams of the keyword, when two letters are swapped
+        int minSharedTrigrams = trigrams.size() - 4 * maxEdits;
+        Map<String, Integer> candidates = countSharedTrigrams(trigrams);
+        if (minSharedTrigrams <= 0) {
+            // swapping the first two letters of a short keyword changes all of its trigrams, so the terms that
+            // start with either of them are candidates too
+            for (String first : List.of(keyword.substring(0, 1), keyword.substring(1, 2))) {
+                idsByTerm.subMap(first, first + Character.MAX_VALUE).keySet()
+                        .forEach(term -> candidates.putIfAbsent(term, 0));
+            }
+        }
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            String term = candidate.getKey();
+            if (candidate.getValue() < minSharedTrigrams || term.startsWith(keyword)) {
+                continue;
+            }
+            int edits = getPrefixEditDistance(keyword, term, maxEdits);
+            if (edits <= maxEdits) {
+                addScore(scores, idsByTerm.get(term), FUZZY_SCORE * (maxEdits + 1 - edits) / maxEdits);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Records {@code score} for each of {@code ids}, unless a higher score is recorded for it already.
+     */
+    private static void addScore(Map<ID, Double> scores, Set<ID> ids, double score) {
+        for (ID id : ids) {
+            scores.merge(id, score, Math::max);
+        }
+    }
+
+    /**
+     * Returns the number of {@code trigrams} that each term has, for the terms that have any.
+     */
+    private Map<String, Integer> countSharedTrigrams(Set<String> trigrams) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String term : termsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                counts.merge(term, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of typing mistakes that {@code keyword} may have, which is more for longer keywords.
+     */
+    private static int getMaxEdits(String keyword) {
+        if (keyword.length() >= TWO_EDITS_LENGTH) {
+            return 2;
+        }
+        return keyword.length() >= ONE_EDIT_LENGTH ? 1 : 0;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code term}, padded at its start.
+     */
+    private static Set<String> getTrigrams(String term) {
+        String padded = PADDING + term;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the least number of insertions, deletions, substitutions and swaps of adjacent characters that turn
+     * {@code keyword} into a prefix of {@code term}, or a number more than {@code maxEdits} if it is more.
+     */
+    static int getPrefixEditDistance(String keyword, String term, int maxEdits) {
+        int columns = Math.min(term.length(), keyword.length() + maxEdits) + 1;
+        int[] beforePrevious = new int[columns];
+        int[] previous = new int[columns];
+        int[] current = new int[columns];
+        for (int j = 0; j < columns; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= keyword.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j < columns; j++) {
+                int cost = keyword.charAt(i - 1) == term.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && keyword.charAt(i - 1) == term.charAt(j - 2)
+                        && keyword.charAt(i - 2) == term.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return rowMin;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+
+        int distance = Integer.MAX_VALUE;
+        for (int cell : previous) {
+            distance = Math.min(distance, cell);
+        }
+        return distance;
+    }
+
+    @Override
+    protected void indexTerms(ID id, Set<String> terms) {
+        lastKeywords = null;
+        for (String term : terms) {
+            idsByTerm.computeIfAbsent(term, t -> {
+                getTrigrams(t).forEach(trigram ->
+                        termsByTrigram.computeIfAbsent(trigram, k -> new HashSet<>()).add(t));
+                return new HashSet<>();
+            }).add(id);
+        }
+    }
+
+    @Override
+    protected void unindexTerms(ID id, Set<String> terms) {
+        lastKeywords = null;
+        for (String term : terms) {
+            Set<ID> ids = idsByTerm.get(term);
+            ids.remove(id);
+            if (!ids.isEmpty()) {
+                continue;
+            }
+            idsByTerm.remove(term);
+            for (String trigram : getTrigrams(term)) {
+                Set<String> trigramTerms = termsByTrigram.get(trigram);
+                trigramTerms.remove(term);
+                if (trigramTerms.isEmpty()) {
+                    termsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void clearTerms() {
+        idsByTerm.clear();
+        termsByTrigram.clear();
+        lastKeywords = null;
+    }
+}
@@ -0,0 +1,113 @@
+package peoplesoft.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of an observable list, which is in the order of the list, or sorted while a comparator is set.
+ *
+ * Unlike a {@code SortedList}, which gets every element of its source and keeps it, this view only gets the elements
+ * of its source that are asked for while no comparator is set. A list that builds its elements when they are asked
+ * for, such as the persons of a mapped address book, is then not built in full by being viewed. While a comparator is
+ * set, every element of the source is kept in sorted order, so the source should then be small, such as the matches
+ * of a search.
+ *
+ * @param <E> the type of the elements
+ */
+public class SortableList<E> extends ObservableListBase<E> {
+    private final ObservableList<E> source;
+    private Comparator<? super E> comparator;
+
+    /**
+     * The elements of the source in sorted order, or null while no comparator is set.
+     */
+    private List<E> sortedElements;
+
+    /**
+     * Constructs a view of {@code source}, in the order of {@code source}.
+     */
+    public SortableList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, or brings back the order of the source if {@code comparator} is null.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        if (comparator == null && this.comparator == null) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(this);
+        this.comparator = comparator;
+        sortedElements = comparator == null ? null : sort();
+
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+
+    public Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    public E get(int index) {
+        return sortedElements != null ? sortedElements.get(index) : source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private List<E> sort() {
+        List<E> sorted = new ArrayList<>(source);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    /**
+     * Passes on the changes of the source while no comparator is set, and sorts the source again otherwise.
+     */
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        if (sortedElements != null) {
+            List<E> removed = sortedElements;
+            sortedElements = sort();
+            nextReplace(0, size(), removed);
+            endChange();
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+}
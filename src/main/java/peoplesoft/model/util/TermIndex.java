@@ -0,0 +1,175 @@
+package peoplesoft.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Records the terms of items by the ids of the items, for indexes that look items up by their terms.
+ * Terms are recorded in lower case, so that they are matched ignoring case.
+ *
+ * An index is derived from the items, so it has to be told whenever an item is added, replaced or removed, such
+ * as by registering it as a listener of the list of items. The methods of an index are synchronized on the index, so
+ * that it can be looked up from another thread while it is being told of changes.
+ *
+ * @param <T> the type of the items
+ */
+public abstract class TermIndex<T> implements ListChangeListener<T> {
+    private final Function<T, ID> idOf;
+    private final Function<T, Collection<String>> termsOf;
+
+    /**
+     * Maps the id of each item to its terms, in lower case, so that they can be removed from the index.
+     */
+    private final Map<ID, Set<String>> termsById = new HashMap<>();
+
+    /**
+     * Maps the id of each item to the item, so that an item that is recorded already is not split into terms
+     * again, such as when the rest of a list is replaced.
+     */
+    private final Map<ID, T> itemsById = new HashMap<>();
+
+    /**
+     * Items whose terms are to be recorded before the index is next used, or null if there are none.
+     */
+    private Collection<? extends T> deferredItems;
+
+    /**
+     * Constructs an empty index of the items that are identified by {@code idOf}, and have the terms returned by
+     * {@code termsOf}.
+     */
+    protected TermIndex(Function<T, ID> idOf, Function<T, Collection<String>> termsOf) {
+        requireNonNull(idOf);
+        requireNonNull(termsOf);
+        this.idOf = idOf;
+        this.termsOf = termsOf;
+    }
+
+    /**
+     * Replaces the terms recorded for the item with the id of {@code item} with its terms.
+     */
+    public synchronized void add(T item) {
+        requireNonNull(item);
+        addDeferred();
+        ID id = idOf.apply(item);
+        if (itemsById.get(id) == item) {
+            return;
+        }
+        remove(id);
+
+        Set<String> terms = normalize(termsOf.apply(item));
+        itemsById.put(id, item);
+        termsById.put(id, terms);
+        indexTerms(id, terms);
+    }
+
+    /**
+     * Replaces the terms recorded for each of {@code items}.
+     */
+    public synchronized void addAll(Collection<? extends T> items) {
+        requireNonNull(items);
+        items.forEach(this::add);
+    }
+
+    /**
+     * Records the terms of each of {@code items} the next time the index is used, rather than now, so that the
+     * thread that first looks up the index splits the items into terms. {@code items} must not change.
+     */
+    public synchronized void addAllLater(Collection<? extends T> items) {
+        requireNonNull(items);
+        addDeferred();
+        deferredItems = items;
+    }
+
+    /**
+     * Records the terms of the items given to {@link #addAllLater(Collection)}, if any have yet to be recorded.
+     * Lookups call this before using the recorded terms.
+     */
+    protected synchronized void addDeferred() {
+        if (deferredItems == null) {
+            return;
+        }
+        Collection<? extends T> items = deferredItems;
+        deferredItems = null;
+        items.forEach(this::add);
+    }
+
+    /**
+     * Removes the terms recorded for the item with the given id, if any.
+     */
+    public synchronized void remove(ID id) {
+        requireNonNull(id);
+        addDeferred();
+        Set<String> terms = termsById.remove(id);
+        if (terms == null) {
+            return;
+        }
+        itemsById.remove(id);
+        unindexTerms(id, terms);
+    }
+
+    /**
+     * Removes every item from the index.
+     */
+    public synchronized void clear() {
+        deferredItems = null;
+        termsById.clear();
+        itemsById.clear();
+        clearTerms();
+    }
+
+    @Override
+    public synchronized void onChanged(Change<? extends T> change) {
+        addDeferred();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            // an item that is replaced by an item with the same id is only re-recorded if it changed
+            Set<ID> addedIds = new HashSet<>();
+            for (T item : change.getAddedSubList()) {
+                add(item);
+                addedIds.add(idOf.apply(item));
+            }
+            for (T item : change.getRemoved()) {
+                ID id = idOf.apply(item);
+                if (!addedIds.contains(id)) {
+                    remove(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the item with the given id under each of its {@code terms}, which are in lower case.
+     */
+    protected abstract void indexTerms(ID id, Set<String> terms);
+
+    /**
+     * Removes the item with the given id from under each of its {@code terms}, which are in lower case.
+     */
+    protected abstract void unindexTerms(ID id, Set<String> terms);
+
+    /**
+     * Removes every item from under every term.
+     */
+    protected abstract void clearTerms();
+
+    /**
+     * Returns the distinct {@code terms} in lower case.
+     */
+    protected static Set<String> normalize(Collection<String> terms) {
+        return terms.stream()
+                .map(term -> term.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,178 @@
+package peoplesoft.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import peoplesoft.commons.core.LogsCenter;
+import peoplesoft.model.AddressBookSnapshot;
+import peoplesoft.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} in the background.
+ *
+ * Saves that are submitted while an earlier save is still waiting to be written are coalesced, so that only the
+ * most recently submitted address book is written. Submitted address books must not change after they are
+ * submitted. An address book can also be submitted as a {@code Supplier}, which is only asked for the address book
+ * by the thread that writes it, so that a snapshot can be taken there rather than by the thread that submits it.
+ * Failures are kept until they are retrieved with {@link #pollFailure()} or {@link #flush()}.
+ *
+ * An address book whose save failed is kept until a later save succeeds, so that it can be saved again with
+ * {@link #retry()} or {@link #flush()} rather than being lost.
+ */
+public class AddressBookSaveQueue {
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveQueue.class);
+
+    private final AddressBookStorage storage;
+    private final Executor executor;
+
+    /**
+     * The address book waiting to be written, if any.
+     */
+    private final AtomicReference<Supplier<? extends ReadOnlyAddressBook>> pending = new AtomicReference<>();
+
+    /**
+     * The failure of the most recent failed save that has not been retrieved, if any.
+     */
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    /**
+     * The address book of the most recent failed save, if no save has succeeded since.
+     */
+    private final AtomicReference<Supplier<? extends ReadOnlyAddressBook>> unsaved = new AtomicReference<>();
+
+    /**
+     * The address book that was submitted most recently, if any.
+     */
+    private final AtomicReference<Supplier<? extends ReadOnlyAddressBook>> latest = new AtomicReference<>();
+
+    /**
+     * The latest version of the changes held by a snapshot that was saved, or 0 if there is none.
+     */
+    private final AtomicLong savedVersion = new AtomicLong();
+
+    /**
+     * Creates an {@code AddressBookSaveQueue} that writes to {@code storage} on its own background thread.
+     */
+    public AddressBookSaveQueue(AddressBookStorage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates an {@code AddressBookSaveQueue} that writes to {@code storage} using {@code executor}.
+     * {@code executor} must run tasks one at a time, in the order that they are submitted.
+     */
+    public AddressBookSaveQueue(AddressBookStorage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Queues {@code addressBook} to be saved, replacing any address book that is still waiting to be written.
+     */
+    public void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        submit(() -> addressBook);
+    }
+
+    /**
+     * Queues the address book returned by {@code addressBook} to be saved, replacing any address book that is still
+     * waiting to be written. {@code addressBook} is asked for the address book by the thread that writes it, and is
+     * not asked at all if it is replaced before then.
+     */
+    public void submit(Supplier<? extends ReadOnlyAddressBook> addressBook) {
+        requireNonNull(addressBook);
+        latest.set(addressBook);
+        // only schedule a write if there is none waiting, the waiting one will pick up the newer address book
+        if (pending.getAndSet(addressBook) == null) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        Supplier<? extends ReadOnlyAddressBook> submitted = pending.getAndSet(null);
+        if (submitted == null) {
+            return;
+        }
+
+        ReadOnlyAddressBook addressBook = submitted.get();
+        try {
+            storage.saveAddressBook(addressBook);
+            if (addressBook instanceof AddressBookSnapshot) {
+                ((AddressBookSnapshot) addressBook).getChanges()
+                        .ifPresent(changes -> savedVersion.accumulateAndGet(changes.getVersion(), Math::max));
+            }
+            // address books are submitted in order, so a later save holds the changes of an earlier failed one
+            unsaved.set(null);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book: " + ioe);
+            unsaved.set(submitted);
+            failure.set(ioe);
+        }
+    }
+
+    /**
+     * Queues the address book of the most recent failed save to be saved again, unless a save has succeeded since,
+     * or a newer address book was submitted after it, which holds its changes and will be written instead.
+     */
+    public void retry() {
+        Supplier<? extends ReadOnlyAddressBook> addressBook = unsaved.get();
+        if (addressBook != null && addressBook == latest.get() && pending.compareAndSet(null, addressBook)) {
+            logger.info("Retrying failed save of address book");
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Returns the latest version of the changes held by a snapshot that was saved, or 0 if no such snapshot was
+     * saved. Every change up to that version has been saved, as long as each snapshot holds all the changes since
+     * the last one that was saved.
+     */
+    public long getSavedVersion() {
+        return savedVersion.get();
+    }
+
+    /**
+     * Returns and clears the failure of the most recent failed save, if any.
+     */
+    public Optional<IOException> pollFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Waits until every submitted address book has been written, saving the address book of the most recent failed
+     * save again first if no save has succeeded since.
+     *
+     * @throws IOException If a save failed and its failure has not been retrieved yet, or if interrupted.
+     */
+    public void flush() throws IOException {
+        retry();
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        }
+
+        Optional<IOException> ioe = pollFailure();
+        if (ioe.isPresent()) {
+            throw ioe.get();
+        }
+    }
+}
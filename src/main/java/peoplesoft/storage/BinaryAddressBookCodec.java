@@ -0,0 +1,793 @@
+package peoplesoft.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.commons.exceptions.IllegalValueException;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.AddressBookSnapshot;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
+import peoplesoft.model.money.Rate;
+import peoplesoft.model.person.Address;
+import peoplesoft.model.person.Email;
+import peoplesoft.model.person.LazyPersonList;
+import peoplesoft.model.person.Name;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.person.PersonStore;
+import peoplesoft.model.person.Phone;
+import peoplesoft.model.person.exceptions.PersonNotFoundException;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.util.ID;
+
+/**
+ * Reads and writes address books in a compact, versioned binary format.
+ *
+ * A file starts with {@link #MAGIC} and the format version, followed by length-prefixed records that each start
+ * with their type. The last record holds the CRC-32 checksum of everything before it, so that truncated or
+ * corrupted files are detected. Records of unknown types are skipped, so that later versions can add records
+ * that this version ignores.
+ *
+ * Ids and tags are written once, in a symbol table at the start of the file, and are referred to by their index
+ * elsewhere, so that equal ids share a single instance when read. Whole numbers are written as variable-length
+ * quantities, and money as a fixed-point number of micro-units.
+ *
+ * When an address book that was mapped from a snapshot is written, the persons that are unchanged since then are
+ * copied from their records in the mapped snapshot rather than built. The symbol table then starts with the
+ * symbols of the mapped snapshot in the same order, so that the copied records stay valid, which keeps the
+ * symbols of removed persons and jobs until the address book is written from scratch.
+ */
+final class BinaryAddressBookCodec {
+    static final byte[] MAGIC = {'P', 'S', 'A', 'B'};
+    static final int FORMAT_VERSION = 1;
+
+    private static final int MAX_RECORD_LENGTH = 16 * 1024 * 1024;
+
+    private static final int RECORD_END = 0;
+    private static final int RECORD_SYMBOLS = 1;
+    private static final int RECORD_ID_STATE = 2;
+    private static final int RECORD_PERSON = 3;
+    private static final int RECORD_JOB = 4;
+    private static final int RECORD_EMPLOYMENT = 5;
+
+    private static final int MONEY_MICROS = 0;
+    private static final int MONEY_DECIMAL = 1;
+
+    private static final int JOB_HAS_PAID = 1;
+    private static final int JOB_IS_FINAL = 1 << 1;
+
+    private BinaryAddressBookCodec() {}
+
+    /**
+     * Writes {@code snapshot} to {@code out}.
+     */
+    static void write(AddressBookSnapshot snapshot, OutputStream out) throws IOException {
+        CRC32 crc = new CRC32();
+        OutputStream checkedOut = new CheckedOutputStream(out, crc);
+        LazyPersonList.PersonsCopy storedPersons = snapshot.getStoredPersons()
+                .filter(persons -> persons.getStore() instanceof MappedPersonStore)
+                .filter(persons -> ((MappedPersonStore) persons.getStore()).canCopyRecords())
+                .orElse(null);
+        Map<String, Integer> symbols = collectSymbols(snapshot, storedPersons);
+        RecordWriter record = new RecordWriter();
+
+        checkedOut.write(MAGIC);
+        checkedOut.write(FORMAT_VERSION);
+
+        record.start(RECORD_SYMBOLS);
+        record.writeVarInt(symbols.size());
+        for (String symbol : symbols.keySet()) {
+            record.writeString(symbol);
+        }
+        record.writeTo(checkedOut);
+
+        record.start(RECORD_ID_STATE);
+        record.writeZigZag(snapshot.getJobIdState());
+        record.writeZigZag(snapshot.getPersonIdState());
+        record.writeTo(checkedOut);
+
+        List<Person> persons = storedPersons != null ? storedPersons : snapshot.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            if (storedPersons != null && storedPersons.isStored(i)) {
+                ((MappedPersonStore) storedPersons.getStore()).writeRecord(storedPersons.getPersonId(i), checkedOut);
+                continue;
+            }
+            record.start(RECORD_PERSON);
+            writePerson(record, persons.get(i), symbols);
+            record.writeTo(checkedOut);
+        }
+
+        for (Job job : snapshot.getJobList()) {
+            record.start(RECORD_JOB);
+            writeJob(record, job, symbols);
+            record.writeTo(checkedOut);
+        }
+
+        for (Map.Entry<ID, Set<ID>> e : snapshot.getEmployment().entrySet()) {
+            record.start(RECORD_EMPLOYMENT);
+            record.writeVarInt(symbols.get(e.getKey().value));
+            record.writeVarInt(e.getValue().size());
+            for (ID personId : e.getValue()) {
+                record.writeVarInt(symbols.get(personId.value));
+            }
+            record.writeTo(checkedOut);
+        }
+
+        record.start(RECORD_END);
+        record.writeInt((int) crc.getValue());
+        record.writeTo(checkedOut);
+        checkedOut.flush();
+    }
+
+    /**
+     * Returns the symbols of {@code snapshot}, each mapped to its index. If {@code storedPersons} is not null, the
+     * symbols start with those of its {@code MappedPersonStore}, and the symbols of the persons that are unchanged
+     * from the store are not collected again.
+     */
+    private static Map<String, Integer> collectSymbols(AddressBookSnapshot snapshot,
+            LazyPersonList.PersonsCopy storedPersons) {
+        Map<String, Integer> symbols = new LinkedHashMap<>();
+        List<Person> persons = snapshot.getPersonList();
+        if (storedPersons != null) {
+            for (String symbol : ((MappedPersonStore) storedPersons.getStore()).reader.symbols) {
+                symbols.put(symbol, symbols.size());
+            }
+            persons = new ArrayList<>();
+            for (int i = 0; i < storedPersons.size(); i++) {
+                if (!storedPersons.isStored(i)) {
+                    persons.add(storedPersons.get(i));
+                }
+            }
+        }
+        for (Person person : persons) {
+            symbols.putIfAbsent(person.getPersonId().value, symbols.size());
+            for (Tag tag : person.getTags()) {
+                symbols.putIfAbsent(tag.tagName, symbols.size());
+            }
+            for (ID jobId : person.getPayments().keySet()) {
+                symbols.putIfAbsent(jobId.value, symbols.size());
+            }
+        }
+        for (Job job : snapshot.getJobList()) {
+            symbols.putIfAbsent(job.getJobId().value, symbols.size());
+        }
+        for (Map.Entry<ID, Set<ID>> e : snapshot.getEmployment().entrySet()) {
+            symbols.putIfAbsent(e.getKey().value, symbols.size());
+            for (ID personId : e.getValue()) {
+                symbols.putIfAbsent(personId.value, symbols.size());
+            }
+        }
+        return symbols;
+    }
+
+    private static void writePerson(RecordWriter record, Person person, Map<String, Integer> symbols) {
+        record.writeVarInt(symbols.get(person.getPersonId().value));
+        record.writeString(person.getName().fullName);
+        record.writeString(person.getPhone().value);
+        record.writeString(person.getEmail().value);
+        record.writeString(person.getAddress().value);
+        writeMoney(record, person.getRate().getAmount());
+        writeDuration(record, person.getRate().getDuration());
+
+        record.writeVarInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            record.writeVarInt(symbols.get(tag.tagName));
+        }
+
+        record.writeVarInt(person.getPayments().size());
+        for (Payment payment : person.getPayments().values()) {
+            record.writeVarInt(symbols.get(payment.getJobId().value));
+            writeMoney(record, payment.getAmount());
+            record.writeByte(payment.isCompleted() ? 1 : 0);
+        }
+    }
+
+    private static void writeJob(RecordWriter record, Job job, Map<String, Integer> symbols) {
+        record.writeVarInt(symbols.get(job.getJobId().value));
+        record.writeString(job.getDesc());
+        writeDuration(record, job.getDuration());
+        record.writeByte((job.hasPaid() ? JOB_HAS_PAID : 0) | (job.isFinal() ? JOB_IS_FINAL : 0));
+    }
+
+    private static void writeMoney(RecordWriter record, Money money) {
+        OptionalLong micros = money.getMicros();
+        if (micros.isPresent()) {
+            record.writeByte(MONEY_MICROS);
+            record.writeZigZag(micros.getAsLong());
+        } else {
+            record.writeByte(MONEY_DECIMAL);
+            record.writeString(money.getValue().toPlainString());
+        }
+    }
+
+    private static void writeDuration(RecordWriter record, Duration duration) {
+        record.writeZigZag(duration.getSeconds());
+        record.writeVarInt(duration.getNano());
+    }
+
+    /**
+     * Reads an address book from {@code in}. Like reading a json address book, this also sets the
+     * {@code Employment} instance and the id states to those that were saved with the address book.
+     *
+     * @throws DataConversionException if the data is not in the expected format.
+     * @throws IOException if there was any problem when reading from {@code in}.
+     */
+    static AddressBook read(InputStream in) throws DataConversionException, IOException {
+        CRC32 crc = new CRC32();
+        InputStream checkedIn = new CheckedInputStream(in, crc);
+
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            readFully(checkedIn, magic, magic.length);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw malformed("Not an address book snapshot");
+            }
+            int version = readByte(checkedIn);
+            if (version != FORMAT_VERSION) {
+                throw malformed("Unsupported address book snapshot version " + version);
+            }
+
+            Reader reader = new Reader();
+            RecordReader record = new RecordReader();
+            while (true) {
+                long expectedCrc = crc.getValue();
+                int length = readVarInt(checkedIn);
+                if (length < 1 || length > MAX_RECORD_LENGTH) {
+                    throw malformed("Invalid record length " + length);
+                }
+
+                int type = record.readFrom(checkedIn, length);
+                if (type == RECORD_END) {
+                    if (record.readInt() != (int) expectedCrc) {
+                        throw malformed("Checksum mismatch");
+                    }
+                    return reader.build();
+                }
+                reader.readRecord(type, record);
+            }
+        } catch (EOFException e) {
+            throw new DataConversionException(e);
+        } catch (RuntimeException e) {
+            // invalid field values, or duplicate persons or jobs
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads an address book from the snapshot in {@code buffer}, such as a file that is mapped into memory.
+     * Unlike {@link #read(InputStream)}, each person is left in {@code buffer} until it is asked for, and only the
+     * {@code cacheSize} most recently used persons are kept once built. Jobs, the {@code Employment} associations and
+     * the id states are read at once, and set like in {@link #read(InputStream)}.
+     * The contents of {@code buffer} must not change while the address book is in use.
+     *
+     * @throws DataConversionException if the data is not in the expected format.
+     */
+    static AddressBook map(ByteBuffer buffer, int cacheSize) throws DataConversionException {
+        ByteBuffer in = buffer.duplicate();
+
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            if (in.remaining() <= magic.length) {
+                throw malformed("Not an address book snapshot");
+            }
+            in.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw malformed("Not an address book snapshot");
+            }
+            int version = in.get() & 0xFF;
+            if (version != FORMAT_VERSION) {
+                throw malformed("Unsupported address book snapshot version " + version);
+            }
+
+            Reader reader = new Reader();
+            RecordReader record = new RecordReader();
+            List<ID> personIds = new ArrayList<>();
+            Map<ID, Integer> offsetsById = new HashMap<>();
+            while (true) {
+                int recordStart = in.position();
+                int length = readVarInt(in);
+                if (length < 1 || length > MAX_RECORD_LENGTH) {
+                    throw malformed("Invalid record length " + length);
+                }
+
+                int type = record.readFrom(buffer, in.position(), length);
+                if (type == RECORD_END) {
+                    CRC32 crc = new CRC32();
+                    crc.update(buffer.duplicate().limit(recordStart).position(0));
+                    if (record.readInt() != (int) crc.getValue()) {
+                        throw malformed("Checksum mismatch");
+                    }
+                    return reader.build(new MappedPersonStore(buffer, reader, personIds, offsetsById, cacheSize));
+                }
+                if (type == RECORD_PERSON) {
+                    // only the id is read, to index the record
+                    ID personId = reader.id(record.readVarInt());
+                    if (offsetsById.put(personId, recordStart) != null) {
+                        throw malformed("Duplicate person " + personId);
+                    }
+                    personIds.add(personId);
+                } else {
+                    reader.readRecord(type, record);
+                }
+                in.position(in.position() + length);
+            }
+        } catch (RuntimeException e) {
+            // invalid field values, or duplicate jobs
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static DataConversionException malformed(String message) {
+        return new DataConversionException(new IllegalValueException(message));
+    }
+
+    /**
+     * Builds an address book from the records of a file, in the order that they are read.
+     */
+    private static class Reader {
+        private String[] symbols = new String[0];
+        private ID[] ids = new ID[0];
+        private Tag[] tags = new Tag[0];
+
+        private int jobIdState;
+        private int personIdState;
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Job> jobs = new ArrayList<>();
+        private final Map<ID, Set<ID>> employment = new HashMap<>();
+
+        void readRecord(int type, RecordReader record) throws DataConversionException {
+            switch (type) {
+            case RECORD_SYMBOLS:
+                symbols = new String[record.readVarInt()];
+                for (int i = 0; i < symbols.length; i++) {
+                    symbols[i] = record.readString();
+                }
+                ids = new ID[symbols.length];
+                tags = new Tag[symbols.length];
+                break;
+            case RECORD_ID_STATE:
+                jobIdState = Math.max((int) record.readZigZag(), 0);
+                personIdState = Math.max((int) record.readZigZag(), 0);
+                break;
+            case RECORD_PERSON:
+                persons.add(readPerson(record));
+                break;
+            case RECORD_JOB:
+                jobs.add(readJob(record));
+                break;
+            case RECORD_EMPLOYMENT:
+                ID jobId = id(record.readVarInt());
+                int count = record.readVarInt();
+                Set<ID> personIds = new HashSet<>();
+                for (int i = 0; i < count; i++) {
+                    personIds.add(id(record.readVarInt()));
+                }
+                employment.put(jobId, personIds);
+                break;
+            default:
+                // written by a later version, and not needed by this one
+                break;
+            }
+        }
+
+        private Person readPerson(RecordReader record) throws DataConversionException {
+            ID id = id(record.readVarInt());
+            Name name = new Name(record.readString());
+            Phone phone = new Phone(record.readString());
+            Email email = new Email(record.readString());
+            Address address = new Address(record.readString());
+            Rate rate = new Rate(readMoney(record), readDuration(record));
+
+            int tagCount = record.readVarInt();
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(tag(record.readVarInt()));
+            }
+
+            int paymentCount = record.readVarInt();
+            Map<ID, Payment> payments = new HashMap<>();
+            for (int i = 0; i < paymentCount; i++) {
+                ID jobId = id(record.readVarInt());
+                Money amount = readMoney(record);
+                boolean isCompleted = record.readByte() != 0;
+                if (payments.put(jobId, Payment.restorePayment(id, jobId, amount, isCompleted)) != null) {
+                    throw malformed("Duplicate payment for job " + jobId + " of person " + id);
+                }
+            }
+
+            return new Person(id, name, phone, email, address, rate, personTags, payments);
+        }
+
+        private Job readJob(RecordReader record) throws DataConversionException {
+            ID jobId = id(record.readVarInt());
+            String desc = record.readString();
+            Duration duration = readDuration(record);
+            int flags = record.readByte();
+            return new Job(jobId, desc, duration, (flags & JOB_HAS_PAID) != 0, (flags & JOB_IS_FINAL) != 0);
+        }
+
+        private Money readMoney(RecordReader record) throws DataConversionException {
+            int kind = record.readByte();
+            switch (kind) {
+            case MONEY_MICROS:
+                return Money.ofMicros(record.readZigZag());
+            case MONEY_DECIMAL:
+                String value = record.readString();
+                if (!Money.isValidMoneyString(value)) {
+                    throw malformed("Invalid money value " + value);
+                }
+                return new Money(new BigDecimal(value));
+            default:
+                throw malformed("Unknown money encoding " + kind);
+            }
+        }
+
+        private Duration readDuration(RecordReader record) throws DataConversionException {
+            long seconds = record.readZigZag();
+            return Duration.ofSeconds(seconds, record.readVarInt());
+        }
+
+        private ID id(int index) throws DataConversionException {
+            checkSymbol(index);
+            if (ids[index] == null) {
+                ids[index] = new ID(symbols[index]);
+            }
+            return ids[index];
+        }
+
+        private Tag tag(int index) throws DataConversionException {
+            checkSymbol(index);
+            if (tags[index] == null) {
+                tags[index] = new Tag(symbols[index]);
+            }
+            return tags[index];
+        }
+
+        private void checkSymbol(int index) throws DataConversionException {
+            if (index >= symbols.length) {
+                throw malformed("Unknown symbol " + index);
+            }
+        }
+
+        AddressBook build() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            addressBook.setJobs(jobs);
+            setGlobalState();
+            return addressBook;
+        }
+
+        /**
+         * Builds an address book with the persons in {@code personStore}, instead of the persons that were read.
+         */
+        AddressBook build(PersonStore personStore) {
+            AddressBook addressBook = new AddressBook(personStore, jobs);
+            setGlobalState();
+            return addressBook;
+        }
+
+        private void setGlobalState() {
+            Employment.setInstance(new Employment(employment));
+            JobIdFactory.setId(jobIdState);
+            PersonIdFactory.setId(personIdState);
+        }
+    }
+
+    /**
+     * The persons of a snapshot in memory, which are built from their records when they are asked for.
+     * Persons may be asked for by the thread that saves the address book, as well as by the UI.
+     */
+    private static class MappedPersonStore implements PersonStore {
+        private final ByteBuffer buffer;
+        private final Reader reader;
+        private final List<ID> personIds;
+        private final Map<ID, Integer> offsetsById;
+        private final RecordReader record = new RecordReader();
+        private final Map<ID, Person> recentPersons;
+        private final boolean canCopyRecords;
+
+        MappedPersonStore(ByteBuffer buffer, Reader reader, List<ID> personIds, Map<ID, Integer> offsetsById,
+                int cacheSize) {
+            this.buffer = buffer;
+            this.reader = reader;
+            this.personIds = Collections.unmodifiableList(personIds);
+            this.offsetsById = offsetsById;
+            canCopyRecords = new HashSet<>(Arrays.asList(reader.symbols)).size() == reader.symbols.length;
+            recentPersons = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ID, Person> eldest) {
+                    return size() > cacheSize;
+                }
+            };
+        }
+
+        @Override
+        public List<ID> getPersonIds() {
+            return personIds;
+        }
+
+        @Override
+        public synchronized Person getPerson(ID personId) throws PersonNotFoundException {
+            Person person = recentPersons.get(personId);
+            if (person != null) {
+                return person;
+            }
+
+            Integer offset = offsetsById.get(personId);
+            if (offset == null) {
+                throw new PersonNotFoundException();
+            }
+            try {
+                ByteBuffer in = buffer.duplicate().position(offset);
+                int length = readVarInt(in);
+                record.readFrom(buffer, in.position(), length);
+                person = reader.readPerson(record);
+            } catch (DataConversionException | RuntimeException e) {
+                // records are only checked as a whole when the snapshot is mapped, not field by field
+                throw new IllegalStateException("Invalid record for person " + personId, e);
+            }
+            recentPersons.put(personId, person);
+            return person;
+        }
+
+        /**
+         * Returns true if the records of this store can be copied into another snapshot, which needs each of its
+         * symbols to be distinct so that they keep their indexes.
+         */
+        boolean canCopyRecords() {
+            return canCopyRecords;
+        }
+
+        /**
+         * Writes the record of the stored person with the given id to {@code out} as it is, together with its
+         * length, without building the person or adding it to the recently built persons.
+         */
+        void writeRecord(ID personId, OutputStream out) throws IOException {
+            Integer offset = offsetsById.get(personId);
+            if (offset == null) {
+                throw new PersonNotFoundException();
+            }
+            try {
+                ByteBuffer in = buffer.duplicate().position(offset);
+                int length = readVarInt(in);
+                byte[] bytes = new byte[in.position() - offset + length];
+                buffer.duplicate().position(offset).get(bytes);
+                out.write(bytes);
+            } catch (DataConversionException e) {
+                throw new IllegalStateException("Invalid record for person " + personId, e);
+            }
+        }
+    }
+
+    /**
+     * Builds a record in memory, so that it can be written with its length.
+     */
+    private static class RecordWriter {
+        private byte[] buf = new byte[256];
+        private int size;
+
+        void start(int type) {
+            size = 0;
+            writeByte(type);
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buf[size++] = (byte) value;
+        }
+
+        void writeInt(int value) {
+            ensureCapacity(Integer.BYTES);
+            for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                buf[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        /**
+         * Writes a non-negative number in as few bytes as possible, seven bits at a time.
+         */
+        void writeVarInt(int value) {
+            writeVarLong(value);
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[size++] = (byte) value;
+        }
+
+        /**
+         * Writes a number that may be negative, so that numbers close to zero take few bytes.
+         */
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> (Long.SIZE - 1)));
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            long length = size;
+            while ((length & ~0x7FL) != 0) {
+                out.write((int) ((length & 0x7F) | 0x80));
+                length >>>= 7;
+            }
+            out.write((int) length);
+            out.write(buf, 0, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * Reads the fields of a record that is in memory.
+     */
+    private static class RecordReader {
+        private byte[] bytes = new byte[256];
+        private ByteBuffer buf = ByteBuffer.wrap(bytes, 0, 0);
+
+        /**
+         * Reads a record of {@code length} bytes from {@code in}, and returns its type.
+         */
+        int readFrom(InputStream in, int length) throws IOException, DataConversionException {
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            readFully(in, bytes, length);
+            buf = ByteBuffer.wrap(bytes, 0, length);
+            return readByte();
+        }
+
+        /**
+         * Reads the record of {@code length} bytes at {@code offset} in {@code source}, and returns its type.
+         * The position of {@code source} is not changed.
+         */
+        int readFrom(ByteBuffer source, int offset, int length) throws DataConversionException {
+            if (length > source.limit() - offset) {
+                throw malformed("Record is too short");
+            }
+            buf = source.duplicate();
+            buf.limit(offset + length).position(offset);
+            return readByte();
+        }
+
+        int readByte() throws DataConversionException {
+            if (!buf.hasRemaining()) {
+                throw malformed("Record is too short");
+            }
+            return buf.get() & 0xFF;
+        }
+
+        int readInt() throws DataConversionException {
+            int value = 0;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                value = (value << Byte.SIZE) | readByte();
+            }
+            return value;
+        }
+
+        int readVarInt() throws DataConversionException {
+            long value = readVarLong();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw malformed("Number out of range");
+            }
+            return (int) value;
+        }
+
+        long readVarLong() throws DataConversionException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw malformed("Number is too long");
+        }
+
+        long readZigZag() throws DataConversionException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() throws DataConversionException {
+            int length = readVarInt();
+            if (length > buf.remaining()) {
+                throw malformed("Record is too short");
+            }
+            String value;
+            if (buf.hasArray()) {
+                value = new String(buf.array(), buf.arrayOffset() + buf.position(), length, StandardCharsets.UTF_8);
+            } else {
+                byte[] encoded = new byte[length];
+                buf.duplicate().get(encoded);
+                value = new String(encoded, StandardCharsets.UTF_8);
+            }
+            buf.position(buf.position() + length);
+            return value;
+        }
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Unexpected end of address book snapshot");
+        }
+        return b;
+    }
+
+    private static int readVarInt(ByteBuffer in) throws DataConversionException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            if (!in.hasRemaining()) {
+                throw malformed("Unexpected end of address book snapshot");
+            }
+            int b = in.get() & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw malformed("Record length is too long");
+    }
+
+    private static int readVarInt(InputStream in) throws IOException, DataConversionException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = readByte(in);
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw malformed("Record length is too long");
+    }
+
+    private static void readFully(InputStream in, byte[] buf, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int n = in.read(buf, read, length - read);
+            if (n < 0) {
+                throw new EOFException("Unexpected end of address book snapshot");
+            }
+            read += n;
+        }
+    }
+}
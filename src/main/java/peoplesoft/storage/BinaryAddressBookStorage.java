@@ -0,0 +1,143 @@
+package peoplesoft.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import peoplesoft.commons.core.FsyncPolicy;
+import peoplesoft.commons.core.LogsCenter;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.commons.util.FileUtil;
+import peoplesoft.model.AddressBookSnapshot;
+import peoplesoft.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * Address books can also be imported from, and exported to, the json format of {@code JsonAddressBookStorage}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final FsyncPolicy fsyncPolicy;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Constructs a {@code BinaryAddressBookStorage} that forces snapshots to the storage device according to
+     * {@code fsyncPolicy}.
+     */
+    public BinaryAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(fsyncPolicy);
+        this.filePath = filePath;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE)) {
+            return Optional.of(BinaryAddressBookCodec.read(in));
+        } catch (DataConversionException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSnapshot snapshot = addressBook instanceof AddressBookSnapshot
+                ? (AddressBookSnapshot) addressBook
+                : AddressBookSnapshot.of(addressBook);
+        FileUtil.writeAtomically(filePath, out -> BinaryAddressBookCodec.write(snapshot, out), fsyncPolicy);
+    }
+
+    /**
+     * Replaces the data of this storage with the address book in the json file at {@code jsonFilePath}, including
+     * any changes in the write-ahead log of a {@code WalAddressBookStorage}.
+     *
+     * @return false if there is no file at {@code jsonFilePath}, in which case nothing is changed.
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public boolean importJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = new WalAddressBookStorage(jsonFilePath).readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        saveAddressBook(addressBook.get());
+        logger.info("Imported " + jsonFilePath + " into " + filePath);
+        return true;
+    }
+
+    /**
+     * Writes the data of this storage to the json file at {@code jsonFilePath}.
+     * Like {@link #readAddressBook()}, this sets the {@code Employment} instance and the id states to those that
+     * were saved.
+     *
+     * @return false if there is no data to export, in which case nothing is written.
+     * @throws DataConversionException if the data in this storage is not in the correct format.
+     * @throws IOException if there was any problem reading or writing the files.
+     */
+    public boolean exportJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        new JsonAddressBookStorage(jsonFilePath, false, fsyncPolicy).saveAddressBook(addressBook.get());
+        logger.info("Exported " + filePath + " to " + jsonFilePath);
+        return true;
+    }
+}
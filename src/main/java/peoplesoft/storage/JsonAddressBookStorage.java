@@ -7,9 +7,9 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import peoplesoft.commons.core.FsyncPolicy;
 import peoplesoft.commons.core.LogsCenter;
 import peoplesoft.commons.exceptions.DataConversionException;
-import peoplesoft.commons.util.FileUtil;
 import peoplesoft.commons.util.JsonUtil;
 import peoplesoft.model.AddressBook;
 import peoplesoft.model.ReadOnlyAddressBook;
@@ -22,15 +22,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final FsyncPolicy fsyncPolicy;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} that writes json without indentation if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} that writes json without indentation if {@code isCompact} is true,
+     * and forces it to the storage device according to {@code fsyncPolicy}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, FsyncPolicy fsyncPolicy) {
+        requireNonNull(fsyncPolicy);
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.fsyncPolicy = fsyncPolicy;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
         return readAddressBook(filePath);
@@ -69,8 +93,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(addressBook, filePath);
+        JsonUtil.saveJsonFile(addressBook, filePath, isCompact, fsyncPolicy);
     }
 
 }
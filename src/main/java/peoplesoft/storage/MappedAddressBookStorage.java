@@ -0,0 +1,90 @@
+package peoplesoft.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import peoplesoft.commons.core.FsyncPolicy;
+import peoplesoft.commons.core.LogsCenter;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk, for address books that are too
+ * large to build every person when they are read.
+ *
+ * The snapshot is mapped into memory and indexed by person id when it is read, and each person is only built when
+ * it is asked for, such as when it is looked up by id, shown in the UI or exported. Saving writes a new snapshot
+ * in the same format as {@code BinaryAddressBookStorage}, copying the records of the persons that are unchanged
+ * since they were read rather than building them.
+ * The mapped snapshot is replaced rather than changed by a save, so this relies on the file system allowing a file
+ * to be replaced while it is mapped, which {@link #isSupported()} tells.
+ */
+public class MappedAddressBookStorage extends BinaryAddressBookStorage {
+
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final int cacheSize;
+
+    public MappedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CACHE_SIZE, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Constructs a {@code MappedAddressBookStorage} that keeps at most {@code cacheSize} of the persons that it has
+     * built, and forces snapshots to the storage device according to {@code fsyncPolicy}.
+     */
+    public MappedAddressBookStorage(Path filePath, int cacheSize, FsyncPolicy fsyncPolicy) {
+        super(filePath, fsyncPolicy);
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("The cache must hold at least one person");
+        }
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Returns true if this platform allows a file to be replaced while it is mapped. Windows does not, until the
+     * mapping is released, which only happens when the mapped buffer is garbage collected.
+     */
+    public static boolean isSupported() {
+        return !System.getProperty("os.name", "").startsWith("Windows");
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the jobs, the {@code Employment} associations and the id states are read at once.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Binary file " + filePath + " is too large to be mapped");
+            }
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(BinaryAddressBookCodec.map(buffer, cacheSize));
+        } catch (DataConversionException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw e;
+        }
+    }
+}
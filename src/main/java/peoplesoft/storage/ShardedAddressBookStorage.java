@@ -0,0 +1,505 @@
+package peoplesoft.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import peoplesoft.commons.core.FsyncPolicy;
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.core.LogsCenter;
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.commons.exceptions.IllegalValueException;
+import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.AddressBookSnapshot;
+import peoplesoft.model.ChangeJournal;
+import peoplesoft.model.ReadOnlyAddressBook;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+
+/**
+ * A class to access AddressBook data stored in a directory on the hard disk, with separate json files for the
+ * persons, the jobs, the {@code Employment} associations and the id states.
+ *
+ * Persons and jobs can be further split into shards by id range, each in its own file. Ids that are not numbers
+ * share a shard of their own. Saving only rewrites the files whose data differs from the last saved or read address
+ * book, so changing one job does not rewrite any person. If the address book is a snapshot that holds its changes
+ * since the last save, the files to rewrite are those of the persons and jobs that the changes touched, and the
+ * other persons and jobs are not compared. Each file is replaced atomically and the metadata file is
+ * written last, but a save that fails part of the way through may leave files from before the save.
+ *
+ * The name of a shard file includes the shard size, and only the files of the shard size in the metadata file are
+ * read. Changing the shard size writes every file under its new name before the metadata file, which switches to
+ * them, so a save that fails part of the way through leaves the files of the old shard size to be read. Files of
+ * other shard sizes are deleted by the next save that writes every file.
+ *
+ * Persons and jobs are read back shard by shard, in order of their id ranges.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+    public static final String META_FILE_NAME = "meta.json";
+    public static final String EMPLOYMENT_FILE_NAME = "employment.json";
+    public static final int FORMAT_VERSION = 2;
+
+    /**
+     * Shard size that keeps all persons in one file, and all jobs in another.
+     */
+    public static final int UNSHARDED = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String PERSONS_FILE_PREFIX = "persons";
+    private static final String JOBS_FILE_PREFIX = "jobs";
+    private static final String OTHER_SHARD = "other";
+    private static final Pattern SHARD_FILE_NAME =
+            Pattern.compile("(persons|jobs)(?:-(?:([0-9]{1,9})-)?([0-9]+|other))?\\.json");
+
+    /**
+     * Format version whose shard file names do not include the shard size.
+     */
+    private static final int UNSIZED_FORMAT_VERSION = 1;
+
+    /**
+     * Orders the unsharded file first, then shards of numeric ids by id range, then the shard of other ids.
+     */
+    private static final Comparator<String> SHARD_ORDER = Comparator
+            .comparing((String shard) -> shard.isEmpty() ? 0 : shard.equals(OTHER_SHARD) ? 2 : 1)
+            .thenComparing(shard -> shard.isEmpty() || shard.equals(OTHER_SHARD) ? 0 : Long.parseLong(shard));
+
+    private final Path directoryPath;
+    private final int shardSize;
+    private final boolean isCompact;
+    private final FsyncPolicy fsyncPolicy;
+
+    /**
+     * The last saved or read state, or null if the files may not match anything that was saved or read.
+     */
+    private Map<ID, Person> persons;
+    private Map<ID, Job> jobs;
+    private Map<ID, Set<ID>> employment;
+    private int jobIdState;
+    private int personIdState;
+
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, UNSHARDED, false, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Constructs a {@code ShardedAddressBookStorage} in the directory at {@code directoryPath}, that puts persons and
+     * jobs whose ids are in the same range of {@code shardSize} ids in the same file, or all in one file if
+     * {@code shardSize} is {@link #UNSHARDED}. Files are written without indentation if {@code isCompact} is true,
+     * and forced to the storage device according to {@code fsyncPolicy}.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, int shardSize, boolean isCompact, FsyncPolicy fsyncPolicy) {
+        requireNonNull(directoryPath);
+        requireNonNull(fsyncPolicy);
+        if (shardSize < 0) {
+            throw new IllegalArgumentException("The shard size cannot be negative");
+        }
+        this.directoryPath = directoryPath;
+        this.shardSize = shardSize;
+        this.isCompact = isCompact;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * Returns the path of the directory that holds the files.
+     */
+    @Override
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directoryPath location of the directory that holds the files. Cannot be null.
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath)
+            throws DataConversionException {
+        requireNonNull(directoryPath);
+
+        Optional<JsonNode> meta = JsonUtil.readJsonFile(directoryPath.resolve(META_FILE_NAME), JsonNode.class);
+        if (meta.isEmpty()) {
+            return Optional.empty();
+        }
+        int formatVersion = readMetaInt(meta.get(), "formatVersion");
+        if (formatVersion > FORMAT_VERSION) {
+            throw new DataConversionException(new IllegalValueException(
+                    "Unsupported address book format version " + formatVersion));
+        }
+        int savedShardSize = readMetaInt(meta.get(), "shardSize");
+        int savedJobIdState = Math.max(readMetaInt(meta.get(), "jobIdState"), 0);
+        int savedPersonIdState = Math.max(readMetaInt(meta.get(), "personIdState"), 0);
+
+        List<Path> otherFiles = new ArrayList<>();
+        Map<String, List<Path>> shardFiles = listShardFiles(directoryPath, savedShardSize,
+                formatVersion <= UNSIZED_FORMAT_VERSION, otherFiles);
+        List<Person> savedPersons = new ArrayList<>();
+        for (Path file : shardFiles.get(PERSONS_FILE_PREFIX)) {
+            savedPersons.addAll(Arrays.asList(JsonUtil.readJsonFile(file, Person[].class).orElseThrow()));
+        }
+        List<Job> savedJobs = new ArrayList<>();
+        for (Path file : shardFiles.get(JOBS_FILE_PREFIX)) {
+            savedJobs.addAll(Arrays.asList(JsonUtil.readJsonFile(file, Job[].class).orElseThrow()));
+        }
+        Employment savedEmployment = JsonUtil.readJsonFile(directoryPath.resolve(EMPLOYMENT_FILE_NAME),
+                Employment.class).orElseGet(Employment::new);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(savedPersons);
+            addressBook.setJobs(savedJobs);
+        } catch (RuntimeException e) {
+            // duplicates across shards
+            throw new DataConversionException(e);
+        }
+        Employment.setInstance(savedEmployment);
+        JobIdFactory.setId(savedJobIdState);
+        PersonIdFactory.setId(savedPersonIdState);
+
+        if (directoryPath.equals(this.directoryPath)) {
+            setState(AddressBookSnapshot.of(addressBook));
+            if (savedShardSize != shardSize || formatVersion != FORMAT_VERSION || !otherFiles.isEmpty()) {
+                // the files are sharded or named differently, or there are files left from another shard size,
+                // so the next save rewrites all of them
+                persons = null;
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static int readMetaInt(JsonNode meta, String key) throws DataConversionException {
+        JsonNode value = meta.get(key);
+        if (value == null || !value.isInt()) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format("This address book's %s value is invalid!", key)));
+        }
+        return value.intValue();
+    }
+
+    /**
+     * Returns the person and job shard files of {@code shardSize} in {@code directoryPath}, keyed by their prefix, in
+     * shard order, and adds the shard files of other shard sizes to {@code otherFiles}.
+     * If {@code isUnsized} is true, sharded files whose names do not include a shard size are taken to be of
+     * {@code shardSize}.
+     */
+    private static Map<String, List<Path>> listShardFiles(Path directoryPath, int shardSize, boolean isUnsized,
+            List<Path> otherFiles) throws DataConversionException {
+        Map<String, Map<String, Path>> shards = new HashMap<>();
+        shards.put(PERSONS_FILE_PREFIX, new TreeMap<>(SHARD_ORDER));
+        shards.put(JOBS_FILE_PREFIX, new TreeMap<>(SHARD_ORDER));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath)) {
+            for (Path file : files) {
+                Matcher matcher = SHARD_FILE_NAME.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                String shard = Objects.toString(matcher.group(3), "");
+                boolean isOfShardSize = shard.isEmpty()
+                        ? shardSize == UNSHARDED
+                        : matcher.group(2) == null
+                                ? isUnsized && shardSize != UNSHARDED
+                                : !isUnsized && Integer.parseInt(matcher.group(2)) == shardSize;
+                if (isOfShardSize) {
+                    shards.get(matcher.group(1)).put(shard, file);
+                } else {
+                    otherFiles.add(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+
+        Map<String, List<Path>> shardFiles = new HashMap<>();
+        shards.forEach((prefix, files) -> shardFiles.put(prefix, new ArrayList<>(files.values())));
+        return shardFiles;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to another directory always writes every file.
+     *
+     * @param directoryPath location of the directory that holds the files. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+
+        AddressBookSnapshot snapshot = addressBook instanceof AddressBookSnapshot
+                ? (AddressBookSnapshot) addressBook
+                : AddressBookSnapshot.of(addressBook);
+        if (!directoryPath.equals(this.directoryPath)) {
+            writeAll(snapshot, directoryPath);
+            return;
+        }
+
+        try {
+            if (persons == null) {
+                writeAll(snapshot, directoryPath);
+                setState(snapshot);
+            } else if (snapshot.getChanges().isPresent()) {
+                writeChanges(snapshot, snapshot.getChanges().get());
+            } else {
+                writeChanges(snapshot);
+                setState(snapshot);
+            }
+        } catch (IOException e) {
+            // some files may have been written, so the next save rewrites all of them
+            persons = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Writes every file of {@code snapshot} to {@code directoryPath}, and deletes any other shard files there once
+     * the metadata file is written.
+     */
+    private void writeAll(AddressBookSnapshot snapshot, Path directoryPath) throws IOException {
+        Map<String, List<Person>> personShards = groupByShard(snapshot.getPersonList(), Person::getPersonId);
+        Map<String, List<Job>> jobShards = groupByShard(snapshot.getJobList(), Job::getJobId);
+        for (Map.Entry<String, List<Person>> shard : personShards.entrySet()) {
+            save(shard.getValue(), shardFile(directoryPath, PERSONS_FILE_PREFIX, shard.getKey()));
+        }
+        for (Map.Entry<String, List<Job>> shard : jobShards.entrySet()) {
+            save(shard.getValue(), shardFile(directoryPath, JOBS_FILE_PREFIX, shard.getKey()));
+        }
+        save(new Employment(snapshot.getEmployment()), directoryPath.resolve(EMPLOYMENT_FILE_NAME));
+        saveMeta(snapshot, directoryPath);
+
+        Set<Path> written = new HashSet<>();
+        personShards.keySet().forEach(shard -> written.add(shardFile(directoryPath, PERSONS_FILE_PREFIX, shard)));
+        jobShards.keySet().forEach(shard -> written.add(shardFile(directoryPath, JOBS_FILE_PREFIX, shard)));
+        List<Path> toDelete = new ArrayList<>();
+        try {
+            listShardFiles(directoryPath, shardSize, false, toDelete).values().forEach(toDelete::addAll);
+        } catch (DataConversionException e) {
+            throw new IOException(e);
+        }
+        for (Path file : toDelete) {
+            if (!written.contains(file)) {
+                Files.delete(file);
+            }
+        }
+        logger.fine("Wrote all files of the address book to " + directoryPath);
+    }
+
+    /**
+     * Rewrites only the files of {@code snapshot} that differ from the last saved state.
+     */
+    private void writeChanges(AddressBookSnapshot snapshot) throws IOException {
+        Set<String> dirtyPersonShards = findDirtyShards(snapshot.getPersonList(), persons, Person::getPersonId);
+        Set<String> dirtyJobShards = findDirtyShards(snapshot.getJobList(), jobs, Job::getJobId);
+        writeShards(snapshot.getPersonList(), Person::getPersonId, dirtyPersonShards, PERSONS_FILE_PREFIX);
+        writeShards(snapshot.getJobList(), Job::getJobId, dirtyJobShards, JOBS_FILE_PREFIX);
+
+        if (!snapshot.getEmployment().equals(employment)) {
+            save(new Employment(snapshot.getEmployment()), directoryPath.resolve(EMPLOYMENT_FILE_NAME));
+        }
+        if (snapshot.getJobIdState() != jobIdState || snapshot.getPersonIdState() != personIdState) {
+            saveMeta(snapshot, directoryPath);
+        }
+        logger.fine("Rewrote " + dirtyPersonShards.size() + " person shards and " + dirtyJobShards.size()
+                + " job shards in " + directoryPath);
+    }
+
+    /**
+     * Rewrites only the files of the persons and jobs that {@code changes}, the changes that {@code snapshot} holds
+     * since the last save, touched, and updates the last saved state.
+     */
+    private void writeChanges(AddressBookSnapshot snapshot, ChangeJournal.Entry changes) throws IOException {
+        Set<String> dirtyPersonShards = new HashSet<>();
+        changes.getPersonIds().forEach(id -> dirtyPersonShards.add(shardOf(id)));
+        Set<String> dirtyJobShards = new HashSet<>();
+        changes.getJobIds().forEach(id -> dirtyJobShards.add(shardOf(id)));
+        writeShards(snapshot.getPersonList(), Person::getPersonId, dirtyPersonShards, PERSONS_FILE_PREFIX);
+        writeShards(snapshot.getJobList(), Job::getJobId, dirtyJobShards, JOBS_FILE_PREFIX);
+
+        if (changes.isEmploymentChanged()) {
+            save(new Employment(snapshot.getEmployment()), directoryPath.resolve(EMPLOYMENT_FILE_NAME));
+        }
+        if (snapshot.getJobIdState() != jobIdState || snapshot.getPersonIdState() != personIdState) {
+            saveMeta(snapshot, directoryPath);
+        }
+        logger.fine("Rewrote " + dirtyPersonShards.size() + " person shards and " + dirtyJobShards.size()
+                + " job shards in " + directoryPath);
+
+        updateState(persons, changes.getPersonIds(), snapshot.getChangedPersons());
+        updateState(jobs, changes.getJobIds(), snapshot.getChangedJobs());
+        employment = snapshot.getEmployment();
+        jobIdState = snapshot.getJobIdState();
+        personIdState = snapshot.getPersonIdState();
+    }
+
+    /**
+     * Replaces the entries of {@code saved} with the given ids with those in {@code changed}, or removes them if they
+     * are not in {@code changed}.
+     */
+    private static <T> void updateState(Map<ID, T> saved, Set<ID> ids, Map<ID, T> changed) {
+        for (ID id : ids) {
+            T entry = changed.get(id);
+            if (entry == null) {
+                saved.remove(id);
+            } else {
+                saved.put(id, entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the shards that hold an entry of {@code entries} that was added or changed, or an entry of
+     * {@code saved} that was removed.
+     */
+    private <T> Set<String> findDirtyShards(List<T> entries, Map<ID, T> saved, Function<T, ID> idOf) {
+        Set<String> dirtyShards = new HashSet<>();
+        Set<ID> ids = new HashSet<>();
+        for (T entry : entries) {
+            ID id = idOf.apply(entry);
+            ids.add(id);
+            T old = saved.get(id);
+            if (old != entry && !entry.equals(old)) {
+                dirtyShards.add(shardOf(id));
+            }
+        }
+        for (ID id : saved.keySet()) {
+            if (!ids.contains(id)) {
+                dirtyShards.add(shardOf(id));
+            }
+        }
+        return dirtyShards;
+    }
+
+    /**
+     * Rewrites the files of the given shards with the entries of {@code entries} in them, and deletes the files of
+     * shards that are now empty.
+     */
+    private <T> void writeShards(List<T> entries, Function<T, ID> idOf, Set<String> shards, String prefix)
+            throws IOException {
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<T>> shardEntries = new HashMap<>();
+        for (T entry : entries) {
+            String shard = shardOf(idOf.apply(entry));
+            if (shards.contains(shard)) {
+                shardEntries.computeIfAbsent(shard, k -> new ArrayList<>()).add(entry);
+            }
+        }
+        for (String shard : shards) {
+            Path file = shardFile(directoryPath, prefix, shard);
+            if (shardEntries.containsKey(shard)) {
+                save(shardEntries.get(shard), file);
+            } else {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private <T> Map<String, List<T>> groupByShard(List<T> entries, Function<T, ID> idOf) {
+        Map<String, List<T>> shards = new LinkedHashMap<>();
+        for (T entry : entries) {
+            shards.computeIfAbsent(shardOf(idOf.apply(entry)), k -> new ArrayList<>()).add(entry);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the shard of the entry with the given id.
+     */
+    private String shardOf(ID id) {
+        if (shardSize == UNSHARDED) {
+            return "";
+        }
+        try {
+            return String.valueOf(Long.parseLong(id.value) / shardSize);
+        } catch (NumberFormatException e) {
+            return OTHER_SHARD;
+        }
+    }
+
+    private Path shardFile(Path directoryPath, String prefix, String shard) {
+        String fileName = shard.isEmpty() ? prefix + ".json" : prefix + "-" + shardSize + "-" + shard + ".json";
+        return directoryPath.resolve(fileName);
+    }
+
+    /**
+     * Replaces the data of this storage with the address book in the json file at {@code jsonFilePath}, including
+     * any changes in the write-ahead log of a {@code WalAddressBookStorage}.
+     *
+     * @return false if there is no file at {@code jsonFilePath}, in which case nothing is changed.
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public boolean importJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = new WalAddressBookStorage(jsonFilePath).readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        saveAddressBook(addressBook.get());
+        logger.info("Imported " + jsonFilePath + " into " + directoryPath);
+        return true;
+    }
+
+    private void saveMeta(AddressBookSnapshot snapshot, Path directoryPath) throws IOException {
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("formatVersion", FORMAT_VERSION);
+        meta.put("shardSize", shardSize);
+        meta.put("jobIdState", snapshot.getJobIdState());
+        meta.put("personIdState", snapshot.getPersonIdState());
+        save(meta, directoryPath.resolve(META_FILE_NAME));
+    }
+
+    private void save(Object value, Path file) throws IOException {
+        JsonUtil.saveJsonFile(value, file, isCompact, fsyncPolicy);
+    }
+
+    private void setState(AddressBookSnapshot snapshot) {
+        persons = new HashMap<>();
+        snapshot.getPersonList().forEach(p -> persons.put(p.getPersonId(), p));
+        jobs = new HashMap<>();
+        snapshot.getJobList().forEach(j -> jobs.put(j.getJobId(), j));
+        employment = snapshot.getEmployment();
+        jobIdState = snapshot.getJobIdState();
+        personIdState = snapshot.getPersonIdState();
+    }
+}
@@ -0,0 +1,493 @@
+package peoplesoft.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import peoplesoft.commons.core.FsyncPolicy;
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.core.LogsCenter;
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.commons.util.FileUtil;
+import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.AddressBookSnapshot;
+import peoplesoft.model.ChangeJournal;
+import peoplesoft.model.ReadOnlyAddressBook;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file, together with a write-ahead log of the
+ * changes made since the snapshot was written.
+ *
+ * Saving appends a record for each person, job and employment association that differs from the last saved
+ * address book, so the amount written is proportional to the change rather than to the address book. If the
+ * address book is a snapshot that holds its changes since the last save, only the persons and jobs that those
+ * changes touched are compared.
+ * A full snapshot is written instead once the log would hold as many records as there are persons and jobs.
+ * Reading replays the log on top of the snapshot.
+ * With {@code FsyncPolicy.BATCHED}, the log is forced to the storage device at most once per second.
+ *
+ * The snapshot file has the same format as the file of a {@code JsonAddressBookStorage}.
+ * A new snapshot is first written to a pending file, then the log is deleted, and then the pending file replaces
+ * the snapshot. Replaying a log on top of a newer snapshot would undo the changes made since the log was written,
+ * so a pending file left by a crash always replaces the snapshot, and any log next to it is deleted unread.
+ */
+public class WalAddressBookStorage extends JsonAddressBookStorage {
+    public static final String LOG_FILE_EXTENSION = ".wal";
+    public static final String PENDING_SNAPSHOT_FILE_EXTENSION = ".new";
+    public static final int DEFAULT_MIN_RECORDS_BEFORE_SNAPSHOT = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(WalAddressBookStorage.class);
+    private static final long BATCHED_LOG_FORCE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final String OP = "op";
+    private static final String OP_PUT_PERSON = "putPerson";
+    private static final String OP_REMOVE_PERSON = "removePerson";
+    private static final String OP_PUT_JOB = "putJob";
+    private static final String OP_REMOVE_JOB = "removeJob";
+    private static final String OP_SET_EMPLOYMENT = "setEmployment";
+    private static final String OP_SET_ID_STATE = "setIdState";
+
+    private final Path logFilePath;
+    private final Path pendingSnapshotFilePath;
+    private final int minRecordsBeforeSnapshot;
+
+    /**
+     * The last saved or read state, or null if the log may not match anything that was saved or read.
+     * Only the identity of the entries is tracked, their order is not.
+     */
+    private Map<ID, Person> persons;
+    private Map<ID, Job> jobs;
+    private Map<ID, Set<ID>> employment;
+    private int jobIdState;
+    private int personIdState;
+
+    /**
+     * Number of records in the log.
+     */
+    private int logRecords;
+
+    /**
+     * When the log was last forced to the storage device, as given by {@link System#nanoTime()}.
+     */
+    private long lastLogForceNanos = System.nanoTime() - BATCHED_LOG_FORCE_INTERVAL_NANOS;
+
+    /**
+     * Constructs a {@code WalAddressBookStorage} with the snapshot at {@code filePath}.
+     */
+    public WalAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code WalAddressBookStorage} with the snapshot at {@code filePath}, that writes snapshots
+     * without indentation if {@code isCompact} is true.
+     */
+    public WalAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, DEFAULT_MIN_RECORDS_BEFORE_SNAPSHOT, isCompact);
+    }
+
+    /**
+     * Constructs a {@code WalAddressBookStorage} with the snapshot at {@code filePath}, that does not write a
+     * snapshot until the log holds at least {@code minRecordsBeforeSnapshot} records.
+     */
+    public WalAddressBookStorage(Path filePath, int minRecordsBeforeSnapshot, boolean isCompact) {
+        this(filePath, minRecordsBeforeSnapshot, isCompact, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Constructs a {@code WalAddressBookStorage} with the snapshot at {@code filePath}, that forces the snapshot
+     * and the log to the storage device according to {@code fsyncPolicy}.
+     */
+    public WalAddressBookStorage(Path filePath, boolean isCompact, FsyncPolicy fsyncPolicy) {
+        this(filePath, DEFAULT_MIN_RECORDS_BEFORE_SNAPSHOT, isCompact, fsyncPolicy);
+    }
+
+    /**
+     * Constructs a {@code WalAddressBookStorage} with the snapshot at {@code filePath}, that does not write a
+     * snapshot until the log holds at least {@code minRecordsBeforeSnapshot} records, and forces the snapshot and
+     * the log to the storage device according to {@code fsyncPolicy}.
+     */
+    public WalAddressBookStorage(Path filePath, int minRecordsBeforeSnapshot, boolean isCompact,
+            FsyncPolicy fsyncPolicy) {
+        super(filePath, isCompact, fsyncPolicy);
+        this.logFilePath = filePath.resolveSibling(filePath.getFileName() + LOG_FILE_EXTENSION);
+        this.pendingSnapshotFilePath = filePath.resolveSibling(
+                filePath.getFileName() + PENDING_SNAPSHOT_FILE_EXTENSION);
+        this.minRecordsBeforeSnapshot = minRecordsBeforeSnapshot;
+    }
+
+    public Path getLogFilePath() {
+        return logFilePath;
+    }
+
+    public Path getPendingSnapshotFilePath() {
+        return pendingSnapshotFilePath;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return super.readAddressBook(filePath);
+        }
+
+        try {
+            finishPendingSnapshot();
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = super.readAddressBook(filePath);
+        if (!Files.exists(logFilePath)) {
+            if (snapshot.isPresent()) {
+                setState(AddressBookSnapshot.of(snapshot.get()), 0);
+            }
+            return snapshot;
+        }
+
+        if (snapshot.isEmpty()) {
+            // the snapshot is written before the log is cleared, so a log without a snapshot starts from nothing
+            Employment.newInstance();
+            JobIdFactory.setId(0);
+            PersonIdFactory.setId(0);
+        }
+
+        AddressBook addressBook = replayLog(snapshot.orElseGet(AddressBook::new));
+        return Optional.of(addressBook);
+    }
+
+    private AddressBook replayLog(ReadOnlyAddressBook snapshot) throws DataConversionException {
+        Map<ID, Person> replayedPersons = new LinkedHashMap<>();
+        snapshot.getPersonList().forEach(p -> replayedPersons.put(p.getPersonId(), p));
+        Map<ID, Job> replayedJobs = new LinkedHashMap<>();
+        snapshot.getJobList().forEach(j -> replayedJobs.put(j.getJobId(), j));
+        Map<ID, Set<ID>> replayedEmployment = new HashMap<>(Employment.getInstance().getAllJobs());
+        int replayedJobIdState = JobIdFactory.getId();
+        int replayedPersonIdState = PersonIdFactory.getId();
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(logFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+
+        int records = 0;
+        boolean isTornTail = false;
+        for (int i = 0; i < lines.size(); i++) {
+            JsonNode record;
+            try {
+                record = JsonUtil.readTree(lines.get(i));
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    // the last record was only partly written, so it was never acknowledged as saved
+                    logger.warning("Ignoring incomplete record at the end of " + logFilePath);
+                    isTornTail = true;
+                    break;
+                }
+                throw new DataConversionException(e);
+            }
+            if (record == null || record.isMissingNode()) { // blank line
+                continue;
+            }
+
+            try {
+                switch (record.path(OP).asText()) {
+                case OP_PUT_PERSON:
+                    Person person = JsonUtil.fromJsonNode(record.get("person"), Person.class);
+                    replayedPersons.put(person.getPersonId(), person);
+                    break;
+                case OP_REMOVE_PERSON:
+                    replayedPersons.remove(JsonUtil.fromJsonNode(record.get("id"), ID.class));
+                    break;
+                case OP_PUT_JOB:
+                    Job job = JsonUtil.fromJsonNode(record.get("job"), Job.class);
+                    replayedJobs.put(job.getJobId(), job);
+                    break;
+                case OP_REMOVE_JOB:
+                    replayedJobs.remove(JsonUtil.fromJsonNode(record.get("id"), ID.class));
+                    break;
+                case OP_SET_EMPLOYMENT:
+                    ID jobId = JsonUtil.fromJsonNode(record.get("jobId"), ID.class);
+                    ID[] personIds = JsonUtil.fromJsonNode(record.get("personIds"), ID[].class);
+                    if (personIds.length == 0) {
+                        replayedEmployment.remove(jobId);
+                    } else {
+                        replayedEmployment.put(jobId, new TreeSet<>(Arrays.asList(personIds)));
+                    }
+                    break;
+                case OP_SET_ID_STATE:
+                    replayedJobIdState = record.get("jobIdState").intValue();
+                    replayedPersonIdState = record.get("personIdState").intValue();
+                    break;
+                default:
+                    throw new DataConversionException(
+                            new IOException("Unknown record in " + logFilePath + ": " + lines.get(i)));
+                }
+            } catch (IOException | IllegalArgumentException | NullPointerException e) {
+                throw new DataConversionException(e);
+            }
+            records++;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(new ArrayList<>(replayedPersons.values()));
+            addressBook.setJobs(new ArrayList<>(replayedJobs.values()));
+        } catch (RuntimeException e) {
+            throw new DataConversionException(e);
+        }
+        Employment.setInstance(new Employment(replayedEmployment));
+        JobIdFactory.setId(replayedJobIdState);
+        PersonIdFactory.setId(replayedPersonIdState);
+
+        logger.fine("Replayed " + records + " records from " + logFilePath);
+        setState(AddressBookSnapshot.of(addressBook), records);
+        if (isTornTail) {
+            // a torn log cannot be appended to, so the next save writes a snapshot instead
+            persons = null;
+        }
+        return addressBook;
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        AddressBookSnapshot snapshot = addressBook instanceof AddressBookSnapshot
+                ? (AddressBookSnapshot) addressBook
+                : AddressBookSnapshot.of(addressBook);
+        if (persons == null) {
+            writeSnapshot(snapshot);
+            return;
+        }
+
+        Optional<ChangeJournal.Entry> changes = snapshot.getChanges();
+        List<String> records = changes.isPresent() ? recordChanges(snapshot, changes.get()) : diff(snapshot);
+        if (records.isEmpty()) {
+            return;
+        }
+
+        int size = snapshot.getPersonList().size() + snapshot.getJobList().size();
+        if (logRecords + records.size() >= Math.max(minRecordsBeforeSnapshot, size)) {
+            writeSnapshot(snapshot);
+            return;
+        }
+
+        try {
+            FileUtil.appendLines(logFilePath, records, shouldForceLog());
+        } catch (IOException e) {
+            // the log may now end with part of a record, so it must not be appended to
+            persons = null;
+            throw e;
+        }
+        logRecords += records.size();
+    }
+
+    /**
+     * Returns the records that turn the last saved state into {@code snapshot}, and updates the last saved state.
+     */
+    private List<String> diff(AddressBookSnapshot snapshot) throws IOException {
+        List<String> records = new ArrayList<>();
+
+        Set<ID> personIds = new HashSet<>();
+        for (Person person : snapshot.getPersonList()) {
+            personIds.add(person.getPersonId());
+            Person old = persons.get(person.getPersonId());
+            if (old != person && !person.equals(old)) {
+                records.add(record(OP_PUT_PERSON, "person", person));
+                persons.put(person.getPersonId(), person);
+            }
+        }
+        for (ID personId : new ArrayList<>(persons.keySet())) {
+            if (!personIds.contains(personId)) {
+                records.add(record(OP_REMOVE_PERSON, "id", personId));
+                persons.remove(personId);
+            }
+        }
+
+        Set<ID> jobIds = new HashSet<>();
+        for (Job job : snapshot.getJobList()) {
+            jobIds.add(job.getJobId());
+            Job old = jobs.get(job.getJobId());
+            if (old != job && !job.equals(old)) {
+                records.add(record(OP_PUT_JOB, "job", job));
+                jobs.put(job.getJobId(), job);
+            }
+        }
+        for (ID jobId : new ArrayList<>(jobs.keySet())) {
+            if (!jobIds.contains(jobId)) {
+                records.add(record(OP_REMOVE_JOB, "id", jobId));
+                jobs.remove(jobId);
+            }
+        }
+
+        recordEmployment(snapshot, records);
+        recordIdState(snapshot, records);
+        return records;
+    }
+
+    /**
+     * Returns the records of {@code changes}, the changes that {@code snapshot} holds since the last save, and
+     * updates the last saved state. Only the persons and jobs that the changes touched are compared.
+     */
+    private List<String> recordChanges(AddressBookSnapshot snapshot, ChangeJournal.Entry changes)
+            throws IOException {
+        List<String> records = new ArrayList<>();
+
+        for (ID personId : changes.getPersonIds()) {
+            Person person = snapshot.getChangedPersons().get(personId);
+            Person old = persons.get(personId);
+            if (person == null && old != null) {
+                records.add(record(OP_REMOVE_PERSON, "id", personId));
+                persons.remove(personId);
+            } else if (person != null && old != person && !person.equals(old)) {
+                records.add(record(OP_PUT_PERSON, "person", person));
+                persons.put(personId, person);
+            }
+        }
+
+        for (ID jobId : changes.getJobIds()) {
+            Job job = snapshot.getChangedJobs().get(jobId);
+            Job old = jobs.get(jobId);
+            if (job == null && old != null) {
+                records.add(record(OP_REMOVE_JOB, "id", jobId));
+                jobs.remove(jobId);
+            } else if (job != null && old != job && !job.equals(old)) {
+                records.add(record(OP_PUT_JOB, "job", job));
+                jobs.put(jobId, job);
+            }
+        }
+
+        if (changes.isEmploymentChanged()) {
+            recordEmployment(snapshot, records);
+        }
+        recordIdState(snapshot, records);
+        return records;
+    }
+
+    /**
+     * Adds a record to {@code records} for each job whose associations in {@code snapshot} differ from the last
+     * saved state, and updates the last saved state.
+     */
+    private void recordEmployment(AddressBookSnapshot snapshot, List<String> records) throws IOException {
+        Map<ID, Set<ID>> newEmployment = snapshot.getEmployment();
+        Set<ID> employmentJobIds = new HashSet<>(employment.keySet());
+        employmentJobIds.addAll(newEmployment.keySet());
+        for (ID jobId : employmentJobIds) {
+            Set<ID> newPersonIds = newEmployment.getOrDefault(jobId, Set.of());
+            if (!Objects.equals(employment.getOrDefault(jobId, Set.of()), newPersonIds)) {
+                Map<String, Object> record = new LinkedHashMap<>();
+                record.put(OP, OP_SET_EMPLOYMENT);
+                record.put("jobId", jobId);
+                record.put("personIds", newPersonIds);
+                records.add(JsonUtil.toCompactJsonString(record));
+            }
+        }
+        employment = newEmployment;
+    }
+
+    /**
+     * Adds a record to {@code records} if the id states of {@code snapshot} differ from the last saved state, and
+     * updates the last saved state.
+     */
+    private void recordIdState(AddressBookSnapshot snapshot, List<String> records) throws IOException {
+        if (snapshot.getJobIdState() != jobIdState || snapshot.getPersonIdState() != personIdState) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put(OP, OP_SET_ID_STATE);
+            record.put("jobIdState", snapshot.getJobIdState());
+            record.put("personIdState", snapshot.getPersonIdState());
+            records.add(JsonUtil.toCompactJsonString(record));
+            jobIdState = snapshot.getJobIdState();
+            personIdState = snapshot.getPersonIdState();
+        }
+    }
+
+    private boolean shouldForceLog() {
+        switch (getFsyncPolicy()) {
+        case ALWAYS:
+            return true;
+        case BATCHED:
+            long now = System.nanoTime();
+            if (now - lastLogForceNanos < BATCHED_LOG_FORCE_INTERVAL_NANOS) {
+                return false;
+            }
+            lastLogForceNanos = now;
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static String record(String op, String key, Object value) throws IOException {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put(OP, op);
+        record.put(key, value);
+        return JsonUtil.toCompactJsonString(record);
+    }
+
+    /**
+     * Writes {@code snapshot} in full and clears the log.
+     */
+    private void writeSnapshot(AddressBookSnapshot snapshot) throws IOException {
+        persons = null;
+        super.saveAddressBook(snapshot, pendingSnapshotFilePath);
+        finishPendingSnapshot();
+        setState(snapshot, 0);
+    }
+
+    /**
+     * Replaces the snapshot with the pending snapshot, if there is one, after deleting the log.
+     * The pending snapshot is only there once it is complete, and it holds every change in the log.
+     */
+    private void finishPendingSnapshot() throws IOException {
+        if (!Files.exists(pendingSnapshotFilePath)) {
+            return;
+        }
+
+        if (Files.deleteIfExists(logFilePath)) {
+            logger.fine("Deleted " + logFilePath + ", whose changes are in " + pendingSnapshotFilePath);
+        }
+        FileUtil.moveAtomically(pendingSnapshotFilePath, getAddressBookFilePath(), getFsyncPolicy());
+    }
+
+    private void setState(AddressBookSnapshot snapshot, int logRecords) {
+        persons = new HashMap<>();
+        snapshot.getPersonList().forEach(p -> persons.put(p.getPersonId(), p));
+        jobs = new HashMap<>();
+        snapshot.getJobList().forEach(j -> jobs.put(j.getJobId(), j));
+        employment = snapshot.getEmployment();
+        jobIdState = snapshot.getJobIdState();
+        personIdState = snapshot.getPersonIdState();
+        this.logRecords = logRecords;
+    }
+}
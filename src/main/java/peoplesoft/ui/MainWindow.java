@@ -2,6 +2,7 @@ package peoplesoft.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.layout.BorderPane;
@@ -10,6 +11,7 @@ import javafx.stage.Stage;
 import peoplesoft.commons.core.GuiSettings;
 import peoplesoft.commons.core.LogsCenter;
 import peoplesoft.logic.Logic;
+import peoplesoft.logic.SearchAsYouType;
 import peoplesoft.logic.commands.CommandResult;
 import peoplesoft.logic.commands.exceptions.CommandException;
 import peoplesoft.logic.parser.exceptions.ParseException;
@@ -32,6 +34,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private SearchAsYouType searchAsYouType;
 
     // Independent Ui parts residing in this Ui container
     private SideBar sideBar;
@@ -87,7 +90,8 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        searchAsYouType = new SearchAsYouType(logic, Platform::runLater);
+        CommandBox commandBox = new CommandBox(this::executeCommand, searchAsYouType::update);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         sideBar = new SideBar(this);
@@ -154,6 +158,8 @@ public class MainWindow extends UiPart<Stage> {
      * @see peoplesoft.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        // the entered command decides what is listed, rather than a search that has yet to finish
+        searchAsYouType.cancel();
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -11,7 +11,10 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Compact data file : false\n"
+                + "Fsync policy : BATCHED\n"
+                + "Data shard size : 1000";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
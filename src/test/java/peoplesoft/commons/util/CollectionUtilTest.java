@@ -1,14 +1,18 @@
 package peoplesoft.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 import static peoplesoft.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +86,24 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicates() {
+        // null collection or key mapper
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(null, Function.identity()));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(List.of("a"), null));
+
+        // no duplicates
+        assertTrue(CollectionUtil.findDuplicates(Collections.emptyList(), Function.identity()).isEmpty());
+        assertTrue(CollectionUtil.findDuplicates(Arrays.asList("a", "b", "c"), Function.identity()).isEmpty());
+
+        // duplicates are reported once each, in the order they are first duplicated
+        assertEquals(Arrays.asList("c", "a"), new ArrayList<>(CollectionUtil.findDuplicates(
+                Arrays.asList("a", "b", "c", "c", "a", "a"), Function.identity())));
+
+        // keys are compared, not elements
+        assertEquals(Set.of(3), CollectionUtil.findDuplicates(Arrays.asList("abc", "de", "fgh"), String::length));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,13 +1,28 @@
 package peoplesoft.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import peoplesoft.commons.core.FsyncPolicy;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +35,56 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replacesContent() throws IOException {
+        Path file = testFolder.resolve("data").resolve("file.json");
+        for (FsyncPolicy fsyncPolicy : FsyncPolicy.values()) {
+            byte[] content = fsyncPolicy.toString().getBytes(StandardCharsets.UTF_8);
+            FileUtil.writeAtomically(file, out -> out.write(content), fsyncPolicy);
+            assertEquals(fsyncPolicy.toString(), FileUtil.readFromFile(file));
+        }
+
+        // no temporary file is left behind
+        assertEquals(List.of(file), listFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_writerClosesStream_contentWritten() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeAtomically(file, out -> {
+            out.write(new byte[] {'a', 'b'});
+            out.close();
+        }, FsyncPolicy.ALWAYS);
+
+        assertEquals("ab", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write(new byte[100_000]);
+            throw new IOException("disk full");
+        }, FsyncPolicy.BATCHED));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    @Test
+    public void appendLines_missingFile_createsAndAppends() throws IOException {
+        Path file = testFolder.resolve("log").resolve("file.wal");
+        FileUtil.appendLines(file, List.of("a", "b"), true);
+        FileUtil.appendLines(file, List.of("c"), false);
+
+        assertEquals(List.of("a", "b", "c"), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
 }
@@ -14,6 +14,7 @@ import static peoplesoft.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.Path;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -28,6 +29,7 @@ import peoplesoft.model.ModelManager;
 import peoplesoft.model.ReadOnlyAddressBook;
 import peoplesoft.model.UserPrefs;
 import peoplesoft.model.person.Person;
+import peoplesoft.storage.AddressBookSaveQueue;
 import peoplesoft.storage.JsonAddressBookStorage;
 import peoplesoft.storage.JsonUserPrefsStorage;
 import peoplesoft.storage.StorageManager;
@@ -51,6 +53,12 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
     }
 
+    @AfterEach
+    public void tearDown() throws IOException {
+        // wait for background saves to finish before the temporary folder is deleted
+        logic.flush();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -70,14 +78,11 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
-        JsonAddressBookStorage addressBookStorage =
-                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+    public void execute_storageThrowsIoException_failureReportedAndSaveRetried() throws Exception {
+        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub that fails once, saving on the calling thread
+        JsonAddressBookIoExceptionThrowingStub addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"), 1);
+        logic = new LogicManager(model, new AddressBookSaveQueue(addressBookStorage, Runnable::run));
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
@@ -88,8 +93,80 @@ public class LogicManagerTest {
                 .build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        assertEquals(expectedModel, model);
+
+        assertEquals(1, addressBookStorage.saveCount);
+
+        // the failed save is reported with the next command, which saves the changes again
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS + "\n"
+                + LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandSuccess(ListCommand.COMMAND_WORD, expectedMessage, expectedModel);
+        assertEquals(2, addressBookStorage.saveCount);
+
+        // once saved, the changes are not saved again
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(2, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_storageKeepsThrowingIoException_saveRetriedWithEachCommand() throws Exception {
+        JsonAddressBookIoExceptionThrowingStub addressBookStorage = new JsonAddressBookIoExceptionThrowingStub(
+                temporaryFolder.resolve("ioExceptionAddressBook.json"), Integer.MAX_VALUE);
+        Logic failingLogic = new LogicManager(model, new AddressBookSaveQueue(addressBookStorage, Runnable::run));
+
+        failingLogic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RATE_DESC_AMY);
+        failingLogic.execute(ListCommand.COMMAND_WORD);
+        failingLogic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(3, addressBookStorage.saveCount);
+
+        // flushing on exit tries once more
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), failingLogic::flush);
+        assertEquals(4, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_throwsIoException() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookIoExceptionThrowingStub(
+                temporaryFolder.resolve("ioExceptionAddressBook.json"), Integer.MAX_VALUE);
+        Logic failingLogic = new LogicManager(model, new AddressBookSaveQueue(addressBookStorage));
+
+        failingLogic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RATE_DESC_AMY);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), failingLogic::flush);
+    }
+
+    @Test
+    public void flush_earlierSaveFailed_savedAgain() throws Exception {
+        JsonAddressBookIoExceptionThrowingStub addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"), 1);
+        logic = new LogicManager(model, new AddressBookSaveQueue(addressBookStorage, Runnable::run));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RATE_DESC_AMY);
+        assertEquals(1, addressBookStorage.saveCount);
+
+        // the failure has yet to be reported, so it is still thrown even though the retry succeeds
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), logic::flush);
+        assertEquals(2, addressBookStorage.saveCount);
+        logic.flush();
+        assertEquals(2, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_modelUnchanged_notSaved() throws Exception {
+        SaveCountingStub addressBookStorage = new SaveCountingStub(temporaryFolder.resolve("addressBook.json"));
+        logic = new LogicManager(model, new AddressBookSaveQueue(addressBookStorage, Runnable::run));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, addressBookStorage.saveCount);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RATE_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, addressBookStorage.saveCount);
     }
 
     @Test
@@ -151,16 +228,41 @@ public class LogicManagerTest {
     }
 
     /**
-     * A stub class to throw an {@code IOException} when the save method is called.
+     * A stub class to count the number of times the save method is called.
+     */
+    private static class SaveCountingStub extends JsonAddressBookStorage {
+        private int saveCount = 0;
+
+        private SaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} the first few times the save method is called, and to count the
+     * number of times it is called.
      */
     private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
-        private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
+        private int failuresLeft;
+        private int saveCount = 0;
+
+        private JsonAddressBookIoExceptionThrowingStub(Path filePath, int failures) {
             super(filePath);
+            this.failuresLeft = failures;
         }
 
         @Override
         public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-            throw DUMMY_IO_EXCEPTION;
+            saveCount++;
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw DUMMY_IO_EXCEPTION;
+            }
         }
     }
 }
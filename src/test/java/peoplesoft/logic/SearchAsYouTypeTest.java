@@ -0,0 +1,127 @@
+package peoplesoft.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+import static peoplesoft.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import peoplesoft.model.Model;
+import peoplesoft.model.ModelManager;
+import peoplesoft.model.UserPrefs;
+import peoplesoft.storage.AddressBookSaveQueue;
+import peoplesoft.storage.JsonAddressBookStorage;
+
+public class SearchAsYouTypeTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<Runnable> searches = new ArrayList<>();
+    private final List<Runnable> results = new ArrayList<>();
+
+    private Model model;
+    private SearchAsYouType searchAsYouType;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Logic logic = new LogicManager(model,
+                new AddressBookSaveQueue(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))));
+        searchAsYouType = new SearchAsYouType(logic, searches::add, results::add);
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        List<Runnable> tasksToRun = new ArrayList<>(tasks);
+        tasks.clear();
+        tasksToRun.forEach(Runnable::run);
+    }
+
+    @Test
+    public void getKeywords() {
+        assertEquals(Optional.of(List.of("al")), SearchAsYouType.getKeywords("find al"));
+        assertEquals(Optional.of(List.of("al", "9435")), SearchAsYouType.getKeywords("  search al \t9435 "));
+        assertEquals(Optional.of(List.of("al")), SearchAsYouType.getKeywords("find t/friends al -bob r/>10"));
+
+        // not a search with keywords
+        assertEquals(Optional.empty(), SearchAsYouType.getKeywords(""));
+        assertEquals(Optional.empty(), SearchAsYouType.getKeywords("find   "));
+        assertEquals(Optional.empty(), SearchAsYouType.getKeywords("finder al"));
+        assertEquals(Optional.empty(), SearchAsYouType.getKeywords("list t/friends"));
+        assertEquals(Optional.empty(), SearchAsYouType.getKeywords("find t/friends -al"));
+    }
+
+    @Test
+    public void update_partialKeyword_showsBestMatchesFirst() {
+        searchAsYouType.update("find mei");
+        runAll(searches);
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+
+        runAll(results);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_typingContinues_onlyLatestResultShown() {
+        searchAsYouType.update("find b");
+        // the user kept typing before the search started
+        searchAsYouType.update("find be");
+        runAll(searches);
+        assertEquals(1, results.size());
+
+        // the user kept typing before the result was shown
+        searchAsYouType.update("find ali");
+        runAll(searches);
+        runAll(results);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_notSearch_showsEveryPersonAgain() {
+        searchAsYouType.update("find ali");
+        runAll(searches);
+        runAll(results);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        searchAsYouType.update("find ");
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_notSearchAfterEnteredFilter_enteredFilterRestored() {
+        model.updateFilteredPersonList(person -> person.equals(BENSON) || person.equals(DANIEL));
+        searchAsYouType.update("find ali");
+        runAll(searches);
+        runAll(results);
+        searchAsYouType.update("find alic");
+        runAll(searches);
+        runAll(results);
+        assertEquals(ALICE, model.getFilteredPersonList().get(0));
+
+        searchAsYouType.update("");
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_pendingSearch_listLeftAsIs() {
+        model.updateFilteredPersonList(BENSON::equals);
+        searchAsYouType.update("find ali");
+        runAll(searches);
+        searchAsYouType.cancel();
+        runAll(results);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+
+        // the list is not reset when the command box is cleared
+        searchAsYouType.update("");
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+}
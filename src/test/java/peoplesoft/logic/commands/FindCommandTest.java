@@ -11,6 +11,8 @@ import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +20,10 @@ import peoplesoft.model.Model;
 import peoplesoft.model.ModelManager;
 import peoplesoft.model.UserPrefs;
 import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.query.PersonConditions;
+import peoplesoft.model.query.Query;
+import peoplesoft.model.query.Range;
+import peoplesoft.model.tag.Tag;
 
 
 /**
@@ -74,6 +80,18 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_keywordAndFilters_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(new Query<>(List.of(
+                PersonConditions.keywords(List.of("Meier")),
+                PersonConditions.rate(new Range(">=20")),
+                PersonConditions.tags(Set.of(new Tag("owesMoney"))).negate())));
+        expectedModel.updateFilteredPersonList(person -> person.equals(DANIEL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code PersonContainsKeywordsPredicate}.
      * @return
@@ -1,16 +1,24 @@
 package peoplesoft.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static peoplesoft.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static peoplesoft.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
 import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import peoplesoft.model.Model;
 import peoplesoft.model.ModelManager;
 import peoplesoft.model.UserPrefs;
+import peoplesoft.model.tag.Tag;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -36,4 +44,31 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_tags_showsTaggedPersons() {
+        Set<Tag> tags = Set.of(new Tag("Friends"), new Tag("owesMoney"));
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS_TAGS, 1, "[Friends] [owesMoney]", 0);
+        expectedModel.updateFilteredPersonList(BENSON::equals);
+        assertCommandSuccess(new ListCommand(tags), model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listFriendsCommand = new ListCommand(Set.of(new Tag("friends")));
+
+        // same object -> returns true
+        assertTrue(listFriendsCommand.equals(listFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(listFriendsCommand.equals(new ListCommand(Set.of(new Tag("friends")))));
+        assertTrue(new ListCommand().equals(new ListCommand(Set.of())));
+
+        // null -> returns false
+        assertFalse(listFriendsCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(listFriendsCommand.equals(new ListCommand()));
+    }
 }
@@ -1,15 +1,26 @@
 package peoplesoft.logic.commands;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import peoplesoft.commons.core.GuiSettings;
+import peoplesoft.model.ChangeJournal;
 import peoplesoft.model.Model;
 import peoplesoft.model.ReadOnlyAddressBook;
 import peoplesoft.model.ReadOnlyUserPrefs;
 import peoplesoft.model.job.Job;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
 import peoplesoft.model.person.Person;
+import peoplesoft.model.query.Query;
+import peoplesoft.model.tag.Tag;
 import peoplesoft.model.util.ID;
 
 /**
@@ -86,6 +97,41 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updatePersons(Collection<Person> editedPersons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<ID, Payment> getPaymentsForJob(ID jobId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Money getAmountDue(ID personId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Money getTotalAmountDue() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Money getTotalAmountPaid() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ChangeJournal.Entry commitChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         throw new AssertionError("This method should not be called.");
@@ -96,6 +142,61 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getFilteredPersonListComparator() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> findPersons(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> queryPersons(Query<Person> query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> searchPersons(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Comparator<Person> rankPersons(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Function<List<String>, Map<ID, Double>> getPersonSearcher() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> findPersonsWithTags(Collection<Tag> tags) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countPersonsWithTags(Collection<Tag> tags) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countPersonsOwedWithTags(Collection<Tag> tags) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasJob(ID jobId) {
         throw new AssertionError("This method should not be called.");
@@ -134,4 +235,29 @@ public class ModelStub implements Model {
     public void updateFilteredJobList(Predicate<Job> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void updateFilteredJobList(Predicate<Job> predicate, Comparator<Job> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Job> findJobs(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Job> queryJobs(Query<Job> query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Job> searchJobs(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Comparator<Job> rankJobs(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -0,0 +1,75 @@
+package peoplesoft.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static peoplesoft.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+import static peoplesoft.testutil.TypicalPersons.HOON;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.Model;
+import peoplesoft.model.ModelManager;
+import peoplesoft.model.UserPrefs;
+import peoplesoft.model.person.Person;
+import peoplesoft.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand firstCommand = new SearchCommand(List.of("first"));
+        SearchCommand secondCommand = new SearchCommand(List.of("second"));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new SearchCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_prefix_bestMatchesFirst() {
+        Person meiling = new PersonBuilder(HOON).withName("Mei Ling").build();
+        model.addPerson(meiling);
+        expectedModel.addPerson(meiling);
+
+        List<String> keywords = List.of("mei");
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        expectedModel.updateFilteredPersonList(expectedModel.searchPersons(keywords),
+                expectedModel.rankPersons(keywords));
+        assertCommandSuccess(new SearchCommand(keywords), model, expectedMessage, expectedModel);
+        assertEquals(List.of(meiling, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_typingMistake_personFound() {
+        List<String> keywords = List.of("Pualine");
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredPersonList(expectedModel.searchPersons(keywords),
+                expectedModel.rankPersons(keywords));
+        assertCommandSuccess(new SearchCommand(keywords), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+}
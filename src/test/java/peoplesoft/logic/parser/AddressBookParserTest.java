@@ -22,6 +22,8 @@ import peoplesoft.logic.commands.ExitCommand;
 import peoplesoft.logic.commands.FindCommand;
 import peoplesoft.logic.commands.HelpCommand;
 import peoplesoft.logic.commands.ListCommand;
+import peoplesoft.logic.commands.SearchCommand;
+import peoplesoft.logic.commands.job.JobSearchCommand;
 import peoplesoft.logic.parser.exceptions.ParseException;
 import peoplesoft.model.person.Person;
 import peoplesoft.model.person.PersonContainsKeywordsPredicate;
@@ -76,6 +78,15 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new PersonContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " foo ba");
+        assertEquals(new SearchCommand(List.of("foo", "ba")), command);
+
+        JobSearchCommand jobCommand = (JobSearchCommand) parser.parseCommand(JobSearchCommand.COMMAND_WORD + " foo");
+        assertEquals(new JobSearchCommand(List.of("foo")), jobCommand);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -1,15 +1,23 @@
 package peoplesoft.logic.parser;
 
 import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static peoplesoft.commons.core.Messages.MESSAGE_UNKNOWN_FILTER;
 import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import peoplesoft.logic.commands.FindCommand;
 import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.query.PersonConditions;
+import peoplesoft.model.query.Query;
+import peoplesoft.model.query.Range;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.util.ID;
 
 public class FindCommandParserTest {
 
@@ -31,4 +39,34 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_filters_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new Query<>(List.of(
+                PersonConditions.keywords(List.of("Alice", "Bob")),
+                PersonConditions.rate(new Range("10-20")),
+                PersonConditions.tags(Set.of(new Tag("friends"), new Tag("family"))),
+                PersonConditions.tags(Set.of(new Tag("intern"))).negate(),
+                PersonConditions.amountDue(new Range(">0")),
+                PersonConditions.owed(),
+                PersonConditions.assignedToJob("aircon"),
+                PersonConditions.keywords(List.of("Carol")).negate(),
+                PersonConditions.id(new ID("3")))));
+        assertParseSuccess(parser, "Alice r/10-20 t/friends|family -t/intern due/>0 is/OWED job/aircon Bob -Carol id/3",
+                expectedFindCommand);
+
+        // a lone dash is a keyword
+        assertParseSuccess(parser, "-", new FindCommand(new Query<>(List.of(PersonConditions.keywords(List.of("-"))))));
+    }
+
+    @Test
+    public void parse_invalidFilter_throwsParseException() {
+        assertParseFailure(parser, "Alice x/1", String.format(MESSAGE_UNKNOWN_FILTER, "x/1"));
+        assertParseFailure(parser, "person/alice", String.format(MESSAGE_UNKNOWN_FILTER, "person/alice"));
+        assertParseFailure(parser, "r/ten", Range.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "-due/20-10", Range.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "t/friends|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "is/paid", PersonConditions.MESSAGE_STATE_CONSTRAINTS);
+        assertParseFailure(parser, "id/-1", ID.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -0,0 +1,39 @@
+package peoplesoft.logic.parser;
+
+import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.logic.commands.ListCommand;
+import peoplesoft.model.tag.Tag;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noTags_returnsListCommand() {
+        assertParseSuccess(parser, "", new ListCommand());
+
+        // preamble is ignored
+        assertParseSuccess(parser, " 3", new ListCommand());
+    }
+
+    @Test
+    public void parse_tags_returnsListCommand() {
+        ListCommand expectedListCommand = new ListCommand(Set.of(new Tag("friends"), new Tag("owesMoney")));
+        assertParseSuccess(parser, " t/friends t/owesMoney", expectedListCommand);
+
+        // preamble is ignored
+        assertParseSuccess(parser, " all t/friends  t/owesMoney ", expectedListCommand);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " t/hubby*", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+}
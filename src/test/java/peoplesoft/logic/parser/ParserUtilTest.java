@@ -21,6 +21,8 @@ import peoplesoft.model.person.Address;
 import peoplesoft.model.person.Email;
 import peoplesoft.model.person.Name;
 import peoplesoft.model.person.Phone;
+import peoplesoft.model.query.JobConditions;
+import peoplesoft.model.query.Range;
 import peoplesoft.model.tag.Tag;
 import peoplesoft.model.util.ID;
 
@@ -303,4 +305,25 @@ public class ParserUtilTest {
         // With whitespace
         assertEquals(expectedId, ParserUtil.parseID(WHITESPACE + VALID_ID + WHITESPACE));
     }
+
+    @Test
+    public void parseRange_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseRange("20-10"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRange("=>10"));
+    }
+
+    @Test
+    public void parseRange_validValue_returnsRange() throws Exception {
+        assertEquals(new Range(">=10"), ParserUtil.parseRange(WHITESPACE + ">=10" + WHITESPACE));
+    }
+
+    @Test
+    public void parseJobState_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseJobState("owed"));
+    }
+
+    @Test
+    public void parseJobState_validValue_returnsState() throws Exception {
+        assertEquals(JobConditions.STATE_FINAL, ParserUtil.parseJobState(WHITESPACE + "Final" + WHITESPACE));
+    }
 }
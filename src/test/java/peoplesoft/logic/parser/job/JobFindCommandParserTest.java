@@ -1,15 +1,21 @@
 package peoplesoft.logic.parser.job;
 
 import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static peoplesoft.commons.core.Messages.MESSAGE_UNKNOWN_FILTER;
 import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import peoplesoft.logic.commands.job.JobFindCommand;
+import peoplesoft.logic.parser.ParserUtil;
 import peoplesoft.model.job.JobContainsKeywordsPredicate;
+import peoplesoft.model.query.JobConditions;
+import peoplesoft.model.query.Query;
+import peoplesoft.model.util.ID;
 
 public class JobFindCommandParserTest {
 
@@ -31,4 +37,22 @@ public class JobFindCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Power \n \t Puff  \t", expected);
     }
+
+    @Test
+    public void parse_filters_returnsFindCommand() {
+        JobFindCommand expected = new JobFindCommand(new Query<>(List.of(
+                JobConditions.keywords(List.of("aircon")),
+                JobConditions.state(JobConditions.STATE_UNPAID),
+                JobConditions.state(JobConditions.STATE_FINAL).negate(),
+                JobConditions.assignedToPerson("alice"),
+                JobConditions.id(new ID("12")))));
+        assertParseSuccess(parser, "is/Unpaid -is/final aircon person/alice id/12", expected);
+    }
+
+    @Test
+    public void parse_invalidFilter_throwsParseException() {
+        assertParseFailure(parser, "aircon t/friends", String.format(MESSAGE_UNKNOWN_FILTER, "t/friends"));
+        assertParseFailure(parser, "is/owed", JobConditions.MESSAGE_STATE_CONSTRAINTS);
+        assertParseFailure(parser, "person/", ParserUtil.STRING_MESSAGE_CONSTRAINTS);
+    }
 }
@@ -0,0 +1,32 @@
+package peoplesoft.logic.parser.job;
+
+import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.logic.commands.job.JobSearchCommand;
+
+public class JobSearchCommandParserTest {
+
+    private JobSearchCommandParser parser = new JobSearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, " \r\t\n", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                JobSearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        // no leading and trailing whitespaces
+        JobSearchCommand expected = new JobSearchCommand(List.of("Pow", "Puf"));
+        assertParseSuccess(parser, "Pow Puf", expected);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Pow \n \t Puf  \t", expected);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,8 +35,12 @@ import peoplesoft.commons.util.JsonUtil;
 import peoplesoft.model.employment.Employment;
 import peoplesoft.model.job.Job;
 import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
 
 public class AddressBookSerdesTest {
+    private static final int MANY_PERSONS_COUNT = 1000;
+
     @Test
     public void serialize_validNonEmptyAttrs_returnsValidSerialization() throws JsonProcessingException {
         List<Person> personList = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
@@ -177,4 +182,57 @@ public class AddressBookSerdesTest {
         assertEquals(id, JsonUtil.fromJsonString(serializedJobIdState, int.class));
         // TODO if needed
     }
+
+    @Test
+    public void deserialize_personsInManyChunks_returnsPersonsInOrder() throws IOException {
+        AddressBook ab = new AddressBook();
+        ab.setPersons(getManyPersons());
+        ab.setJobs(List.of());
+
+        assertEquals(ab, JsonUtil.fromJsonString(JsonUtil.toJsonString(ab), AddressBook.class));
+    }
+
+    @Test
+    public void deserialize_invalidPersonInLaterChunk_throwsJsonMappingException() {
+        List<String> serializedPersonList = getManyPersons().stream()
+                .map(p -> serializePerson(p))
+                .collect(Collectors.toList());
+        serializedPersonList.set(MANY_PERSONS_COUNT - 1, serializePerson(
+                "15",
+                "R@chel",
+                BENSON.getPhone().toString(),
+                BENSON.getAddress().toString(),
+                BENSON.getEmail().toString(),
+                BENSON.getRate().getAmount().printFullValue(),
+                Collections.singleton("friend"),
+                Set.of()));
+
+        String serializedObject = serializeObject(Map.of("persons", serializeList(serializedPersonList),
+                "jobs", serializeList(List.of())));
+
+        assertThrows(JsonMappingException.class, () -> JsonUtil.fromJsonString(serializedObject, AddressBook.class));
+    }
+
+    @Test
+    public void deserialize_duplicatePersonsInDifferentChunks_throwsJsonMappingException() {
+        List<String> serializedPersonList = getManyPersons().stream()
+                .map(p -> serializePerson(p))
+                .collect(Collectors.toList());
+        serializedPersonList.add(serializePerson(ALICE));
+        serializedPersonList.add(0, serializePerson(ALICE));
+
+        String serializedObject = serializeObject(Map.of("persons", serializeList(serializedPersonList),
+                "jobs", serializeList(List.of())));
+
+        assertThrows(JsonMappingException.class, () -> JsonUtil.fromJsonString(serializedObject, AddressBook.class));
+    }
+
+    /**
+     * Returns enough persons that they are deserialized in several chunks.
+     */
+    private static List<Person> getManyPersons() {
+        return IntStream.range(0, MANY_PERSONS_COUNT)
+                .mapToObj(i -> new PersonBuilder(ALICE).withId(new ID("many" + i)).build())
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,76 @@
+package peoplesoft.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.util.ID;
+
+public class AddressBookSnapshotTest {
+    private static final Job EATING = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+
+    @AfterEach
+    public void tearDown() {
+        Employment.newInstance();
+    }
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookSnapshot.of(null));
+    }
+
+    @Test
+    public void serialize_sameAsAddressBook() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        addressBook.setJobs(List.of(EATING));
+        Employment.newInstance();
+        Employment.getInstance().associate(EATING, ALICE);
+        Employment.getInstance().associate(EATING, CARL);
+
+        assertEquals(JsonUtil.toJsonString(addressBook),
+                JsonUtil.toJsonString(AddressBookSnapshot.of(addressBook)));
+    }
+
+    @Test
+    public void of_modelChangedAfterwards_snapshotUnchanged() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(ALICE));
+        Employment.newInstance();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        AddressBookSnapshot copy = AddressBookSnapshot.of(addressBook);
+        assertEquals(snapshot, copy);
+
+        addressBook.addPerson(BENSON);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertNotEquals(snapshot, AddressBookSnapshot.of(addressBook));
+
+        addressBook.removePerson(BENSON);
+        addressBook.addJob(EATING);
+        Employment.getInstance().associate(EATING, ALICE);
+        AddressBookSnapshot withEmployment = AddressBookSnapshot.of(addressBook);
+        assertNotEquals(snapshot, withEmployment);
+
+        Employment.getInstance().disassociate(EATING, ALICE);
+        assertNotEquals(AddressBookSnapshot.of(addressBook), withEmployment);
+
+        int jobIdState = JobIdFactory.getId();
+        JobIdFactory.setId(jobIdState + 1);
+        assertNotEquals(copy, AddressBookSnapshot.of(addressBook));
+        JobIdFactory.setId(jobIdState);
+    }
+}
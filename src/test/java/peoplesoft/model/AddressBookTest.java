@@ -7,20 +7,33 @@ import static peoplesoft.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static peoplesoft.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static peoplesoft.testutil.Assert.assertThrows;
 import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+import static peoplesoft.testutil.TypicalPersons.ELLE;
 import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import peoplesoft.model.job.Job;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
 import peoplesoft.model.person.Person;
 import peoplesoft.model.person.exceptions.DuplicatePersonException;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.util.ID;
 import peoplesoft.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -79,11 +92,147 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice.getPersonId()));
     }
 
+    @Test
+    public void findPersons_personsChanged_matchesChangedPersons() {
+        addressBook.setPersons(List.of(ALICE, BENSON, CARL));
+        Predicate<Person> predicate = addressBook.findPersons(List.of("friends"));
+        assertEquals(List.of(ALICE, BENSON), filter(addressBook.getPersonList(), predicate));
+
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(DANIEL);
+        assertEquals(List.of(BENSON, editedCarl, DANIEL), filter(addressBook.getPersonList(), predicate));
+        assertEquals(List.of(BENSON, DANIEL), filter(addressBook.getPersonList(),
+                addressBook.findPersons(List.of("MEIER"))));
+    }
+
+    @Test
+    public void findPersonsWithTags_personsChanged_matchesChangedPersons() {
+        addressBook.setPersons(List.of(ALICE, BENSON, CARL));
+        Predicate<Person> predicate = addressBook.findPersonsWithTags(Set.of(new Tag("FRIENDS")));
+        assertEquals(List.of(ALICE, BENSON), filter(addressBook.getPersonList(), predicate));
+        assertEquals(List.of(BENSON), filter(addressBook.getPersonList(),
+                addressBook.findPersonsWithTags(Set.of(new Tag("friends"), new Tag("owesmoney")))));
+
+        // names are not tags
+        assertEquals(List.of(), filter(addressBook.getPersonList(),
+                addressBook.findPersonsWithTags(Set.of(new Tag("Alice")))));
+
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        Person editedBenson = new PersonBuilder(BENSON).withTags("owesMoney").build();
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(editedCarl), filter(addressBook.getPersonList(), predicate));
+    }
+
+    @Test
+    public void countPersonsWithTags_taggedPersons_countsOnlyTaggedPersons() {
+        addressBook.setPersons(List.of(ALICE, BENSON, CARL, DANIEL));
+        assertEquals(3, addressBook.countPersonsWithTags(Set.of(new Tag("friends"))));
+        assertEquals(1, addressBook.countPersonsWithTags(Set.of(new Tag("OwesMoney"))));
+        assertEquals(0, addressBook.countPersonsWithTags(Set.of(new Tag("enemies"))));
+        assertEquals(0, addressBook.countPersonsWithTags(Set.of()));
+
+        addressBook.addPerson(new PersonBuilder(ELLE).withTags("friends").build());
+        assertEquals(4, addressBook.countPersonsWithTags(Set.of(new Tag("friends"))));
+    }
+
+    @Test
+    public void countPersonsOwedWithTags_pendingPayments_countsOnlyOwedPersons() {
+        Job job = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+        Payment pending = Payment.createPayment(ALICE, job, new Money(10));
+        Person aliceWithPayment = new PersonBuilder(ALICE).withPayments(List.of(pending)).build();
+        Set<Tag> friends = Set.of(new Tag("friends"));
+
+        addressBook.setPersons(List.of(aliceWithPayment, BENSON, DANIEL));
+        assertEquals(1, addressBook.countPersonsOwedWithTags(friends));
+
+        Person alicePaid = new PersonBuilder(ALICE).withPayments(List.of(pending.pay())).build();
+        addressBook.setPerson(aliceWithPayment, alicePaid);
+        assertEquals(0, addressBook.countPersonsOwedWithTags(friends));
+        assertEquals(3, addressBook.countPersonsWithTags(friends));
+    }
+
+    @Test
+    public void findJobs_jobsChanged_matchesChangedJobs() {
+        Job eating = new Job(new ID(1043), "Eating lunch", Duration.ofHours(2));
+        Job running = new Job(new ID(3175), "Running", Duration.ofHours(8));
+        addressBook.addJob(eating);
+        addressBook.addJob(running);
+        Predicate<Job> predicate = addressBook.findJobs(List.of("lunch"));
+        assertEquals(List.of(eating), filter(addressBook.getJobList(), predicate));
+
+        Job lunchRun = new Job(new ID(3175), "Running after lunch", Duration.ofHours(8));
+        addressBook.setJob(running, lunchRun);
+        assertEquals(List.of(eating, lunchRun), filter(addressBook.getJobList(), predicate));
+
+        addressBook.setJobs(List.of(running));
+        assertEquals(List.of(), filter(addressBook.getJobList(), predicate));
+    }
+
+    @Test
+    public void searchPersons_personsChanged_matchesChangedPersonsBestFirst() {
+        addressBook.setPersons(List.of(ALICE, BENSON, CARL, DANIEL));
+        List<String> keywords = List.of("mei");
+        Predicate<Person> predicate = addressBook.searchPersons(keywords);
+        assertEquals(List.of(BENSON, DANIEL), filter(addressBook.getPersonList(), predicate));
+        assertEquals(List.of(ALICE), filter(addressBook.getPersonList(),
+                addressBook.searchPersons(List.of("alice", "94351"))));
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Mei").build();
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.removePerson(BENSON);
+        List<Person> found = filter(addressBook.getPersonList(), predicate);
+        found.sort(addressBook.rankPersons(keywords));
+        assertEquals(List.of(editedCarl, DANIEL), found);
+    }
+
+    @Test
+    public void searchJobs_typingMistake_matchesJob() {
+        Job eating = new Job(new ID(1043), "Eating lunch", Duration.ofHours(2));
+        Job running = new Job(new ID(3175), "Running", Duration.ofHours(8));
+        addressBook.addJob(eating);
+        addressBook.addJob(running);
+        assertEquals(List.of(eating), filter(addressBook.getJobList(), addressBook.searchJobs(List.of("lucnh"))));
+        assertEquals(List.of(running), filter(addressBook.getJobList(), addressBook.searchJobs(List.of("RUN"))));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getAmountDue_personChanges_tracksPayments() {
+        Job job = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+        Payment pending = Payment.createPayment(ALICE, job, new Money(10));
+        Person aliceWithPayment = new PersonBuilder(ALICE).withPayments(List.of(pending)).build();
+
+        addressBook.addPerson(aliceWithPayment);
+        assertEquals(new Money(10), addressBook.getAmountDue(ALICE.getPersonId()));
+        assertEquals(Map.of(ALICE.getPersonId(), pending), addressBook.getPaymentsForJob(job.getJobId()));
+
+        Person alicePaid = new PersonBuilder(ALICE).withPayments(List.of(pending.pay())).build();
+        addressBook.updatePersons(List.of(alicePaid));
+        assertEquals(new Money(0), addressBook.getAmountDue(ALICE.getPersonId()));
+
+        addressBook.setPerson(alicePaid, aliceWithPayment);
+        assertEquals(new Money(10), addressBook.getAmountDue(ALICE.getPersonId()));
+
+        addressBook.removePerson(aliceWithPayment);
+        assertEquals(new Money(0), addressBook.getAmountDue(ALICE.getPersonId()));
+        assertTrue(addressBook.getPaymentsForJob(job.getJobId()).isEmpty());
+
+        addressBook.resetData(new PersonAddressBookStub(List.of(aliceWithPayment)));
+        assertEquals(new Money(10), addressBook.getAmountDue(ALICE.getPersonId()));
+    }
+
+    private static <T> List<T> filter(List<T> list, Predicate<T> predicate) {
+        return list.stream().filter(predicate).collect(Collectors.toList());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -0,0 +1,135 @@
+package peoplesoft.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+public class ChangeJournalTest {
+    private static final Job EATING = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+    private static final Job RUNNING = new Job(new ID(3175), "Running", Duration.ofHours(8));
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        Employment.newInstance();
+        addressBook = new AddressBook();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Employment.newInstance();
+    }
+
+    @Test
+    public void commit_noChanges_returnsEmptyEntry() {
+        long version = addressBook.getVersion();
+        ChangeJournal.Entry entry = addressBook.commitChanges();
+        assertTrue(entry.isEmpty());
+        assertEquals(version, entry.getVersion());
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void commit_personChanges_recordsTouchedPersons() {
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON));
+        addressBook.commitChanges();
+
+        long version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("999").build());
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(CARL);
+        assertTrue(addressBook.getVersion() > version);
+
+        ChangeJournal.Entry entry = addressBook.commitChanges();
+        assertEquals(Set.of(ALICE.getPersonId(), BENSON.getPersonId(), CARL.getPersonId()), entry.getPersonIds());
+        assertTrue(entry.getJobIds().isEmpty());
+        assertFalse(entry.isEmploymentChanged());
+
+        // changes are only returned once
+        assertTrue(addressBook.commitChanges().isEmpty());
+    }
+
+    @Test
+    public void commit_setPersons_recordsOldAndNewPersons() {
+        addressBook.setPersons(List.of(ALICE));
+        addressBook.commitChanges();
+
+        addressBook.setPersons(List.of(BENSON));
+        assertEquals(Set.of(ALICE.getPersonId(), BENSON.getPersonId()), addressBook.commitChanges().getPersonIds());
+    }
+
+    @Test
+    public void commit_jobChanges_recordsTouchedJobs() {
+        addressBook.addJob(EATING);
+        addressBook.addJob(RUNNING);
+        addressBook.commitChanges();
+
+        addressBook.setJob(EATING, EATING.setAsPaid());
+        addressBook.removeJob(RUNNING);
+        ChangeJournal.Entry entry = addressBook.commitChanges();
+        assertEquals(Set.of(EATING.getJobId(), RUNNING.getJobId()), entry.getJobIds());
+        assertTrue(entry.getPersonIds().isEmpty());
+    }
+
+    @Test
+    public void commit_employmentChanges_detected() {
+        Employment.getInstance().associate(EATING, ALICE);
+        assertTrue(addressBook.commitChanges().isEmploymentChanged());
+        assertTrue(addressBook.commitChanges().isEmpty());
+
+        Employment.getInstance().deletePerson(ALICE);
+        assertTrue(addressBook.commitChanges().isEmploymentChanged());
+
+        // deleting a person without associations changes nothing
+        Employment.getInstance().deletePerson(ALICE);
+        assertTrue(addressBook.commitChanges().isEmpty());
+
+        // replacing the instance is a change
+        Employment.newInstance();
+        assertTrue(addressBook.commitChanges().isEmploymentChanged());
+    }
+
+    @Test
+    public void commit_idStateChanges_detected() {
+        int personIdState = PersonIdFactory.getId();
+        long version = addressBook.getVersion();
+        PersonIdFactory.nextId();
+        try {
+            assertTrue(addressBook.getVersion() > version);
+            ChangeJournal.Entry entry = addressBook.commitChanges();
+            assertTrue(entry.isIdStateChanged());
+            assertFalse(entry.isEmpty());
+        } finally {
+            PersonIdFactory.setId(personIdState);
+        }
+    }
+
+    @Test
+    public void merge_twoEntries_changesOfBoth() {
+        ChangeJournal.Entry first = new ChangeJournal.Entry(3, Set.of(ALICE.getPersonId()), Set.of(), true, false);
+        ChangeJournal.Entry second = new ChangeJournal.Entry(5, Set.of(BENSON.getPersonId()),
+                Set.of(EATING.getJobId()), false, false);
+        assertEquals(new ChangeJournal.Entry(5, Set.of(ALICE.getPersonId(), BENSON.getPersonId()),
+                Set.of(EATING.getJobId()), true, false), first.merge(second));
+        assertEquals(first.merge(second), second.merge(first));
+    }
+}
@@ -0,0 +1,54 @@
+package peoplesoft.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.employment.Employment;
+
+public class DeferredSnapshotTest {
+    @AfterEach
+    public void tearDown() {
+        Employment.newInstance();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        AddressBook addressBook = new AddressBook();
+        assertThrows(NullPointerException.class, () -> new DeferredSnapshot(null, addressBook.commitChanges()));
+        assertThrows(NullPointerException.class, () -> new DeferredSnapshot(addressBook, null));
+    }
+
+    @Test
+    public void get_addressBookChangedBeforeTaken_latestStateTaken() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        DeferredSnapshot deferred = new DeferredSnapshot(addressBook, addressBook.commitChanges());
+
+        // nothing is copied until the snapshot is asked for
+        addressBook.addPerson(BENSON);
+        assertEquals(List.of(ALICE, BENSON), deferred.get().getPersonList());
+    }
+
+    @Test
+    public void get_addressBookChangedAfterTaken_sameSnapshot() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        DeferredSnapshot deferred = new DeferredSnapshot(addressBook, addressBook.commitChanges());
+        AddressBookSnapshot snapshot = deferred.get();
+        assertEquals(Set.of(ALICE.getPersonId()), snapshot.getChangedPersons().keySet());
+
+        addressBook.addPerson(CARL);
+        assertSame(snapshot, deferred.get());
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+    }
+}
@@ -2,21 +2,30 @@ package peoplesoft.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static peoplesoft.testutil.Assert.assertThrows;
 import static peoplesoft.testutil.TypicalPersons.ALICE;
 import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import peoplesoft.commons.core.GuiSettings;
 import peoplesoft.model.person.Person;
 import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.person.PersonStore;
+import peoplesoft.model.person.exceptions.PersonNotFoundException;
 import peoplesoft.model.util.ID;
 import peoplesoft.testutil.AddressBookBuilder;
 
@@ -31,6 +40,24 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void adopt_addressBook_usesAddressBookWithoutCopying() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        UserPrefs userPrefs = new UserPrefs();
+        ModelManager adoptingModelManager = ModelManager.adopt(addressBook, userPrefs);
+        assertSame(addressBook, adoptingModelManager.getAddressBook());
+        assertEquals(userPrefs, adoptingModelManager.getUserPrefs());
+
+        adoptingModelManager.deletePerson(ALICE);
+        assertFalse(addressBook.hasPerson(ALICE.getPersonId()));
+        assertFalse(adoptingModelManager.getFilteredPersonList().contains(ALICE));
+    }
+
+    @Test
+    public void adopt_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ModelManager.adopt(null, new UserPrefs()));
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -95,6 +122,60 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void updateFilteredPersonList_comparator_ordersUntilFilterUpdated() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing(person -> person.getName().fullName, Comparator.reverseOrder()));
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonList_storedPersons_onlyViewedPersonsBuilt() {
+        List<Person> storedPersons = List.of(ALICE, BENSON, CARL);
+        List<Person> builtPersons = new ArrayList<>();
+        PersonStore store = new PersonStore() {
+            @Override
+            public List<ID> getPersonIds() {
+                return storedPersons.stream().map(Person::getPersonId).collect(Collectors.toList());
+            }
+
+            @Override
+            public Person getPerson(ID personId) {
+                Person person = storedPersons.stream().filter(p -> p.getPersonId().equals(personId))
+                        .findFirst().orElseThrow(PersonNotFoundException::new);
+                builtPersons.add(person);
+                return person;
+            }
+        };
+        ModelManager lazyModelManager = ModelManager.adopt(new AddressBook(store, List.of()), new UserPrefs());
+
+        ObservableList<Person> persons = lazyModelManager.getFilteredPersonList();
+        assertEquals(3, persons.size());
+        assertTrue(builtPersons.isEmpty());
+        assertEquals(BENSON, persons.get(1));
+        assertEquals(List.of(BENSON), builtPersons);
+
+        // ranked persons are kept in sorted order only until the filter is updated
+        lazyModelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing(person -> person.getName().fullName, Comparator.reverseOrder()));
+        assertEquals(List.of(CARL, BENSON, ALICE), persons);
+        lazyModelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        builtPersons.clear();
+        assertEquals(ALICE, persons.get(0));
+        assertEquals(List.of(ALICE), builtPersons);
+    }
+
+    @Test
+    public void updateFilteredPersonList_nullComparator_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, null));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
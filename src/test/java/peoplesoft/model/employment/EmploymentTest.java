@@ -1,5 +1,6 @@
 package peoplesoft.model.employment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.testutil.Assert.assertThrows;
@@ -7,9 +8,15 @@ import static peoplesoft.testutil.TypicalPersons.ALICE;
 import static peoplesoft.testutil.TypicalPersons.BOB;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import peoplesoft.model.Model;
+import peoplesoft.model.ModelManager;
 import peoplesoft.model.employment.exceptions.DuplicateEmploymentException;
 import peoplesoft.model.employment.exceptions.EmploymentNotFoundException;
 import peoplesoft.model.job.Job;
@@ -123,10 +130,14 @@ public class EmploymentTest {
         assertTrue(employment.getAllJobs().get(EATING.getJobId()).contains(ALICE.getPersonId()));
         assertFalse(employment.getAllJobs().get(EATING.getJobId()).contains(BOB.getPersonId()));
 
+        assertTrue(employment.getJobIds(BOB.getPersonId()).isEmpty());
+        assertEquals(Set.of(EATING.getJobId(), RUNNING.getJobId()), employment.getJobIds(ALICE.getPersonId()));
+
         // Delete Alice
         employment.deletePerson(ALICE);
         assertFalse(employment.getAllJobs().containsKey(EATING.getJobId()));
         assertFalse(employment.getAllJobs().containsKey(RUNNING.getJobId()));
+        assertTrue(employment.getJobIds(ALICE.getPersonId()).isEmpty());
     }
 
     @Test
@@ -145,9 +156,99 @@ public class EmploymentTest {
         employment.deleteJob(EATING);
         assertFalse(employment.getAllJobs().containsKey(EATING.getJobId()));
         assertTrue(employment.getAllJobs().containsKey(RUNNING.getJobId()));
+        assertEquals(Set.of(RUNNING.getJobId()), employment.getJobIds(ALICE.getPersonId()));
+        assertTrue(employment.getJobIds(BOB.getPersonId()).isEmpty());
 
         // Delete running
         employment.deleteJob(RUNNING);
         assertFalse(employment.getAllJobs().containsKey(RUNNING));
     }
+
+    @Test
+    public void getIds_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Employment().getJobIds(null));
+        assertThrows(NullPointerException.class, () -> new Employment().getPersonIds(null));
+    }
+
+    @Test
+    public void getIds_bothDirections_consistent() {
+        Employment employment = new Employment();
+        assertTrue(employment.getJobIds(ALICE.getPersonId()).isEmpty());
+        assertTrue(employment.getPersonIds(EATING.getJobId()).isEmpty());
+
+        employment.associate(EATING, ALICE);
+        employment.associate(EATING, BOB);
+        employment.associate(RUNNING, ALICE);
+        assertEquals(Set.of(ALICE.getPersonId(), BOB.getPersonId()), employment.getPersonIds(EATING.getJobId()));
+        assertEquals(Set.of(ALICE.getPersonId()), employment.getPersonIds(RUNNING.getJobId()));
+        assertEquals(Set.of(EATING.getJobId(), RUNNING.getJobId()), employment.getJobIds(ALICE.getPersonId()));
+        assertEquals(Set.of(EATING.getJobId()), employment.getJobIds(BOB.getPersonId()));
+
+        employment.disassociate(EATING, ALICE);
+        assertEquals(Set.of(BOB.getPersonId()), employment.getPersonIds(EATING.getJobId()));
+        assertEquals(Set.of(RUNNING.getJobId()), employment.getJobIds(ALICE.getPersonId()));
+    }
+
+    @Test
+    public void getIds_modifyResult_throwsUnsupportedOperationException() {
+        Employment employment = new Employment();
+        employment.associate(EATING, ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> employment.getJobIds(ALICE.getPersonId()).clear());
+        assertThrows(UnsupportedOperationException.class, () -> employment.getPersonIds(EATING.getJobId()).clear());
+        assertThrows(UnsupportedOperationException.class, () -> employment.getAllJobs().clear());
+    }
+
+    @Test
+    public void constructor_fromMap_buildsReverseIndex() {
+        Employment employment = new Employment(Map.of(
+                EATING.getJobId(), Set.of(ALICE.getPersonId(), BOB.getPersonId()),
+                RUNNING.getJobId(), Set.of(ALICE.getPersonId())));
+        assertEquals(Set.of(EATING.getJobId(), RUNNING.getJobId()), employment.getJobIds(ALICE.getPersonId()));
+        assertEquals(Set.of(EATING.getJobId()), employment.getJobIds(BOB.getPersonId()));
+
+        employment.deletePerson(ALICE);
+        assertEquals(Set.of(BOB.getPersonId()), employment.getPersonIds(EATING.getJobId()));
+        assertFalse(employment.getAllJobs().containsKey(RUNNING.getJobId()));
+    }
+
+    @Test
+    public void getJobsAndPersons_doesNotFilterModel() {
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BOB);
+        model.addJob(EATING);
+        model.addJob(RUNNING);
+        Employment employment = new Employment();
+        employment.associate(EATING, ALICE);
+        employment.associate(EATING, BOB);
+        employment.associate(RUNNING, ALICE);
+
+        assertEquals(List.of(EATING), employment.getJobs(BOB, model));
+        assertEquals(Set.of(EATING, RUNNING), new HashSet<>(employment.getJobs(ALICE, model)));
+        assertEquals(Set.of(ALICE, BOB), new HashSet<>(employment.getPersons(EATING, model)));
+        assertEquals(List.of(ALICE), employment.getPersons(RUNNING, model));
+        assertEquals(2, model.getFilteredPersonList().size());
+        assertEquals(2, model.getFilteredJobList().size());
+
+        // ids that are not in the model are skipped
+        model.deletePerson(BOB);
+        assertEquals(List.of(ALICE), employment.getPersons(EATING, model));
+    }
+
+    @Test
+    public void filterLists_filtersModel() {
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BOB);
+        model.addJob(EATING);
+        model.addJob(RUNNING);
+        Employment employment = new Employment();
+        employment.associate(EATING, BOB);
+        employment.associate(RUNNING, ALICE);
+
+        employment.filterJobList(BOB, model);
+        assertEquals(List.of(EATING), model.getFilteredJobList());
+        employment.filterPersonList(RUNNING, model);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
 }
@@ -0,0 +1,134 @@
+package peoplesoft.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.job.exceptions.DuplicateJobException;
+import peoplesoft.model.job.exceptions.JobNotFoundException;
+import peoplesoft.model.util.ID;
+
+public class UniqueJobListTest {
+    private static final Job EATING = new Job(new ID(1043), "Eating", Duration.ofDays(1));
+    private static final Job RUNNING = new Job(new ID(3175), "Running", Duration.ofHours(8));
+    private static final Job SLEEPING = new Job(new ID(4231), "Sleeping", Duration.ofHours(7));
+
+    private final UniqueJobList uniqueJobList = new UniqueJobList();
+
+    @Test
+    public void contains_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueJobList.contains(null));
+    }
+
+    @Test
+    public void contains_jobInList_returnsTrue() {
+        assertFalse(uniqueJobList.contains(EATING.getJobId()));
+        uniqueJobList.add(EATING);
+        assertTrue(uniqueJobList.contains(EATING.getJobId()));
+    }
+
+    @Test
+    public void get_jobNotInList_throwsJobNotFoundException() {
+        assertThrows(JobNotFoundException.class, () -> uniqueJobList.get(EATING.getJobId()));
+    }
+
+    @Test
+    public void get_jobInList_returnsJob() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.add(RUNNING);
+        assertEquals(EATING, uniqueJobList.get(EATING.getJobId()));
+        assertEquals(RUNNING, uniqueJobList.get(RUNNING.getJobId()));
+    }
+
+    @Test
+    public void add_duplicateJob_throwsDuplicateJobException() {
+        uniqueJobList.add(EATING);
+        assertThrows(DuplicateJobException.class, () -> uniqueJobList.add(EATING));
+    }
+
+    @Test
+    public void setJob_targetJobNotInList_throwsJobNotFoundException() {
+        assertThrows(JobNotFoundException.class, () -> uniqueJobList.setJob(EATING, EATING));
+    }
+
+    @Test
+    public void setJob_editedJobHasSameIdentity_success() {
+        uniqueJobList.add(EATING);
+        Job paidEating = EATING.setAsPaid();
+        uniqueJobList.setJob(EATING, paidEating);
+        assertEquals(paidEating, uniqueJobList.get(EATING.getJobId()));
+
+        // the old version of the job is no longer in the list
+        assertThrows(JobNotFoundException.class, () -> uniqueJobList.setJob(EATING, EATING));
+    }
+
+    @Test
+    public void setJob_editedJobHasNonUniqueIdentity_throwsDuplicateJobException() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.add(RUNNING);
+        assertThrows(DuplicateJobException.class, () -> uniqueJobList.setJob(EATING, RUNNING));
+    }
+
+    @Test
+    public void remove_jobDoesNotExist_throwsJobNotFoundException() {
+        assertThrows(JobNotFoundException.class, () -> uniqueJobList.remove(EATING));
+    }
+
+    @Test
+    public void remove_middleJob_laterJobsStillAccessible() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.add(RUNNING);
+        uniqueJobList.add(SLEEPING);
+        uniqueJobList.remove(RUNNING);
+
+        assertFalse(uniqueJobList.contains(RUNNING.getJobId()));
+        assertEquals(SLEEPING, uniqueJobList.get(SLEEPING.getJobId()));
+        uniqueJobList.setJob(SLEEPING, SLEEPING.setAsPaid());
+        assertEquals(Arrays.asList(EATING, SLEEPING.setAsPaid()), uniqueJobList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setJobs_list_replacesOwnListWithProvidedList() {
+        uniqueJobList.add(EATING);
+        List<Job> jobList = Arrays.asList(RUNNING, SLEEPING);
+        uniqueJobList.setJobs(jobList);
+        assertFalse(uniqueJobList.contains(EATING.getJobId()));
+        assertEquals(SLEEPING, uniqueJobList.get(SLEEPING.getJobId()));
+        assertEquals(jobList, uniqueJobList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setJobs_listWithDuplicateJobs_throwsDuplicateJobException() {
+        List<Job> listWithDuplicateJobs = Arrays.asList(EATING, EATING);
+        assertThrows(DuplicateJobException.class, () -> uniqueJobList.setJobs(listWithDuplicateJobs));
+    }
+
+    @Test
+    public void setJobs_listWithDuplicateJobs_reportsDuplicateIds() {
+        Job renamedRunning = new Job(RUNNING.getJobId(), "Jogging", Duration.ofHours(2));
+        List<Job> listWithDuplicateJobs = Arrays.asList(EATING, RUNNING, SLEEPING, renamedRunning);
+        assertThrows(DuplicateJobException.class,
+                new DuplicateJobException(List.of(RUNNING.getJobId())).getMessage(), () ->
+                uniqueJobList.setJobs(listWithDuplicateJobs));
+    }
+
+    @Test
+    public void jobsAreUnique() {
+        assertTrue(uniqueJobList.jobsAreUnique(List.of()));
+        assertTrue(uniqueJobList.jobsAreUnique(Arrays.asList(EATING, RUNNING, SLEEPING)));
+        assertFalse(uniqueJobList.jobsAreUnique(Arrays.asList(EATING, RUNNING, EATING)));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueJobList.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -1,5 +1,6 @@
 package peoplesoft.model.money;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -15,6 +16,10 @@ public class MoneyTest {
     private static final Money ONE = new Money(1);
     private static final Money TWO = new Money(2);
 
+    // largest and smallest values that can be held as a long number of micro-units
+    private static final Money MAX_COMPACT = new Money(BigDecimal.valueOf(Long.MAX_VALUE, 6));
+    private static final Money MIN_COMPACT = new Money(BigDecimal.valueOf(Long.MIN_VALUE, 6));
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NumberFormatException.class, () -> new Money(Double.NaN));
@@ -79,6 +84,47 @@ public class MoneyTest {
         assertEquals(new Money(93.7265328).printFullValue(), "93.726533");
     }
 
+    @Test
+    public void add_overflow_fallsBackToBigDecimal() {
+        BigDecimal micro = BigDecimal.valueOf(1, 6);
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 6).add(micro),
+                MAX_COMPACT.add(new Money(micro)).getValue());
+        assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, 6).subtract(micro),
+                MIN_COMPACT.add(new Money(micro.negate())).getValue());
+
+        // back into range
+        assertEquals(MAX_COMPACT, MAX_COMPACT.add(ONE).subtract(ONE));
+    }
+
+    @Test
+    public void subtract_overflow_fallsBackToBigDecimal() {
+        assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, 6).subtract(BigDecimal.ONE),
+                MIN_COMPACT.subtract(ONE).getValue());
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 6).add(BigDecimal.ONE),
+                MAX_COMPACT.subtract(new Money(-1)).getValue());
+    }
+
+    @Test
+    public void multiply_long() {
+        assertEquals(ZERO, ONE.multiply(0L));
+        assertEquals(new Money(-7.5), new Money(2.5).multiply(-3L));
+        assertEquals(new Money(36.24), new Money(12.08).multiply(3L));
+
+        // overflow -> falls back to BigDecimal
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 6).multiply(BigDecimal.valueOf(2)),
+                MAX_COMPACT.multiply(2L).getValue());
+        assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, 6).negate(), MIN_COMPACT.multiply(-1L).getValue());
+    }
+
+    @Test
+    public void signum() {
+        assertEquals(0, ZERO.signum());
+        assertEquals(1, ONE.signum());
+        assertEquals(-1, new Money(-0.000001).signum());
+        assertEquals(1, MAX_COMPACT.add(ONE).signum());
+        assertEquals(-1, MIN_COMPACT.subtract(ONE).signum());
+    }
+
     @Test
     public void testEquals() {
         // same value -> returns true
@@ -100,6 +146,13 @@ public class MoneyTest {
 
         // another value -> returns false
         assertFalse(ONE.equals(TWO));
+
+        // values outside the long range
+        Money big = MAX_COMPACT.add(ONE);
+        assertTrue(big.equals(new Money(BigDecimal.valueOf(Long.MAX_VALUE, 6).add(BigDecimal.ONE))));
+        assertEquals(big.hashCode(), new Money(big.getValue()).hashCode());
+        assertFalse(big.equals(MAX_COMPACT));
+        assertFalse(MAX_COMPACT.equals(big));
     }
 
     @Test
@@ -111,6 +164,44 @@ public class MoneyTest {
         // rounding
         assertEquals(new Money(7.472).toString(), "$7.47");
         assertEquals(new Money(19.1294).toString(), "$19.13");
+        assertEquals(new Money(0.005).toString(), "$0.01");
+        assertEquals(new Money(999.995).toString(), "$1,000.00");
+
+        // grouping and negative values
+        assertEquals(new Money(1234567.891).toString(), "$1,234,567.89");
+        assertEquals(new Money(-1234567.895).toString(), "-$1,234,567.90");
+        assertEquals(new Money(-0.001).toString(), "-$0.00");
+
+        // values that do not fit in a long
+        assertEquals(MAX_COMPACT.toString(), "$9,223,372,036,854.78");
+        assertEquals(MIN_COMPACT.toString(), "-$9,223,372,036,854.78");
+        assertEquals(MAX_COMPACT.add(ONE).toString(), "$9,223,372,036,855.78");
+    }
+
+    @Test
+    public void toString_concurrentCalls_consistent() throws InterruptedException {
+        Money[] amounts = new Money[1000];
+        String[] expected = new String[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = new Money(BigDecimal.valueOf(i * 1234567L - 5000000L, 4)).add(MAX_COMPACT);
+            expected[i] = new Money(amounts[i].getValue()).toString();
+        }
+
+        boolean[] consistent = {true, true, true, true};
+        Thread[] threads = new Thread[consistent.length];
+        for (int t = 0; t < threads.length; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < amounts.length; i++) {
+                    consistent[index] &= new Money(amounts[i].getValue()).toString().equals(expected[i]);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertArrayEquals(new boolean[] {true, true, true, true}, consistent);
     }
 
 }
@@ -0,0 +1,137 @@
+package peoplesoft.model.money;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BOB;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.job.Job;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+public class PaymentLedgerTest {
+    private static final Job EATING = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+    private static final Job RUNNING = new Job(new ID(3175), "Running", Duration.ofHours(8));
+
+    private static final Payment ALICE_EATING = Payment.createPayment(ALICE, EATING, new Money(10));
+    private static final Payment ALICE_RUNNING = Payment.createPayment(ALICE, RUNNING, new Money(40)).pay();
+    private static final Payment BOB_EATING = Payment.createPayment(BOB, EATING, new Money(5));
+
+    private static final Person ALICE_WITH_PAYMENTS = new PersonBuilder(ALICE)
+            .withPayments(Arrays.asList(ALICE_EATING, ALICE_RUNNING)).build();
+    private static final Person BOB_WITH_PAYMENTS = new PersonBuilder(BOB)
+            .withPayments(List.of(BOB_EATING)).build();
+
+    private final PaymentLedger ledger = new PaymentLedger();
+
+    @Test
+    public void setPayments_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ledger.setPayments((Person) null));
+        assertThrows(NullPointerException.class, () -> ledger.setPayments((List<Person>) null));
+        assertThrows(NullPointerException.class, () -> ledger.setPayments(Arrays.asList(ALICE, null)));
+    }
+
+    @Test
+    public void getAmounts_noPayments_returnsZero() {
+        ledger.setPayments(ALICE);
+        assertEquals(new Money(0), ledger.getAmountDue(ALICE.getPersonId()));
+        assertEquals(new Money(0), ledger.getAmountPaid(ALICE.getPersonId()));
+        assertTrue(ledger.getPaymentsOfPerson(ALICE.getPersonId()).isEmpty());
+        assertTrue(ledger.getPaymentsForJob(EATING.getJobId()).isEmpty());
+    }
+
+    @Test
+    public void setPayments_person_indexedByPersonAndJob() {
+        ledger.setPayments(ALICE_WITH_PAYMENTS);
+        ledger.setPayments(BOB_WITH_PAYMENTS);
+
+        assertEquals(Map.of(EATING.getJobId(), ALICE_EATING, RUNNING.getJobId(), ALICE_RUNNING),
+                ledger.getPaymentsOfPerson(ALICE.getPersonId()));
+        assertEquals(Map.of(ALICE.getPersonId(), ALICE_EATING, BOB.getPersonId(), BOB_EATING),
+                ledger.getPaymentsForJob(EATING.getJobId()));
+        assertEquals(Map.of(ALICE.getPersonId(), ALICE_RUNNING), ledger.getPaymentsForJob(RUNNING.getJobId()));
+
+        assertEquals(new Money(10), ledger.getAmountDue(ALICE.getPersonId()));
+        assertEquals(new Money(40), ledger.getAmountPaid(ALICE.getPersonId()));
+        assertEquals(new Money(5), ledger.getAmountDue(BOB.getPersonId()));
+    }
+
+    @Test
+    public void setPayments_replacedPerson_oldPaymentsDropped() {
+        ledger.setPayments(ALICE_WITH_PAYMENTS);
+        Person alicePaid = new PersonBuilder(ALICE)
+                .withPayments(Arrays.asList(ALICE_EATING.pay(), ALICE_RUNNING)).build();
+
+        ledger.setPayments(alicePaid);
+        assertEquals(new Money(0), ledger.getAmountDue(ALICE.getPersonId()));
+        assertEquals(new Money(50), ledger.getAmountPaid(ALICE.getPersonId()));
+
+        ledger.setPayments(ALICE);
+        assertTrue(ledger.getPaymentsForJob(EATING.getJobId()).isEmpty());
+        assertTrue(ledger.getPaymentsForJob(RUNNING.getJobId()).isEmpty());
+    }
+
+    @Test
+    public void removePayments_success() {
+        ledger.setPayments(Arrays.asList(ALICE_WITH_PAYMENTS, BOB_WITH_PAYMENTS));
+
+        ledger.removePayments(ALICE.getPersonId());
+        assertTrue(ledger.getPaymentsOfPerson(ALICE.getPersonId()).isEmpty());
+        assertEquals(new Money(0), ledger.getAmountDue(ALICE.getPersonId()));
+        assertEquals(Map.of(BOB.getPersonId(), BOB_EATING), ledger.getPaymentsForJob(EATING.getJobId()));
+        assertTrue(ledger.getPaymentsForJob(RUNNING.getJobId()).isEmpty());
+
+        // removing a person without payments is a no-op
+        ledger.removePayments(ALICE.getPersonId());
+    }
+
+    @Test
+    public void setPayments_collection_replacesContents() {
+        ledger.setPayments(ALICE_WITH_PAYMENTS);
+        ledger.setPayments(List.of(BOB_WITH_PAYMENTS));
+        assertTrue(ledger.getPaymentsOfPerson(ALICE.getPersonId()).isEmpty());
+        assertEquals(Map.of(BOB.getPersonId(), BOB_EATING), ledger.getPaymentsForJob(EATING.getJobId()));
+    }
+
+    @Test
+    public void getTotalAmounts_personChanges_updatedIncrementally() {
+        assertEquals(new Money(0), ledger.getTotalAmountDue());
+        assertEquals(new Money(0), ledger.getTotalAmountPaid());
+
+        ledger.setPayments(ALICE_WITH_PAYMENTS);
+        ledger.setPayments(BOB_WITH_PAYMENTS);
+        assertEquals(new Money(15), ledger.getTotalAmountDue());
+        assertEquals(new Money(40), ledger.getTotalAmountPaid());
+
+        // Bob is paid
+        ledger.setPayments(new PersonBuilder(BOB).withPayments(List.of(BOB_EATING.pay())).build());
+        assertEquals(new Money(10), ledger.getTotalAmountDue());
+        assertEquals(new Money(45), ledger.getTotalAmountPaid());
+
+        ledger.removePayments(ALICE.getPersonId());
+        assertEquals(new Money(0), ledger.getTotalAmountDue());
+        assertEquals(new Money(5), ledger.getTotalAmountPaid());
+
+        ledger.setPayments(List.of(ALICE_WITH_PAYMENTS));
+        assertEquals(new Money(10), ledger.getTotalAmountDue());
+        assertEquals(new Money(40), ledger.getTotalAmountPaid());
+    }
+
+    @Test
+    public void getPayments_modifyResult_throwsUnsupportedOperationException() {
+        ledger.setPayments(ALICE_WITH_PAYMENTS);
+        assertThrows(UnsupportedOperationException.class, () ->
+                ledger.getPaymentsOfPerson(ALICE.getPersonId()).clear());
+        assertThrows(UnsupportedOperationException.class, () ->
+                ledger.getPaymentsForJob(EATING.getJobId()).clear());
+    }
+}
@@ -0,0 +1,143 @@
+package peoplesoft.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.BOB;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.person.exceptions.DuplicatePersonException;
+import peoplesoft.model.person.exceptions.PersonNotFoundException;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+public class LazyPersonListTest {
+
+    private final CountingPersonStore store = new CountingPersonStore(ALICE, BENSON, CARL);
+    private final LazyPersonList lazyPersonList = new LazyPersonList(store);
+
+    @Test
+    public void constructor_store_buildsNoPersons() {
+        assertEquals(3, lazyPersonList.asUnmodifiableObservableList().size());
+        assertTrue(lazyPersonList.contains(BENSON.getPersonId()));
+        assertEquals(0, store.builtCount);
+    }
+
+    @Test
+    public void get_storedPerson_buildsOnlyThatPerson() {
+        assertEquals(BENSON, lazyPersonList.get(BENSON.getPersonId()));
+        assertEquals(CARL, lazyPersonList.asUnmodifiableObservableList().get(2));
+        assertEquals(2, store.builtCount);
+    }
+
+    @Test
+    public void get_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> lazyPersonList.get(BOB.getPersonId()));
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> lazyPersonList.add(ALICE));
+    }
+
+    @Test
+    public void add_newPerson_appended() {
+        lazyPersonList.add(BOB);
+        assertEquals(List.of(ALICE, BENSON, CARL, BOB), lazyPersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_editedPerson_replacesStoredPerson() {
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        lazyPersonList.setPerson(BENSON, editedBenson);
+        assertEquals(editedBenson, lazyPersonList.get(BENSON.getPersonId()));
+        assertEquals(List.of(ALICE, editedBenson, CARL), lazyPersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_targetNotEqual_throwsPersonNotFoundException() {
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> lazyPersonList.setPerson(editedBenson, BENSON));
+    }
+
+    @Test
+    public void updatePersons_unknownPerson_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> lazyPersonList.updatePersons(List.of(BOB)));
+    }
+
+    @Test
+    public void remove_storedPerson_removedAndReindexed() {
+        lazyPersonList.remove(ALICE);
+        assertFalse(lazyPersonList.contains(ALICE.getPersonId()));
+        assertEquals(List.of(BENSON, CARL), lazyPersonList.asUnmodifiableObservableList());
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        lazyPersonList.updatePersons(List.of(editedCarl));
+        assertEquals(List.of(BENSON, editedCarl), lazyPersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_list_replacesStoredPersons() {
+        lazyPersonList.setPersons(List.of(BOB));
+        assertEquals(List.of(BOB), lazyPersonList.asUnmodifiableObservableList());
+        assertFalse(lazyPersonList.contains(ALICE.getPersonId()));
+    }
+
+    @Test
+    public void copyPersons_listChanged_copyUnchanged() {
+        List<Person> copy = lazyPersonList.copyPersons();
+        lazyPersonList.remove(ALICE);
+        lazyPersonList.add(BOB);
+        assertEquals(List.of(ALICE, BENSON, CARL), copy);
+
+        LazyPersonList copiedList = new LazyPersonList(lazyPersonList);
+        lazyPersonList.remove(BOB);
+        assertEquals(List.of(BENSON, CARL, BOB), copiedList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> lazyPersonList.asUnmodifiableObservableList()
+                .remove(0));
+    }
+
+    /**
+     * A {@code PersonStore} that counts the persons it builds, and keeps none of them.
+     */
+    private static class CountingPersonStore implements PersonStore {
+        private final Map<ID, Person> persons = new LinkedHashMap<>();
+        private int builtCount;
+
+        CountingPersonStore(Person... persons) {
+            for (Person person : persons) {
+                this.persons.put(person.getPersonId(), person);
+            }
+        }
+
+        @Override
+        public List<ID> getPersonIds() {
+            return new ArrayList<>(persons.keySet());
+        }
+
+        @Override
+        public Person getPerson(ID personId) {
+            Person person = persons.get(personId);
+            if (person == null) {
+                throw new PersonNotFoundException();
+            }
+            builtCount++;
+            return new PersonBuilder(person).build();
+        }
+    }
+}
@@ -9,6 +9,8 @@ import static peoplesoft.testutil.TestUtil.toNormalizedJsonString;
 import static peoplesoft.testutil.TypicalPersons.BENSON;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -18,8 +20,15 @@ import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
 
 public class PersonSerdesTest {
     private static final String INVALID_NAME = "R@chel";
@@ -188,6 +197,45 @@ public class PersonSerdesTest {
                 String.format("Got exception with unexpected message '%s'", ex.getMessage()));
     }
 
+    @Test
+    public void deserialize_paymentsBeforeId_returnsPerson() throws IOException {
+        Job eating = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+        Job running = new Job(new ID(3175), "Running", Duration.ofHours(8));
+        Person benson = new PersonBuilder(BENSON).withPayments(Arrays.asList(
+                Payment.createPayment(BENSON, eating, new Money(10)),
+                Payment.createPayment(BENSON, running, new Money(40)).pay())).build();
+
+        ObjectNode serialized = (ObjectNode) JsonUtil.readTree(JsonUtil.toJsonString(benson));
+        ObjectNode reordered = JsonNodeFactory.instance.objectNode();
+        reordered.set("payments", serialized.get("payments"));
+        reordered.setAll(serialized);
+
+        assertEquals(benson, JsonUtil.fromJsonString(JsonUtil.toJsonString(reordered), Person.class));
+    }
+
+    @Test
+    public void deserialize_unknownFields_ignored() throws IOException {
+        ObjectNode serialized = (ObjectNode) JsonUtil.readTree(VALID_SERIALIZATION);
+        ObjectNode withUnknownFields = JsonNodeFactory.instance.objectNode();
+        withUnknownFields.set("nickname", JsonUtil.readTree("{\"tagged\": [\"#invalid\"], \"id\": 5}"));
+        withUnknownFields.setAll(serialized);
+        withUnknownFields.set("history", JsonUtil.readTree("[[1, 2], {\"payments\": null}]"));
+
+        assertEquals(BENSON, JsonUtil.fromJsonString(JsonUtil.toJsonString(withUnknownFields), Person.class));
+    }
+
+    @Test
+    public void deserialize_missingPayments_throwsJsonMappingExceptionWithMsg() throws IOException {
+        ObjectNode serialized = (ObjectNode) JsonUtil.readTree(VALID_SERIALIZATION);
+        serialized.remove("payments");
+
+        JsonMappingException ex = assertThrows(JsonMappingException.class, () ->
+                JsonUtil.fromJsonString(JsonUtil.toJsonString(serialized), Person.class));
+
+        assertTrue(ex.getMessage().startsWith("This person's payments value is invalid!"),
+                String.format("Got exception with unexpected message '%s'", ex.getMessage()));
+    }
+
     @Test
     public void deserialize_validSerialization_returnsPerson() throws IOException {
         assertEquals(BENSON, JsonUtil.fromJsonString(VALID_SERIALIZATION, Person.class));
@@ -1,5 +1,6 @@
 package peoplesoft.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -12,8 +13,14 @@ import static peoplesoft.testutil.Assert.assertThrows;
 import static peoplesoft.testutil.TypicalPersons.ALICE;
 import static peoplesoft.testutil.TypicalPersons.BOB;
 
+import java.time.Duration;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import peoplesoft.model.job.Job;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
 import peoplesoft.model.util.ID;
 import peoplesoft.testutil.PersonBuilder;
 
@@ -25,6 +32,20 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getAmountDue() {
+        // no payments -> zero
+        assertEquals(new Money(0), ALICE.getAmountDue());
+
+        // only pending payments are counted
+        Job eating = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+        Job running = new Job(new ID(3175), "Running", Duration.ofHours(8));
+        Person alice = new PersonBuilder(ALICE).withPayments(Arrays.asList(
+                Payment.createPayment(ALICE, eating, new Money(10)),
+                Payment.createPayment(ALICE, running, new Money(40)).pay())).build();
+        assertEquals(new Money(10), alice.getAmountDue());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
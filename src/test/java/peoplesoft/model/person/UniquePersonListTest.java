@@ -8,13 +8,16 @@ import static peoplesoft.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static peoplesoft.testutil.Assert.assertThrows;
 import static peoplesoft.testutil.TypicalPersons.ALICE;
 import static peoplesoft.testutil.TypicalPersons.BOB;
+import static peoplesoft.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import peoplesoft.model.person.exceptions.DuplicatePersonException;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
 import peoplesoft.testutil.PersonBuilder;
@@ -47,6 +50,32 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice.getPersonId()));
     }
 
+    @Test
+    public void get_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.get(null));
+    }
+
+    @Test
+    public void get_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.get(ALICE.getPersonId()));
+    }
+
+    @Test
+    public void get_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(ALICE, uniquePersonList.get(ALICE.getPersonId()));
+        assertEquals(BOB, uniquePersonList.get(BOB.getPersonId()));
+    }
+
+    @Test
+    public void get_afterSetPersonWithDifferentIdentity_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE.getPersonId()));
+        assertEquals(BOB, uniquePersonList.get(BOB.getPersonId()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -109,6 +138,59 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void updatePersons_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.updatePersons(null));
+        assertThrows(NullPointerException.class, () -> uniquePersonList.updatePersons(Arrays.asList(ALICE, null)));
+    }
+
+    @Test
+    public void updatePersons_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.updatePersons(
+                Arrays.asList(editedAlice, BOB)));
+        // nothing is applied if any person is not found
+        assertEquals(ALICE, uniquePersonList.get(ALICE.getPersonId()));
+    }
+
+    @Test
+    public void updatePersons_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.updatePersons(
+                Arrays.asList(editedAlice, ALICE)));
+    }
+
+    @Test
+    public void updatePersons_validPersons_replacedWithSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        int[] changes = {0};
+        List<Person> added = new ArrayList<>();
+        List<Person> removed = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> {
+            changes[0]++;
+            while (c.next()) {
+                added.addAll(c.getAddedSubList());
+                removed.addAll(c.getRemoved());
+            }
+        });
+
+        uniquePersonList.updatePersons(Arrays.asList(editedCarl, editedAlice));
+        assertEquals(1, changes[0]);
+        // only the replaced persons are in the change
+        assertEquals(Arrays.asList(editedAlice, editedCarl), added);
+        assertEquals(Arrays.asList(ALICE, CARL), removed);
+        assertEquals(Arrays.asList(editedAlice, BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(editedCarl, uniquePersonList.get(CARL.getPersonId()));
+
+        // empty updates do not notify observers
+        uniquePersonList.updatePersons(Collections.emptyList());
+        assertEquals(1, changes[0]);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +209,30 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_middlePerson_laterPersonsStillEditable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(BOB);
+
+        // CARL has shifted in the backing list, so its position must have been updated
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(editedCarl, uniquePersonList.get(CARL.getPersonId()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -139,6 +245,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE.getPersonId()));
+        assertEquals(BOB, uniquePersonList.get(BOB.getPersonId()));
     }
 
     @Test
@@ -162,6 +270,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsDuplicateIds() {
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, CARL, BOB, editedCarl, ALICE);
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(
+                Arrays.asList(CARL.getPersonId(), ALICE.getPersonId())).getMessage(), () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
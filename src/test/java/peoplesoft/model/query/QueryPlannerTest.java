@@ -0,0 +1,194 @@
+package peoplesoft.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+import static peoplesoft.testutil.TypicalPersons.ELLE;
+import static peoplesoft.testutil.TypicalPersons.FIONA;
+import static peoplesoft.testutil.TypicalPersons.GEORGE;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+    private static final Job AIRCON = new Job(new ID(1043), "Fix aircon", Duration.ofHours(2));
+    private static final Job PIPES = new Job(new ID(3175), "Fix pipes", Duration.ofHours(8));
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        Employment.newInstance();
+        addressBook = getTypicalAddressBook();
+        addressBook.addJob(AIRCON);
+        addressBook.addJob(PIPES);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Employment.newInstance();
+    }
+
+    @Test
+    public void plan_fewestFromTag_drivesFromTag() {
+        Condition<Person> owesMoney = PersonConditions.tags(Set.of(new Tag("owesMoney")));
+        Condition<Person> rate = PersonConditions.rate(new Range(">10"));
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of(rate, owesMoney)));
+        assertEquals(owesMoney, plan.getDriver().get());
+        assertEquals(1, plan.getEstimate());
+        assertEquals(List.of(rate, owesMoney), plan.getResiduals());
+        assertEquals(List.of(BENSON), filter(addressBook.getPersonList(), plan));
+    }
+
+    @Test
+    public void plan_keywords_drivesFromRarestKeyword() {
+        Condition<Person> keywords = PersonConditions.keywords(List.of("friends", "Meier"));
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of(keywords)));
+        assertEquals(keywords, plan.getDriver().get());
+        assertEquals(2, plan.getEstimate());
+        assertEquals(List.of(BENSON, DANIEL), filter(addressBook.getPersonList(), plan));
+    }
+
+    @Test
+    public void plan_noCondition_matchesNothing() {
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of()));
+        assertFalse(plan.getDriver().isPresent());
+        assertTrue(plan.getMatches().isEmpty());
+    }
+
+    @Test
+    public void plan_onlyUnindexedConditions_goesThroughEveryPerson() {
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of(
+                PersonConditions.rate(new Range(">50")))));
+        assertFalse(plan.getDriver().isPresent());
+        assertEquals(List.of(DANIEL, ELLE, GEORGE), filter(addressBook.getPersonList(), plan));
+    }
+
+    @Test
+    public void plan_negatedCondition_doesNotDrive() {
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of(
+                PersonConditions.tags(Set.of(new Tag("friends"))).negate())));
+        assertFalse(plan.getDriver().isPresent());
+        assertEquals(List.of(CARL, ELLE, FIONA, GEORGE), filter(addressBook.getPersonList(), plan));
+    }
+
+    @Test
+    public void plan_lookupFindsEveryPerson_goesThroughEveryPerson() {
+        Person keepsFriends = new PersonBuilder(CARL).withTags("friends").build();
+        addressBook.setPersons(List.of(ALICE, BENSON, keepsFriends));
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of(
+                PersonConditions.tags(Set.of(new Tag("friends"))))));
+        assertFalse(plan.getDriver().isPresent());
+        assertEquals(List.of(ALICE, BENSON, keepsFriends), filter(addressBook.getPersonList(), plan));
+    }
+
+    @Test
+    public void plan_id_drivesFromId() {
+        Condition<Person> id = PersonConditions.id(FIONA.getPersonId());
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of(
+                PersonConditions.rate(new Range("<=50")), id)));
+        assertEquals(id, plan.getDriver().get());
+        assertEquals(List.of(FIONA), filter(addressBook.getPersonList(), plan));
+
+        plan = addressBook.queryPersons(new Query<>(List.of(PersonConditions.id(new ID("missing")))));
+        assertEquals(0, plan.getEstimate());
+        assertTrue(plan.getMatches().isEmpty());
+    }
+
+    @Test
+    public void plan_amountDue_drivesFromOwedPersons() {
+        Payment pending = Payment.createPayment(ALICE, AIRCON, new Money(100));
+        Person owedAlice = new PersonBuilder(ALICE).withPayments(List.of(pending)).build();
+        addressBook.setPerson(ALICE, owedAlice);
+
+        Condition<Person> dueAtLeast50 = PersonConditions.amountDue(new Range(">=50"));
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of(dueAtLeast50)));
+        assertEquals(dueAtLeast50, plan.getDriver().get());
+        assertEquals(List.of(owedAlice), filter(addressBook.getPersonList(), plan));
+        assertEquals(List.of(), filter(addressBook.getPersonList(),
+                addressBook.queryPersons(new Query<>(List.of(PersonConditions.amountDue(new Range(">100")))))));
+
+        // a range with zero cannot be looked up among the owed persons
+        assertFalse(addressBook.queryPersons(new Query<>(List.of(PersonConditions.amountDue(new Range("<50")))))
+                .getDriver().isPresent());
+    }
+
+    @Test
+    public void getMatches_personsChange_matchesChangedPersons() {
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of(PersonConditions.owed())));
+        assertTrue(plan.getMatches().isEmpty());
+
+        Payment pending = Payment.createPayment(CARL, AIRCON, new Money(10));
+        Person owedCarl = new PersonBuilder(CARL).withPayments(List.of(pending)).build();
+        addressBook.setPerson(CARL, owedCarl);
+        assertEquals(Set.of(CARL.getPersonId()), plan.getMatches());
+
+        addressBook.setPerson(owedCarl, new PersonBuilder(CARL).withPayments(List.of(pending.pay())).build());
+        assertTrue(plan.getMatches().isEmpty());
+    }
+
+    @Test
+    public void getMatches_assignmentsChange_matchesAssignedPersons() {
+        QueryPlan<Person> plan = addressBook.queryPersons(new Query<>(List.of(
+                PersonConditions.assignedToJob("AIRCON"),
+                PersonConditions.tags(Set.of(new Tag("friends"))))));
+        assertTrue(plan.getMatches().isEmpty());
+
+        Employment.getInstance().associate(AIRCON, ALICE);
+        Employment.getInstance().associate(AIRCON, CARL);
+        Employment.getInstance().associate(PIPES, DANIEL);
+        assertEquals(Set.of(ALICE.getPersonId()), plan.getMatches());
+
+        QueryPlan<Person> notAssigned = addressBook.queryPersons(new Query<>(List.of(
+                PersonConditions.assignedToJob("fix").negate(), PersonConditions.keywords(List.of("Meier")))));
+        assertEquals(List.of(BENSON), filter(addressBook.getPersonList(), notAssigned));
+    }
+
+    @Test
+    public void queryJobs_stateAndAssignment_matchingJobsFound() {
+        Job paidPipes = PIPES.setAsPaid();
+        addressBook.setJob(PIPES, paidPipes);
+        Employment.getInstance().associate(AIRCON, BENSON);
+
+        assertEquals(List.of(paidPipes), filter(addressBook.getJobList(),
+                addressBook.queryJobs(new Query<>(List.of(JobConditions.state(JobConditions.STATE_PAID))))));
+        assertEquals(List.of(AIRCON), filter(addressBook.getJobList(),
+                addressBook.queryJobs(new Query<>(List.of(JobConditions.keywords(List.of("fix")),
+                        JobConditions.state(JobConditions.STATE_PAID).negate())))));
+        assertEquals(List.of(AIRCON), filter(addressBook.getJobList(),
+                addressBook.queryJobs(new Query<>(List.of(JobConditions.assignedToPerson("benson"))))));
+
+        Job finalPipes = paidPipes.setAsFinal();
+        QueryPlan<Job> finalJobs = addressBook.queryJobs(new Query<>(List.of(
+                JobConditions.state(JobConditions.STATE_FINAL))));
+        assertTrue(finalJobs.getMatches().isEmpty());
+        addressBook.setJob(paidPipes, finalPipes);
+        assertEquals(List.of(finalPipes), filter(addressBook.getJobList(), finalJobs));
+    }
+
+    private static <T> List<T> filter(List<T> items, Predicate<T> predicate) {
+        return items.stream().filter(predicate).collect(Collectors.toList());
+    }
+}
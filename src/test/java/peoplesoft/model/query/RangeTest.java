@@ -0,0 +1,80 @@
+package peoplesoft.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+public class RangeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Range(null));
+    }
+
+    @Test
+    public void constructor_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Range("20-10"));
+    }
+
+    @Test
+    public void isValidRange() {
+        // invalid ranges
+        assertFalse(Range.isValidRange("")); // empty string
+        assertFalse(Range.isValidRange(">")); // no amount
+        assertFalse(Range.isValidRange("=>10")); // unknown operator
+        assertFalse(Range.isValidRange("-10")); // negative amount
+        assertFalse(Range.isValidRange("10-")); // no greatest amount
+        assertFalse(Range.isValidRange("20-10")); // least amount more than greatest
+        assertFalse(Range.isValidRange("ten")); // not a number
+
+        // valid ranges
+        assertTrue(Range.isValidRange("10"));
+        assertTrue(Range.isValidRange("10.50"));
+        assertTrue(Range.isValidRange(">10"));
+        assertTrue(Range.isValidRange(">=10"));
+        assertTrue(Range.isValidRange("<10"));
+        assertTrue(Range.isValidRange("<=10"));
+        assertTrue(Range.isValidRange("10-20"));
+        assertTrue(Range.isValidRange("10-10"));
+    }
+
+    @Test
+    public void contains() {
+        Range between = new Range("10-20");
+        assertTrue(between.contains(new BigDecimal("10")));
+        assertTrue(between.contains(new BigDecimal("20.000000")));
+        assertFalse(between.contains(new BigDecimal("20.01")));
+        assertFalse(between.contains(new BigDecimal("9.99")));
+
+        assertTrue(new Range("10").contains(new BigDecimal("10.0")));
+        assertFalse(new Range("10").contains(new BigDecimal("10.1")));
+        assertFalse(new Range(">10").contains(new BigDecimal("10")));
+        assertTrue(new Range(">=10").contains(new BigDecimal("10")));
+        assertFalse(new Range("<10").contains(new BigDecimal("10")));
+        assertTrue(new Range("<=10").contains(new BigDecimal("10")));
+        assertTrue(new Range("<=10").contains(BigDecimal.ZERO));
+    }
+
+    @Test
+    public void isPositive() {
+        assertTrue(new Range(">0").isPositive());
+        assertTrue(new Range(">=0.01").isPositive());
+        assertTrue(new Range("5-10").isPositive());
+        assertFalse(new Range(">=0").isPositive());
+        assertFalse(new Range("0-10").isPositive());
+        assertFalse(new Range("<10").isPositive());
+    }
+
+    @Test
+    public void equals() {
+        Range range = new Range(">=10");
+        assertTrue(range.equals(new Range(">=10")));
+        assertTrue(range.equals(range));
+        assertFalse(range.equals(null));
+        assertFalse(range.equals(new Range(">10")));
+    }
+}
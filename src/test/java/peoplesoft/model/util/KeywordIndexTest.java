@@ -0,0 +1,106 @@
+package peoplesoft.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.testutil.PersonBuilder;
+
+public class KeywordIndexTest {
+
+    private final KeywordIndex<Person> index = new KeywordIndex<>(Person::getPersonId,
+            PersonContainsKeywordsPredicate::getKeywords);
+
+    @BeforeEach
+    public void setUp() {
+        index.addAll(List.of(ALICE, BENSON, CARL, DANIEL));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordIndex<Person>(null,
+                PersonContainsKeywordsPredicate::getKeywords));
+        assertThrows(NullPointerException.class, () -> new KeywordIndex<>(Person::getPersonId, null));
+    }
+
+    @Test
+    public void find_noKeywords_noItemsFound() {
+        assertTrue(index.find(List.of()).isEmpty());
+    }
+
+    @Test
+    public void find_oneKeyword_itemsWithKeywordFound() {
+        assertEquals(Set.of(BENSON.getPersonId(), DANIEL.getPersonId()), index.find(List.of("Meier")));
+        assertEquals(Set.of(ALICE.getPersonId(), BENSON.getPersonId(), DANIEL.getPersonId()),
+                index.find(List.of("friends")));
+        assertTrue(index.find(List.of("Carol")).isEmpty());
+    }
+
+    @Test
+    public void find_mixedCaseKeywords_itemsWithEveryKeywordFound() {
+        assertEquals(Set.of(BENSON.getPersonId(), DANIEL.getPersonId()), index.find(List.of("mEIER", "FRIENDS")));
+        assertEquals(Set.of(BENSON.getPersonId()), index.find(List.of("meier", "owesmoney")));
+        assertTrue(index.find(List.of("Alice", "Meier")).isEmpty());
+    }
+
+    @Test
+    public void findAny_keywords_itemsWithAnyKeywordFound() {
+        assertEquals(Set.of(BENSON.getPersonId(), CARL.getPersonId(), DANIEL.getPersonId()),
+                index.findAny(List.of("MEIER", "kurz", "Carol")));
+        assertTrue(index.findAny(List.of()).isEmpty());
+    }
+
+    @Test
+    public void count_keyword_numberOfItemsWithKeyword() {
+        assertEquals(3, index.count("Friends"));
+        assertEquals(2, index.count("meier"));
+        assertEquals(0, index.count("Carol"));
+    }
+
+    @Test
+    public void add_editedItem_keywordsReplaced() {
+        assertEquals(Set.of(CARL.getPersonId()), index.find(List.of("Kurz")));
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        index.add(editedCarl);
+        assertTrue(index.find(List.of("Kurz")).isEmpty());
+        assertEquals(Set.of(BENSON.getPersonId(), CARL.getPersonId(), DANIEL.getPersonId()),
+                index.find(List.of("Meier")));
+    }
+
+    @Test
+    public void remove_item_noLongerFound() {
+        index.remove(BENSON.getPersonId());
+        assertEquals(Set.of(DANIEL.getPersonId()), index.find(List.of("Meier")));
+
+        index.clear();
+        assertTrue(index.find(List.of("Meier")).isEmpty());
+    }
+
+    @Test
+    public void onChanged_listChanges_indexUpdated() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+        persons.addListener(index);
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags().build();
+        persons.set(0, editedAlice);
+        persons.remove(BENSON);
+        assertEquals(Set.of(DANIEL.getPersonId()), index.find(List.of("friends")));
+        assertEquals(Set.of(DANIEL.getPersonId()), index.find(List.of("Meier")));
+        assertEquals(Set.of(ALICE.getPersonId()), index.find(List.of("Alice")));
+    }
+}
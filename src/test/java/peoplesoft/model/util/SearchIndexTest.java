@@ -0,0 +1,139 @@
+package peoplesoft.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import peoplesoft.model.person.Person;
+import peoplesoft.testutil.PersonBuilder;
+
+public class SearchIndexTest {
+    private static final Person KIM = new PersonBuilder().withId(new ID("kim")).withName("Kim Lee")
+            .withEmail("lee@example.com").withPhone("61234567").build();
+    private static final Person KIMBERLY = new PersonBuilder().withId(new ID("kimberly")).withName("Kimberly Tan")
+            .withEmail("tan@example.com").withPhone("62345678").build();
+
+    private final SearchIndex<Person> index = new SearchIndex<>(Person::getPersonId, SearchIndexTest::getTerms);
+
+    @BeforeEach
+    public void setUp() {
+        index.addAll(List.of(ALICE, BENSON, CARL, DANIEL, KIM, KIMBERLY));
+    }
+
+    @Test
+    public void search_noKeywords_noItemsFound() {
+        assertTrue(index.search(List.of()).isEmpty());
+    }
+
+    @Test
+    public void search_prefixes_itemsWithPrefixesFound() {
+        assertEquals(Set.of(BENSON.getPersonId(), DANIEL.getPersonId()), index.search(List.of("MEI")).keySet());
+        assertEquals(Set.of(ALICE.getPersonId()), index.search(List.of("94351")).keySet());
+        assertEquals(Set.of(BENSON.getPersonId()), index.search(List.of("johnd@")).keySet());
+        assertEquals(Set.of(DANIEL.getPersonId()), index.search(List.of("mei", "dan")).keySet());
+        assertTrue(index.search(List.of("mei", "alice")).isEmpty());
+    }
+
+    @Test
+    public void search_exactAndPrefix_exactScoredHigher() {
+        Map<ID, Double> scores = index.search(List.of("kim"));
+        assertEquals(SearchIndex.EXACT_SCORE, (double) scores.get(KIM.getPersonId()));
+        assertTrue(scores.get(KIMBERLY.getPersonId()) < SearchIndex.EXACT_SCORE);
+        assertTrue(scores.get(KIMBERLY.getPersonId()) >= SearchIndex.PREFIX_SCORE);
+
+        // a keyword that is more of the term scores higher
+        assertTrue(index.search(List.of("kimber")).get(KIMBERLY.getPersonId())
+                > scores.get(KIMBERLY.getPersonId()));
+    }
+
+    @Test
+    public void search_typingMistakes_itemsFoundWithLowerScores() {
+        // swapped letters
+        Map<ID, Double> scores = index.search(List.of("Pualine"));
+        assertEquals(Set.of(ALICE.getPersonId()), scores.keySet());
+        assertTrue(scores.get(ALICE.getPersonId()) <= SearchIndex.FUZZY_SCORE);
+
+        // missing letter in a prefix
+        assertEquals(Set.of(BENSON.getPersonId()), index.search(List.of("bensn")).keySet());
+
+        // swapped first letters of a short keyword, which share no trigram with the term
+        assertTrue(index.search(List.of("ebns")).containsKey(BENSON.getPersonId()));
+
+        // two mistakes in a long keyword
+        assertEquals(Set.of(KIMBERLY.getPersonId()), index.search(List.of("kimbrelyy")).keySet());
+
+        // short keywords must match exactly
+        assertTrue(index.search(List.of("crl")).isEmpty());
+        assertEquals(Set.of(CARL.getPersonId()), index.search(List.of("cral")).keySet());
+    }
+
+    @Test
+    public void getPrefixEditDistance() {
+        assertEquals(0, SearchIndex.getPrefixEditDistance("abc", "abcdef", 1));
+        assertEquals(1, SearchIndex.getPrefixEditDistance("acb", "abcd", 1));
+        assertEquals(1, SearchIndex.getPrefixEditDistance("abd", "abcd", 1));
+        assertEquals(2, SearchIndex.getPrefixEditDistance("axcy", "abcd", 2));
+        assertTrue(SearchIndex.getPrefixEditDistance("xyz", "abc", 1) > 1);
+    }
+
+    @Test
+    public void onChanged_listChanges_indexUpdated() {
+        SearchIndex<Person> listIndex = new SearchIndex<>(Person::getPersonId, SearchIndexTest::getTerms);
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+        persons.addListener(listIndex);
+        listIndex.addAll(persons);
+        assertEquals(Set.of(CARL.getPersonId()), listIndex.search(List.of("cral")).keySet());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Muller").build();
+        persons.set(1, editedBenson);
+        persons.remove(CARL);
+        assertEquals(Set.of(DANIEL.getPersonId()), listIndex.search(List.of("meier")).keySet());
+        assertEquals(Set.of(BENSON.getPersonId()), listIndex.search(List.of("mull")).keySet());
+        assertTrue(listIndex.search(List.of("cral")).isEmpty());
+
+        listIndex.clear();
+        assertTrue(listIndex.search(List.of("meier")).isEmpty());
+    }
+
+    @Test
+    public void addAllLater_itemsSplitIntoTermsByFirstSearch() {
+        List<Person> splitPersons = new ArrayList<>();
+        SearchIndex<Person> laterIndex = new SearchIndex<>(Person::getPersonId, person -> {
+            splitPersons.add(person);
+            return getTerms(person);
+        });
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+        persons.addListener(laterIndex);
+        laterIndex.addAllLater(List.copyOf(persons));
+        assertTrue(splitPersons.isEmpty());
+
+        // changes made before the first search are applied after the deferred items
+        persons.remove(CARL);
+        persons.add(DANIEL);
+        assertEquals(Set.of(BENSON.getPersonId(), DANIEL.getPersonId()),
+                laterIndex.search(List.of("meier")).keySet());
+        assertTrue(laterIndex.search(List.of("carl")).isEmpty());
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), splitPersons);
+    }
+
+    private static List<String> getTerms(Person person) {
+        List<String> terms = new ArrayList<>(Arrays.asList(person.getName().fullName.split("\\s+")));
+        terms.add(person.getEmail().value);
+        terms.add(person.getPhone().value);
+        return terms;
+    }
+}
@@ -0,0 +1,55 @@
+package peoplesoft.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SortableListTest {
+    private final ObservableList<String> source = FXCollections.observableArrayList("b", "c", "a");
+    private final SortableList<String> sortable = new SortableList<>(source);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortableList<String>(null));
+    }
+
+    @Test
+    public void setComparator_sortsUntilCleared() {
+        assertEquals(List.of("b", "c", "a"), sortable);
+
+        sortable.setComparator(Comparator.naturalOrder());
+        assertEquals(List.of("a", "b", "c"), sortable);
+        source.add("0");
+        assertEquals(List.of("0", "a", "b", "c"), sortable);
+
+        sortable.setComparator(null);
+        assertEquals(List.of("b", "c", "a", "0"), sortable);
+    }
+
+    @Test
+    public void onSourceChanged_noComparator_changesPassedOn() {
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        sortable.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        source.add("d");
+        source.remove("c");
+        assertEquals(List.of("d"), added);
+        assertEquals(List.of("c"), removed);
+        assertEquals(List.of("b", "a", "d"), sortable);
+    }
+}
@@ -0,0 +1,188 @@
+package peoplesoft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.ReadOnlyAddressBook;
+
+public class AddressBookSaveQueueTest {
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSaveQueue(null));
+        assertThrows(NullPointerException.class, () -> new AddressBookSaveQueue(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")), null));
+    }
+
+    @Test
+    public void submit_thenFlush_saved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBookSaveQueue saveQueue = new AddressBookSaveQueue(storage);
+
+        AddressBook original = getTypicalAddressBook();
+        saveQueue.submit(original);
+        saveQueue.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void submit_burstOfSaves_coalesced() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        AddressBookSaveQueue saveQueue = new AddressBookSaveQueue(new SaveRecordingStub(saved), tasks::add);
+
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        AddressBook third = new AddressBook();
+        saveQueue.submit(first);
+        saveQueue.submit(second);
+        saveQueue.submit(third);
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+        assertEquals(1, saved.size());
+        assertSame(third, saved.get(0));
+
+        // a save submitted after the write started is written separately
+        saveQueue.submit(first);
+        tasks.remove(0).run();
+        assertEquals(2, saved.size());
+    }
+
+    @Test
+    public void submit_supplier_askedByWritingTaskOnly() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        AddressBookSaveQueue saveQueue = new AddressBookSaveQueue(new SaveRecordingStub(saved), tasks::add);
+
+        AddressBook addressBook = new AddressBook();
+        int[] timesAsked = {0};
+        saveQueue.submit(() -> {
+            timesAsked[0]++;
+            return addressBook;
+        });
+        assertEquals(0, timesAsked[0]);
+
+        tasks.remove(0).run();
+        assertEquals(1, timesAsked[0]);
+        assertSame(addressBook, saved.get(0));
+
+        // a supplier that is replaced before it is written is not asked
+        saveQueue.submit(() -> {
+            throw new AssertionError("should not be called");
+        });
+        saveQueue.submit(addressBook);
+        tasks.remove(0).run();
+        assertEquals(2, saved.size());
+    }
+
+    @Test
+    public void pollFailure_failedSave_returnedOnce() {
+        IOException exception = new IOException("dummy exception");
+        AddressBookSaveQueue saveQueue = new AddressBookSaveQueue(new JsonAddressBookStorage(testFolder) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        }, Runnable::run);
+
+        saveQueue.submit(new AddressBook());
+        assertEquals(exception, saveQueue.pollFailure().get());
+        assertFalse(saveQueue.pollFailure().isPresent());
+
+        saveQueue.submit(new AddressBook());
+        assertThrows(IOException.class, exception.getMessage(), saveQueue::flush);
+        assertFalse(saveQueue.pollFailure().isPresent());
+    }
+
+    @Test
+    public void retry_failedSave_savedAgainUntilSucceeds() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        int[] failuresLeft = {2};
+        AddressBookSaveQueue saveQueue = new AddressBookSaveQueue(new SaveRecordingStub(saved) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (failuresLeft[0]-- > 0) {
+                    throw new IOException("dummy exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }, Runnable::run);
+
+        AddressBook addressBook = new AddressBook();
+        saveQueue.submit(addressBook);
+        saveQueue.retry();
+        assertTrue(saved.isEmpty());
+        saveQueue.retry();
+        assertEquals(List.of(addressBook), saved);
+
+        // nothing is saved again once a save succeeds
+        saveQueue.retry();
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void retry_newerAddressBookSubmitted_failedSaveNotRetried() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        boolean[] isFailing = {true};
+        AddressBookSaveQueue saveQueue = new AddressBookSaveQueue(new SaveRecordingStub(saved) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw new IOException("dummy exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }, tasks::add);
+
+        AddressBook failed = new AddressBook();
+        saveQueue.submit(failed);
+        tasks.remove(0).run();
+        isFailing[0] = false;
+
+        // the newer address book is written instead of the failed one
+        AddressBook newer = new AddressBook();
+        saveQueue.submit(newer);
+        saveQueue.retry();
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        saveQueue.retry();
+        assertTrue(tasks.isEmpty());
+        assertEquals(1, saved.size());
+        assertSame(newer, saved.get(0));
+    }
+
+    /**
+     * A stub class that records the address books that it is asked to save.
+     */
+    private static class SaveRecordingStub extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved;
+
+        private SaveRecordingStub(List<ReadOnlyAddressBook> saved) {
+            super(Path.of("unused"));
+            this.saved = saved;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(addressBook);
+        }
+    }
+}
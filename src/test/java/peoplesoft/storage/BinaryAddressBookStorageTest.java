@@ -0,0 +1,154 @@
+package peoplesoft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.HOON;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.money.Money;
+import peoplesoft.model.money.Payment;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Job EATING = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+    private static final Job SLEEPING = new Job(new ID(1044), "Sleeping", Duration.ofSeconds(3600, 250), true,
+            true);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.bin");
+        Employment.newInstance();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Employment.newInstance();
+    }
+
+    private AddressBook getAddressBookWithJobs() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person paidAlice = new PersonBuilder(ALICE).withPayments(List.of(
+                Payment.restorePayment(ALICE.getPersonId(), EATING.getJobId(), new Money(12.5), false),
+                Payment.restorePayment(ALICE.getPersonId(), SLEEPING.getJobId(),
+                        new Money(new BigDecimal("0.0000001")), true))).build();
+        addressBook.setPerson(ALICE, paidAlice);
+        addressBook.addJob(EATING);
+        addressBook.addJob(SLEEPING);
+        Employment.getInstance().associate(EATING, paidAlice);
+        Employment.getInstance().associate(SLEEPING, paidAlice);
+        return addressBook;
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getAddressBookWithJobs();
+        Map<ID, Set<ID>> employment = Employment.getInstance().getAllJobs();
+        JobIdFactory.setId(2000);
+        PersonIdFactory.setId(3000);
+        storage.saveAddressBook(original);
+
+        Employment.newInstance();
+        JobIdFactory.setId(0);
+        PersonIdFactory.setId(0);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList().get(0).getPayments(), readBack.getPersonList().get(0).getPayments());
+        assertEquals(employment, Employment.getInstance().getAllJobs());
+        assertEquals(2000, JobIdFactory.getId());
+        assertEquals(3000, PersonIdFactory.getId());
+
+        // overwriting an existing file
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataConversionException() throws Exception {
+        Files.writeString(filePath, "{\"persons\":[]}");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithJobs());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedByte_throwsDataConversionException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithJobs());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void importJson_missingFile_returnsFalse() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertFalse(storage.importJson(testFolder.resolve("missing.json")));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void importAndExportJson_allInOrder_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getAddressBookWithJobs();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        Employment.newInstance();
+        assertTrue(storage.importJson(jsonFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        assertTrue(storage.exportJson(exportedFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportedFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void exportJson_missingFile_returnsFalse() throws Exception {
+        Path jsonFilePath = testFolder.resolve("exported.json");
+        assertFalse(new BinaryAddressBookStorage(filePath).exportJson(jsonFilePath));
+        assertFalse(Files.exists(jsonFilePath));
+    }
+}
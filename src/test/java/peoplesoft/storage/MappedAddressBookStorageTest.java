@@ -0,0 +1,147 @@
+package peoplesoft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.HOON;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import peoplesoft.commons.core.FsyncPolicy;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+// a mapped file cannot be replaced or deleted on Windows, see MappedAddressBookStorage#isSupported()
+@DisabledOnOs(OS.WINDOWS)
+public class MappedAddressBookStorageTest {
+    private static final Job EATING = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.bin");
+        Employment.newInstance();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Employment.newInstance();
+    }
+
+    private AddressBook read() throws Exception {
+        return new AddressBook(new MappedAddressBookStorage(filePath, 1, FsyncPolicy.NEVER).readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_nonPositiveCacheSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedAddressBookStorage(filePath, 0,
+                FsyncPolicy.NEVER));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_binarySnapshot_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addJob(EATING);
+        Employment.getInstance().associate(EATING, ALICE);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        Employment.newInstance();
+        AddressBook readBack = read();
+        assertEquals(original, readBack);
+        assertEquals(BENSON, readBack.getPerson(BENSON.getPersonId()));
+        assertEquals(Map.of(EATING.getJobId(), Set.of(ALICE.getPersonId())), Employment.getInstance().getAllJobs());
+    }
+
+    @Test
+    public void readAddressBook_thenSave_success() throws Exception {
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath, 1, FsyncPolicy.NEVER);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        readBack.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("999").build());
+        readBack.removePerson(BENSON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(readBack, read());
+        assertEquals(readBack, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPersons_recordsCopied() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addJob(EATING);
+        Employment.getInstance().associate(EATING, ALICE);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath, 1, FsyncPolicy.NEVER);
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertArrayEquals(bytes, Files.readAllBytes(filePath));
+
+        // the copied records still refer to the symbols of the removed person
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(ALICE);
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(readBack, read());
+    }
+
+    @Test
+    public void readAddressBook_corruptedByte_throwsDataConversionException() throws Exception {
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataConversionException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void exportJson_mappedSnapshot_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Path jsonFilePath = testFolder.resolve("exported.json");
+        assertTrue(storage.exportJson(jsonFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+}
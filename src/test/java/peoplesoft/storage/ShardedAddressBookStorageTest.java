@@ -0,0 +1,270 @@
+package peoplesoft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import peoplesoft.commons.core.FsyncPolicy;
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.AddressBookSnapshot;
+import peoplesoft.model.ChangeJournal;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+    private static final Person FIRST = new PersonBuilder(ALICE).withId(new ID(1)).build();
+    private static final Person SECOND = new PersonBuilder(BENSON).withId(new ID(2)).build();
+    private static final Person TWELFTH = new PersonBuilder(CARL).withId(new ID(12)).build();
+    private static final Person NAMED = new PersonBuilder(DANIEL).withId(new ID("daniel")).build();
+    private static final Job EATING = new Job(new ID(3), "Eating", Duration.ofHours(2));
+    private static final Job SLEEPING = new Job(new ID(25), "Sleeping", Duration.ofHours(8));
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directoryPath;
+
+    @BeforeEach
+    public void setUp() {
+        directoryPath = testFolder.resolve("addressBook");
+        Employment.newInstance();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Employment.newInstance();
+    }
+
+    private ShardedAddressBookStorage storage(int shardSize) {
+        return new ShardedAddressBookStorage(directoryPath, shardSize, false, FsyncPolicy.NEVER);
+    }
+
+    private AddressBook getShardedAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(FIRST);
+        addressBook.addPerson(SECOND);
+        addressBook.addPerson(TWELFTH);
+        addressBook.addPerson(NAMED);
+        addressBook.addJob(EATING);
+        addressBook.addJob(SLEEPING);
+        Employment.getInstance().associate(EATING, FIRST);
+        return addressBook;
+    }
+
+    private AddressBook read(int shardSize) throws Exception {
+        return new AddressBook(storage(shardSize).readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_negativeShardSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> storage(-1));
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(storage(10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_unsharded_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage(ShardedAddressBookStorage.UNSHARDED).saveAddressBook(original);
+        assertTrue(Files.exists(directoryPath.resolve("persons.json")));
+        assertTrue(Files.exists(directoryPath.resolve(ShardedAddressBookStorage.META_FILE_NAME)));
+        assertEquals(original, read(ShardedAddressBookStorage.UNSHARDED));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_sharded_success() throws Exception {
+        AddressBook original = getShardedAddressBook();
+        JobIdFactory.setId(30);
+        storage(10).saveAddressBook(original);
+        for (String fileName : new String[] {"persons-10-0.json", "persons-10-1.json", "persons-10-other.json",
+                "jobs-10-0.json", "jobs-10-2.json", ShardedAddressBookStorage.EMPLOYMENT_FILE_NAME}) {
+            assertTrue(Files.exists(directoryPath.resolve(fileName)), fileName);
+        }
+
+        Employment.newInstance();
+        JobIdFactory.setId(0);
+        assertEquals(original, read(10));
+        assertEquals(Map.of(EATING.getJobId(), Set.of(FIRST.getPersonId())), Employment.getInstance().getAllJobs());
+        assertEquals(30, JobIdFactory.getId());
+    }
+
+    @Test
+    public void saveAddressBook_changedJob_onlyJobShardRewritten() throws Exception {
+        ShardedAddressBookStorage storage = storage(10);
+        AddressBook original = getShardedAddressBook();
+        storage.saveAddressBook(original);
+
+        // files that are rewritten are created again
+        Files.delete(directoryPath.resolve("persons-10-0.json"));
+        Files.delete(directoryPath.resolve("jobs-10-0.json"));
+        Files.delete(directoryPath.resolve("jobs-10-2.json"));
+        original.setJob(SLEEPING, SLEEPING.setAsPaid());
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(directoryPath.resolve("persons-10-0.json")));
+        assertFalse(Files.exists(directoryPath.resolve("jobs-10-0.json")));
+        assertTrue(Files.exists(directoryPath.resolve("jobs-10-2.json")));
+
+        // saving the same data again does not write anything
+        Files.delete(directoryPath.resolve("jobs-10-2.json"));
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(directoryPath.resolve("jobs-10-2.json")));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotWithChanges_onlyTouchedShardsRewritten() throws Exception {
+        ShardedAddressBookStorage storage = storage(10);
+        AddressBook original = getShardedAddressBook();
+        storage.saveAddressBook(original);
+        original.commitChanges();
+
+        Files.delete(directoryPath.resolve("persons-10-0.json"));
+        Files.delete(directoryPath.resolve("persons-10-1.json"));
+        Files.delete(directoryPath.resolve("jobs-10-2.json"));
+        original.setPerson(TWELFTH, new PersonBuilder(TWELFTH).withPhone("999").build());
+        original.removeJob(SLEEPING);
+        storage.saveAddressBook(AddressBookSnapshot.of(original, original.commitChanges()));
+        assertFalse(Files.exists(directoryPath.resolve("persons-10-0.json")));
+        assertTrue(Files.exists(directoryPath.resolve("persons-10-1.json")));
+        assertFalse(Files.exists(directoryPath.resolve("jobs-10-2.json")));
+
+        // only the shards that the changes touched are rewritten, even if other persons differ
+        Files.copy(directoryPath.resolve("persons-10-1.json"), directoryPath.resolve("persons-10-0.json"));
+        original.setPerson(FIRST, new PersonBuilder(FIRST).withPhone("888").build());
+        storage.saveAddressBook(AddressBookSnapshot.of(original, new ChangeJournal.Entry(
+                original.getVersion(), Set.of(), Set.of(), false, false)));
+        assertEquals(Files.readString(directoryPath.resolve("persons-10-1.json")),
+                Files.readString(directoryPath.resolve("persons-10-0.json")));
+    }
+
+    @Test
+    public void saveAddressBook_emptiedShard_fileDeleted() throws Exception {
+        ShardedAddressBookStorage storage = storage(10);
+        AddressBook original = getShardedAddressBook();
+        storage.saveAddressBook(original);
+
+        original.removePerson(TWELFTH);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(directoryPath.resolve("persons-10-1.json")));
+        assertEquals(original, read(10));
+    }
+
+    @Test
+    public void readAddressBook_otherShardSize_rewritesAllOnSave() throws Exception {
+        AddressBook original = getShardedAddressBook();
+        storage(10).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = storage(ShardedAddressBookStorage.UNSHARDED);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(NAMED);
+        storage.saveAddressBook(readBack);
+        assertTrue(Files.exists(directoryPath.resolve("persons.json")));
+        assertFalse(Files.exists(directoryPath.resolve("persons-10-0.json")));
+        assertFalse(Files.exists(directoryPath.resolve("jobs-10-2.json")));
+        assertEquals(readBack, read(ShardedAddressBookStorage.UNSHARDED));
+    }
+
+    @Test
+    public void readAddressBook_filesOfOtherShardSize_ignored() throws Exception {
+        AddressBook original = getShardedAddressBook();
+        storage(10).saveAddressBook(original);
+
+        // files of a change of the shard size that failed before the metadata file was written
+        Path otherPath = testFolder.resolve("other");
+        storage(5).saveAddressBook(original, otherPath);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(otherPath, "{persons,jobs}-5-*.json")) {
+            for (Path file : files) {
+                Files.copy(file, directoryPath.resolve(file.getFileName()));
+            }
+        }
+        assertTrue(Files.exists(directoryPath.resolve("persons-5-0.json")));
+
+        ShardedAddressBookStorage storage = storage(10);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(directoryPath.resolve("persons-5-0.json")));
+        assertEquals(original, read(10));
+    }
+
+    @Test
+    public void readAddressBook_unsizedShardFileNames_success() throws Exception {
+        AddressBook original = getShardedAddressBook();
+        storage(10).saveAddressBook(original);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath, "{persons,jobs}-10-*.json")) {
+            for (Path file : files) {
+                Files.move(file, directoryPath.resolve(file.getFileName().toString().replace("-10-", "-")));
+            }
+        }
+        Path metaFile = directoryPath.resolve(ShardedAddressBookStorage.META_FILE_NAME);
+        String meta = Files.readString(metaFile);
+        Files.writeString(metaFile, meta.replaceFirst("\"formatVersion\" ?: ?2", "\"formatVersion\":1"));
+
+        ShardedAddressBookStorage storage = storage(10);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(directoryPath.resolve("persons-10-0.json")));
+        assertFalse(Files.exists(directoryPath.resolve("persons-0.json")));
+        assertEquals(original, read(10));
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writesAllFiles() throws Exception {
+        Path otherPath = testFolder.resolve("other");
+        AddressBook original = getShardedAddressBook();
+        ShardedAddressBookStorage storage = storage(10);
+        storage.saveAddressBook(original, otherPath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+        assertFalse(Files.exists(directoryPath));
+    }
+
+    @Test
+    public void readAddressBook_invalidMeta_throwsDataConversionException() throws Exception {
+        storage(10).saveAddressBook(getShardedAddressBook());
+        Files.writeString(directoryPath.resolve(ShardedAddressBookStorage.META_FILE_NAME), "{\"formatVersion\":1}");
+        assertThrows(DataConversionException.class, () -> storage(10).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicateAcrossShards_throwsDataConversionException() throws Exception {
+        storage(10).saveAddressBook(getShardedAddressBook());
+        Files.copy(directoryPath.resolve("persons-10-0.json"), directoryPath.resolve("persons-10-5.json"));
+        assertThrows(DataConversionException.class, () -> storage(10).readAddressBook());
+    }
+
+    @Test
+    public void importJson_jsonFile_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getShardedAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = storage(10);
+        assertTrue(storage.importJson(jsonFilePath));
+        assertEquals(original, read(10));
+        assertFalse(storage.importJson(testFolder.resolve("missing.json")));
+    }
+}
@@ -0,0 +1,231 @@
+package peoplesoft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.HOON;
+import static peoplesoft.testutil.TypicalPersons.IDA;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.AddressBookSnapshot;
+import peoplesoft.model.ChangeJournal;
+import peoplesoft.model.employment.Employment;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+public class WalAddressBookStorageTest {
+    private static final Job EATING = new Job(new ID(1043), "Eating", Duration.ofHours(2));
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        Employment.newInstance();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Employment.newInstance();
+    }
+
+    private AddressBook read() throws Exception {
+        return new AddressBook(new WalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    private long countLogRecords(WalAddressBookStorage storage) throws Exception {
+        return Files.exists(storage.getLogFilePath()) ? Files.readAllLines(storage.getLogFilePath()).size() : 0;
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new WalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToLog() throws Exception {
+        WalAddressBookStorage storage = new WalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertEquals(0, countLogRecords(storage));
+
+        // one record per changed entry
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("999").build());
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(3, countLogRecords(storage));
+
+        // saving the same data again does not write anything
+        storage.saveAddressBook(original);
+        assertEquals(3, countLogRecords(storage));
+
+        original.addJob(EATING);
+        Employment.getInstance().associate(EATING, HOON);
+        storage.saveAddressBook(AddressBookSnapshot.of(original));
+        assertEquals(5, countLogRecords(storage));
+
+        // the snapshot is left untouched, and the log is replayed on top of it
+        assertEquals(snapshot, Files.readString(filePath));
+        Employment.newInstance();
+        assertEquals(original, read());
+        assertEquals(Map.of(EATING.getJobId(), Set.of(HOON.getPersonId())), Employment.getInstance().getAllJobs());
+
+        // removing the last association of a job
+        Employment.getInstance().disassociate(EATING, HOON);
+        storage.saveAddressBook(original);
+        assertTrue(read().hasJob(EATING.getJobId()));
+        assertTrue(Employment.getInstance().getAllJobs().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotWithChanges_onlyTouchedEntriesLogged() throws Exception {
+        WalAddressBookStorage storage = new WalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.commitChanges();
+
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        original.addJob(EATING);
+        Employment.getInstance().associate(EATING, HOON);
+        storage.saveAddressBook(AddressBookSnapshot.of(original, original.commitChanges()));
+        assertEquals(4, countLogRecords(storage));
+        Employment.newInstance();
+        assertEquals(original, read());
+
+        // persons that the changes did not touch are not compared, so they are not logged
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("999").build());
+        original.addPerson(IDA);
+        storage.saveAddressBook(AddressBookSnapshot.of(original, new ChangeJournal.Entry(
+                original.getVersion(), Set.of(IDA.getPersonId()), Set.of(), false, false)));
+        assertEquals(5, countLogRecords(storage));
+        assertEquals(ALICE, read().getPerson(ALICE.getPersonId()));
+        assertTrue(read().hasPerson(IDA.getPersonId()));
+    }
+
+    @Test
+    public void saveAddressBook_logGrows_snapshotWritten() throws Exception {
+        WalAddressBookStorage storage = new WalAddressBookStorage(filePath, 2, false);
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(1, countLogRecords(storage));
+
+        // the log would hold more records than there are persons
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getLogFilePath()));
+        assertFalse(Files.exists(storage.getPendingSnapshotFilePath()));
+        assertEquals(original, read());
+    }
+
+    @Test
+    public void readAddressBook_staleLogNextToPendingSnapshot_logNotReplayed() throws Exception {
+        int personIdState = PersonIdFactory.getId();
+        try {
+            WalAddressBookStorage storage = new WalAddressBookStorage(filePath);
+            AddressBook original = getTypicalAddressBook();
+            storage.saveAddressBook(original);
+            Person editedAlice = new PersonBuilder(ALICE).withPhone("111").build();
+            original.setPerson(ALICE, editedAlice);
+            PersonIdFactory.setId(50000);
+            storage.saveAddressBook(original);
+            assertEquals(2, countLogRecords(storage));
+
+            // a crash after the newer snapshot was written, but before the log was deleted
+            original.setPerson(editedAlice, new PersonBuilder(ALICE).withPhone("222").build());
+            PersonIdFactory.setId(60000);
+            new JsonAddressBookStorage(storage.getPendingSnapshotFilePath()).saveAddressBook(original);
+
+            // replaying the log would put back the old phone and id state
+            assertEquals(original, read());
+            assertEquals(60000, PersonIdFactory.getId());
+            assertFalse(Files.exists(storage.getLogFilePath()));
+            assertFalse(Files.exists(storage.getPendingSnapshotFilePath()));
+        } finally {
+            PersonIdFactory.setId(personIdState);
+        }
+    }
+
+    @Test
+    public void readAddressBook_thenSave_continuesLog() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new WalAddressBookStorage(filePath).saveAddressBook(original);
+
+        WalAddressBookStorage storage = new WalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(1, countLogRecords(storage));
+        assertEquals(readBack, read());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        WalAddressBookStorage storage = new WalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(storage.getLogFilePath(), "{\"op\":\"putPer", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        WalAddressBookStorage recovered = new WalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(recovered.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // the torn log is replaced by a snapshot on the next save
+        readBack.addPerson(IDA);
+        recovered.saveAddressBook(readBack);
+        assertFalse(Files.exists(recovered.getLogFilePath()));
+        assertEquals(readBack, read());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataConversionException() throws Exception {
+        WalAddressBookStorage storage = new WalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(storage.getLogFilePath(), "{\"op\":\"unknown\"}\n{\"op\":\"removePerson\",\"id\":\"1\"}\n");
+        assertThrows(DataConversionException.class, () -> new WalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writesFullFile() throws Exception {
+        WalAddressBookStorage storage = new WalAddressBookStorage(filePath);
+        Path otherPath = testFolder.resolve("other.json");
+        storage.saveAddressBook(getTypicalAddressBook(), otherPath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherPath).get()));
+        assertFalse(Files.exists(filePath));
+    }
+}